@@ -0,0 +1,167 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterBenchmark {
+    private static int counterId;
+
+    @Param({ MeterFactory.SMALLRYE, MeterFactory.UPSTREAM })
+    String sdk;
+
+    @Param({ "0", "1", "100", "10000" })
+    int cardinality;
+
+    LongCounter longCounter;
+    DoubleCounter doubleCounter;
+    LongUpDownCounter longUpDownCounter;
+    LongCounter disabledLongCounter;
+    Labels[] labels;
+    LongCounter.BoundLongCounter[] boundLongCounters;
+    DoubleCounter.BoundDoubleCounter[] boundDoubleCounters;
+    LongUpDownCounter.BoundLongUpDownCounter[] boundLongUpDownCounters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Meter meter = MeterFactory.create(sdk);
+        String name = "benchmark.counter." + nextCounterId();
+        longCounter = meter.longCounterBuilder(name + ".long").setDescription("Long counter").build();
+        doubleCounter = meter.doubleCounterBuilder(name + ".double").setDescription("Double counter").build();
+        longUpDownCounter = meter.longUpDownCounterBuilder(name + ".updown").setDescription("Up down counter").build();
+        disabledLongCounter = meter.longCounterBuilder(MeterFactory.DISABLED_PREFIX + name).build();
+
+        labels = LabelSets.create(cardinality);
+        boundLongCounters = new LongCounter.BoundLongCounter[labels.length];
+        boundDoubleCounters = new DoubleCounter.BoundDoubleCounter[labels.length];
+        boundLongUpDownCounters = new LongUpDownCounter.BoundLongUpDownCounter[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            boundLongCounters[i] = longCounter.bind(labels[i]);
+            boundDoubleCounters[i] = doubleCounter.bind(labels[i]);
+            boundLongUpDownCounters[i] = longUpDownCounter.bind(labels[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < labels.length; i++) {
+            boundLongCounters[i].unbind();
+            boundDoubleCounters[i].unbind();
+            boundLongUpDownCounters[i].unbind();
+        }
+    }
+
+    private static synchronized int nextCounterId() {
+        return counterId++;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index;
+
+        int next(int length) {
+            int current = index;
+            index = current + 1 == length ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    /**
+     * Makes a sampled span current on the benchmark thread, so that measurements are offered as exemplars.
+     */
+    @State(Scope.Thread)
+    public static class SampledSpan {
+        io.opentelemetry.context.Scope scope;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SpanContext spanContext = SpanContext.create("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7",
+                    TraceFlags.getSampled(), TraceState.getDefault());
+            scope = Context.root().with(Span.wrap(spanContext)).makeCurrent();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            scope.close();
+        }
+    }
+
+    @Benchmark
+    public void longCounterAdd(ThreadState state) {
+        longCounter.add(1, labels[state.next(labels.length)]);
+    }
+
+    @Benchmark
+    public void doubleCounterAdd(ThreadState state) {
+        doubleCounter.add(1.5, labels[state.next(labels.length)]);
+    }
+
+    @Benchmark
+    public void boundLongCounterAdd(ThreadState state) {
+        boundLongCounters[state.next(boundLongCounters.length)].add(1);
+    }
+
+    @Benchmark
+    public void boundDoubleCounterAdd(ThreadState state) {
+        boundDoubleCounters[state.next(boundDoubleCounters.length)].add(1.5);
+    }
+
+    @Benchmark
+    public void boundLongCounterAddInSampledSpan(ThreadState state, SampledSpan span) {
+        boundLongCounters[state.next(boundLongCounters.length)].add(1);
+    }
+
+    /**
+     * Adds to a counter denied by a meter filter, which the SmallRye SDK builds as a no-op counter.
+     */
+    @Benchmark
+    public void disabledLongCounterAdd(ThreadState state) {
+        disabledLongCounter.add(1, labels[state.next(labels.length)]);
+    }
+
+    @Benchmark
+    public void longUpDownCounterAdd(ThreadState state) {
+        longUpDownCounter.add(-1, labels[state.next(labels.length)]);
+    }
+
+    @Benchmark
+    public void boundLongUpDownCounterAdd(ThreadState state) {
+        boundLongUpDownCounters[state.next(boundLongUpDownCounters.length)].add(-1);
+    }
+
+    @Benchmark
+    public LongCounter.BoundLongCounter bindUnbind(ThreadState state) {
+        LongCounter.BoundLongCounter bound = longCounter.bind(labels[state.next(labels.length)]);
+        bound.unbind();
+        return bound;
+    }
+}
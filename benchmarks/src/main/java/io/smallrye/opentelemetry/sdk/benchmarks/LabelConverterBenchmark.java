@@ -0,0 +1,61 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.Tags;
+import io.opentelemetry.api.common.Labels;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelConverterBenchmark {
+    @Param({ "0", "1", "100", "10000" })
+    int cardinality;
+
+    Labels[] labels;
+    Tags instrumentTags;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        labels = LabelSets.create(cardinality);
+        instrumentTags = Tags.of("library", "io.smallrye.opentelemetry.benchmarks");
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index;
+
+        Labels next(Labels[] labels) {
+            int current = index;
+            index = current + 1 == labels.length ? 0 : current + 1;
+            return labels[current];
+        }
+    }
+
+    @Benchmark
+    public Tags toTags(ThreadState state) {
+        return LabelConverter.toTags(state.next(labels));
+    }
+
+    @Benchmark
+    public Tags toTagsWithInstrumentTags(ThreadState state) {
+        return LabelConverter.toTags(state.next(labels), instrumentTags);
+    }
+}
@@ -0,0 +1,25 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import io.opentelemetry.api.common.Labels;
+
+final class LabelSets {
+    private LabelSets() {
+        // Prevent direct instantiation
+    }
+
+    /**
+     * Returns {@code cardinality} distinct label sets of two labels each, or only {@link Labels#empty()} when the
+     * cardinality is zero.
+     */
+    static Labels[] create(int cardinality) {
+        if (cardinality == 0) {
+            return new Labels[] { Labels.empty() };
+        }
+
+        Labels[] labels = new Labels[cardinality];
+        for (int i = 0; i < cardinality; i++) {
+            labels[i] = Labels.of("route", "/route/" + i, "method", i % 2 == 0 ? "GET" : "POST");
+        }
+        return labels;
+    }
+}
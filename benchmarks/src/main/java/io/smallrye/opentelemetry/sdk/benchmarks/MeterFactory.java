@@ -0,0 +1,45 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.MeterSdkProvider;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Creates the {@link Meter} of the SDK under test. Meters are created directly rather than through
+ * {@code OpenTelemetry.getGlobalMeter()}, as both SDKs register a {@code MeterProviderFactory}.
+ */
+final class MeterFactory {
+    static final String SMALLRYE = "smallrye";
+    static final String UPSTREAM = "upstream";
+
+    /**
+     * Prefix of the instruments denied by a meter filter of the SmallRye registry. The upstream SDK has no equivalent,
+     * so it records them as any other instrument.
+     */
+    static final String DISABLED_PREFIX = "benchmark.disabled.";
+
+    private static SimpleMeterRegistry collector;
+
+    private MeterFactory() {
+        // Prevent direct instantiation
+    }
+
+    static synchronized Meter create(String sdk) {
+        switch (sdk) {
+            case SMALLRYE:
+                if (collector == null) {
+                    collector = new SimpleMeterRegistry();
+                    OpenTelemetryMeterRegistry.INSTANCE.add(collector);
+                    OpenTelemetryMeterRegistry.INSTANCE.config()
+                            .meterFilter(MeterFilter.denyNameStartsWith(DISABLED_PREFIX));
+                }
+                return OpenTelemetryMeterRegistry.INSTANCE;
+            case UPSTREAM:
+                return MeterSdkProvider.builder().build().get("io.smallrye.opentelemetry.benchmarks");
+            default:
+                throw new IllegalArgumentException("Unknown SDK: " + sdk);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentelemetry.api.common.Labels;
+import io.smallrye.opentelemetry.sdk.exporter.otlp.MetricsRequestEncoder;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+/**
+ * Measures the cost of encoding an export cycle to OTLP protobuf. Run with the GC profiler to see the allocation per
+ * cycle, which should not depend on the number of series.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtlpEncoderBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    int cardinality;
+
+    List<MetricData> metrics;
+    MetricsRequestEncoder encoder;
+    MetricsRequestEncoder.Cursor cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Labels[] labels = LabelSets.create(cardinality);
+        MetricData.Builder sums = MetricData.builder("benchmark.counter", "Counter", "1",
+                MetricData.Type.MONOTONIC_SUM);
+        MetricData.Builder histograms = MetricData.builder("benchmark.recorder", "Value recorder", "ms",
+                MetricData.Type.HISTOGRAM);
+        for (int i = 0; i < labels.length; i++) {
+            sums.addPoint(labels[i], 1L, i);
+            Histogram histogram = new Histogram();
+            for (int value = 1; value < 100; value *= 3) {
+                histogram.record(value + i % 7);
+            }
+            histograms.addPoint(labels[i], 1L, histogram.snapshot());
+        }
+
+        metrics = new ArrayList<>();
+        metrics.add(sums.build(MetricData.AggregationTemporality.CUMULATIVE, 2L));
+        metrics.add(histograms.build(MetricData.AggregationTemporality.CUMULATIVE, 2L));
+        encoder = new MetricsRequestEncoder(Labels.of("service.name", "benchmark"));
+        cursor = new MetricsRequestEncoder.Cursor();
+    }
+
+    @Benchmark
+    public int encode() {
+        int bytes = 0;
+        cursor.reset();
+        while (encoder.encode(metrics, cursor, 1000)) {
+            bytes += encoder.size();
+        }
+        return bytes;
+    }
+}
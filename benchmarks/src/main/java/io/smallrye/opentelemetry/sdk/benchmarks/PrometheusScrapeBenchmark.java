@@ -0,0 +1,91 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.exporter.prometheus.PrometheusWriter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Compares scraping with {@link PrometheusWriter} against {@link PrometheusMeterRegistry#scrape()}. Run with the GC
+ * profiler to compare the allocation per scrape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrometheusScrapeBenchmark {
+
+    @Param({ "100", "10000" })
+    int cardinality;
+
+    @Param({ "false", "true" })
+    boolean compressed;
+
+    PrometheusMeterRegistry prometheusRegistry;
+    PrometheusWriter writer;
+    CountingOutputStream out;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        OpenTelemetryMeterRegistry.INSTANCE.add(prometheusRegistry);
+        LongCounter counter = OpenTelemetryMeterRegistry.INSTANCE.longCounterBuilder("benchmark.scrape")
+                .setDescription("Counter")
+                .build();
+        Labels[] labels = LabelSets.create(cardinality);
+        for (int i = 0; i < labels.length; i++) {
+            counter.add(i, labels[i]);
+        }
+
+        writer = new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE);
+        out = new CountingOutputStream();
+    }
+
+    @Benchmark
+    public long writer() throws IOException {
+        out.count = 0;
+        writer.write(out, compressed);
+        return out.count;
+    }
+
+    @Benchmark
+    public int micrometer() {
+        // Micrometer leaves compression to the HTTP server, the string is built either way
+        return prometheusRegistry.scrape().length();
+    }
+
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.smallrye.opentelemetry.sdk.propagation.CompositePropagator;
+
+/**
+ * Measures extracting the W3C {@code traceparent}, {@code tracestate} and {@code baggage} headers of an incoming
+ * request, and injecting the extracted context into an outgoing one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropagatorBenchmark {
+    private static final TextMapPropagator.Getter<Map<String, String>> GETTER = new TextMapPropagator.Getter<Map<String, String>>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, String> carrier, String key) {
+            return carrier.get(key);
+        }
+    };
+
+    @Param({ MeterFactory.SMALLRYE, MeterFactory.UPSTREAM })
+    String sdk;
+
+    TextMapPropagator propagator;
+    Map<String, String> incoming;
+    Context extracted;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (sdk) {
+            case MeterFactory.SMALLRYE:
+                propagator = CompositePropagator.w3c();
+                break;
+            case MeterFactory.UPSTREAM:
+                propagator = TextMapPropagator.composite(W3CTraceContextPropagator.getInstance(),
+                        W3CBaggagePropagator.getInstance());
+                break;
+            default:
+                throw new IllegalArgumentException(sdk);
+        }
+        incoming = new HashMap<>();
+        incoming.put("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        incoming.put("tracestate", "congo=t61rcWkgMzE,rojo=00f067aa0ba902b7");
+        incoming.put("baggage", "user=alice,region=eu-west-1;ttl=30");
+        extracted = propagator.extract(Context.root(), incoming, GETTER);
+    }
+
+    @Benchmark
+    public Context extract() {
+        return propagator.extract(Context.root(), incoming, GETTER);
+    }
+
+    @Benchmark
+    public void inject(Blackhole blackhole) {
+        propagator.inject(extracted, blackhole, (carrier, key, value) -> carrier.consume(value));
+    }
+}
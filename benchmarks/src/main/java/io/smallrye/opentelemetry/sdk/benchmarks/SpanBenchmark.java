@@ -0,0 +1,150 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.TracerSdkManagement;
+import io.opentelemetry.sdk.trace.TracerSdkProvider;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+
+/**
+ * Measures the cost of recording a span, from its start to the hand-off of its data at the end. Providers are created
+ * directly, as both SDKs register a {@code TracerProviderFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpanBenchmark {
+    private static final AttributeKey<String> METHOD = AttributeKey.stringKey("http.method");
+    private static final AttributeKey<String> URL = AttributeKey.stringKey("http.url");
+    private static final AttributeKey<Long> STATUS = AttributeKey.longKey("http.status_code");
+
+    @Param({ MeterFactory.SMALLRYE, MeterFactory.UPSTREAM })
+    String sdk;
+
+    TracerSdkManagement management;
+    Tracer tracer;
+    Span parent;
+    Context parentContext;
+    Context unsampledContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (sdk) {
+            case MeterFactory.SMALLRYE:
+                OpenTelemetryTracerProvider smallrye = new OpenTelemetryTracerProvider();
+                management = smallrye;
+                tracer = smallrye.get("io.smallrye.opentelemetry.benchmarks");
+                break;
+            case MeterFactory.UPSTREAM:
+                TracerSdkProvider upstream = TracerSdkProvider.builder().build();
+                management = upstream;
+                tracer = upstream.get("io.smallrye.opentelemetry.benchmarks");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown SDK: " + sdk);
+        }
+        management.addSpanProcessor(new SnapshotProcessor());
+        parent = tracer.spanBuilder("parent").startSpan();
+        parentContext = Context.root().with(parent);
+        unsampledContext = Context.root().with(Span.wrap(SpanContext.createFromRemoteParent(
+                IdGenerator.random().generateTraceId(), IdGenerator.random().generateSpanId(), TraceFlags.getDefault(),
+                TraceState.getDefault())));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parent.end();
+        management.shutdown();
+    }
+
+    @Benchmark
+    public Span startEnd() {
+        Span span = tracer.spanBuilder("operation").setNoParent().startSpan();
+        span.end();
+        return span;
+    }
+
+    @Benchmark
+    public Span startRecordEnd() {
+        Span span = tracer.spanBuilder("GET /orders")
+                .setParent(parentContext)
+                .setSpanKind(Span.Kind.SERVER)
+                .setAttribute(METHOD, "GET")
+                .startSpan();
+        span.setAttribute(URL, "http://localhost:8080/orders");
+        span.addEvent("request.received");
+        span.setAttribute(STATUS, 200L);
+        span.end();
+        return span;
+    }
+
+    /**
+     * Starts a span under a parent propagated as unsampled, which the default parent-based sampler drops.
+     */
+    @Benchmark
+    public Span startEndUnsampled() {
+        Span span = tracer.spanBuilder("GET /orders")
+                .setParent(unsampledContext)
+                .setSpanKind(Span.Kind.SERVER)
+                .startSpan();
+        if (span.isRecording()) {
+            span.setAttribute(URL, "http://localhost:8080/orders");
+        }
+        span.end();
+        return span;
+    }
+
+    /**
+     * Takes a snapshot of each ended span, as an exporting processor does.
+     */
+    static final class SnapshotProcessor implements SpanProcessor {
+        volatile Object last;
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            last = span.toSpanData();
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
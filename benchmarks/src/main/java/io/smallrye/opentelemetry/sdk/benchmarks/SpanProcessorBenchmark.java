@@ -0,0 +1,93 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+import io.smallrye.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+
+/**
+ * Measures the hand-off of ended spans to a batch span processor, from many threads at once. The exporter discards the
+ * spans, so the measure is the cost for the threads ending spans, including the spans dropped when the queue is full.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class SpanProcessorBenchmark {
+
+    @Param({ MeterFactory.SMALLRYE, MeterFactory.UPSTREAM })
+    String sdk;
+
+    SpanProcessor processor;
+    ReadableSpan span;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (sdk) {
+            case MeterFactory.SMALLRYE:
+                processor = BatchSpanProcessor.builder(new DiscardingExporter()).build();
+                break;
+            case MeterFactory.UPSTREAM:
+                processor = io.opentelemetry.sdk.trace.export.BatchSpanProcessor.builder(new DiscardingExporter())
+                        .build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown SDK: " + sdk);
+        }
+        OpenTelemetryTracerProvider provider = new OpenTelemetryTracerProvider();
+        span = (ReadableSpan) provider.get("io.smallrye.opentelemetry.benchmarks").spanBuilder("ended").startSpan();
+        ((Span) span).end();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processor.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void onEnd() {
+        processor.onEnd(span);
+    }
+
+    static final class DiscardingExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.smallrye.opentelemetry.sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.Meter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueRecorderBenchmark {
+    private static int recorderId;
+
+    @Param({ MeterFactory.SMALLRYE, MeterFactory.UPSTREAM })
+    String sdk;
+
+    @Param({ "0", "1", "100", "10000" })
+    int cardinality;
+
+    DoubleValueRecorder recorder;
+    Labels[] labels;
+    DoubleValueRecorder.BoundDoubleValueRecorder[] boundRecorders;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Meter meter = MeterFactory.create(sdk);
+        recorder = meter.doubleValueRecorderBuilder("benchmark.recorder." + nextRecorderId())
+                .setDescription("Value recorder")
+                .setUnit("ms")
+                .build();
+
+        labels = LabelSets.create(cardinality);
+        boundRecorders = new DoubleValueRecorder.BoundDoubleValueRecorder[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            boundRecorders[i] = recorder.bind(labels[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (DoubleValueRecorder.BoundDoubleValueRecorder boundRecorder : boundRecorders) {
+            boundRecorder.unbind();
+        }
+    }
+
+    private static synchronized int nextRecorderId() {
+        return recorderId++;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index;
+        double value = 1;
+
+        int next(int length) {
+            int current = index;
+            index = current + 1 == length ? 0 : current + 1;
+            return current;
+        }
+
+        double nextValue() {
+            value = value * 1.1 % 10_000;
+            return value;
+        }
+    }
+
+    @Benchmark
+    public void record(ThreadState state) {
+        recorder.record(state.nextValue(), labels[state.next(labels.length)]);
+    }
+
+    @Benchmark
+    public void boundRecord(ThreadState state) {
+        boundRecorders[state.next(boundRecorders.length)].record(state.nextValue());
+    }
+}
@@ -0,0 +1,297 @@
+package io.smallrye.opentelemetry.sdk.exporter.otlp;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.Exemplar;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.HistogramSnapshot;
+
+/**
+ * Encodes {@link MetricData} to an OTLP {@code ExportMetricsServiceRequest} protobuf message, as defined by version
+ * 0.7 of the OpenTelemetry protocol.
+ * <p>
+ * Points are written straight from the columns of {@link MetricData} into a buffer that is reused by every request,
+ * so encoding does not allocate per point. Consecutive metrics of the same instrumentation library are written to
+ * one {@code InstrumentationLibraryMetrics} message. An encoder is not thread safe.
+ */
+public final class MetricsRequestEncoder {
+    // ExportMetricsServiceRequest
+    private static final int REQUEST_RESOURCE_METRICS = 1;
+    // ResourceMetrics
+    private static final int RESOURCE_METRICS_RESOURCE = 1;
+    private static final int RESOURCE_METRICS_INSTRUMENTATION_LIBRARY_METRICS = 2;
+    // Resource
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    // KeyValue and AnyValue
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    private static final int ANY_VALUE_STRING_VALUE = 1;
+    // InstrumentationLibraryMetrics
+    private static final int INSTRUMENTATION_LIBRARY_METRICS_LIBRARY = 1;
+    private static final int INSTRUMENTATION_LIBRARY_METRICS_METRICS = 2;
+    // InstrumentationLibrary
+    private static final int INSTRUMENTATION_LIBRARY_NAME = 1;
+    private static final int INSTRUMENTATION_LIBRARY_VERSION = 2;
+    // Metric
+    private static final int METRIC_NAME = 1;
+    private static final int METRIC_DESCRIPTION = 2;
+    private static final int METRIC_UNIT = 3;
+    private static final int METRIC_DOUBLE_GAUGE = 5;
+    private static final int METRIC_DOUBLE_SUM = 7;
+    private static final int METRIC_DOUBLE_HISTOGRAM = 9;
+    // DoubleGauge, DoubleSum and DoubleHistogram
+    private static final int DATA_POINTS = 1;
+    private static final int AGGREGATION_TEMPORALITY = 2;
+    private static final int SUM_IS_MONOTONIC = 3;
+    // DoubleDataPoint and DoubleHistogramDataPoint
+    private static final int POINT_LABELS = 1;
+    private static final int POINT_START_TIME_UNIX_NANO = 2;
+    private static final int POINT_TIME_UNIX_NANO = 3;
+    private static final int POINT_VALUE = 4;
+    private static final int POINT_EXEMPLARS = 5;
+    private static final int HISTOGRAM_POINT_COUNT = 4;
+    private static final int HISTOGRAM_POINT_SUM = 5;
+    private static final int HISTOGRAM_POINT_BUCKET_COUNTS = 6;
+    private static final int HISTOGRAM_POINT_EXPLICIT_BOUNDS = 7;
+    private static final int HISTOGRAM_POINT_EXEMPLARS = 8;
+    // DoubleExemplar
+    private static final int EXEMPLAR_TIME_UNIX_NANO = 2;
+    private static final int EXEMPLAR_VALUE = 3;
+    private static final int EXEMPLAR_SPAN_ID = 4;
+    private static final int EXEMPLAR_TRACE_ID = 5;
+    // StringKeyValue
+    private static final int STRING_KEY_VALUE_KEY = 1;
+    private static final int STRING_KEY_VALUE_VALUE = 2;
+
+    private static final int AGGREGATION_TEMPORALITY_DELTA = 1;
+    private static final int AGGREGATION_TEMPORALITY_CUMULATIVE = 2;
+
+    private final ProtoWriter writer;
+    private final Labels resourceAttributes;
+    private final BiConsumer<String, String> attributeWriter = this::writeAttribute;
+    private final BiConsumer<String, String> labelWriter = this::writeLabel;
+
+    public MetricsRequestEncoder(Labels resourceAttributes) {
+        this(resourceAttributes, 64 * 1024);
+    }
+
+    public MetricsRequestEncoder(Labels resourceAttributes, int initialCapacity) {
+        this.resourceAttributes = resourceAttributes;
+        this.writer = new ProtoWriter(initialCapacity);
+    }
+
+    /**
+     * Encodes a request holding at most {@code maxPoints} points, starting at the position of the cursor and
+     * advancing it past the encoded points. A metric with more points than the remaining room is split across
+     * requests.
+     *
+     * @return {@code false} if there was nothing left to encode
+     */
+    public boolean encode(List<MetricData> metrics, Cursor cursor, int maxPoints) {
+        writer.reset();
+        if (cursor.metric >= metrics.size()) {
+            return false;
+        }
+
+        writer.startMessage(REQUEST_RESOURCE_METRICS);
+        writer.startMessage(RESOURCE_METRICS_RESOURCE);
+        resourceAttributes.forEach(attributeWriter);
+        writer.endMessage();
+
+        InstrumentationLibraryInfo library = null;
+        int remaining = maxPoints;
+        while (remaining > 0 && cursor.metric < metrics.size()) {
+            MetricData metric = metrics.get(cursor.metric);
+            int end = Math.min(metric.getPointCount(), cursor.point + remaining);
+            if (cursor.point < end) {
+                if (!metric.getInstrumentationLibraryInfo().equals(library)) {
+                    if (library != null) {
+                        writer.endMessage();
+                    }
+                    library = metric.getInstrumentationLibraryInfo();
+                    startLibrary(library);
+                }
+                writeMetric(metric, cursor.point, end);
+            }
+            remaining -= end - cursor.point;
+            if (end == metric.getPointCount()) {
+                cursor.metric++;
+                cursor.point = 0;
+            } else {
+                cursor.point = end;
+            }
+        }
+        if (library != null) {
+            writer.endMessage();
+        }
+        writer.endMessage();
+        return true;
+    }
+
+    /**
+     * Returns the array holding the last encoded request, which is valid up to {@link #size()} bytes and is
+     * overwritten by the next call to {@code encode}.
+     */
+    public byte[] buffer() {
+        return writer.buffer();
+    }
+
+    public int size() {
+        return writer.size();
+    }
+
+    private void startLibrary(InstrumentationLibraryInfo library) {
+        writer.startMessage(RESOURCE_METRICS_INSTRUMENTATION_LIBRARY_METRICS);
+        if (!library.getName().isEmpty()) {
+            writer.startMessage(INSTRUMENTATION_LIBRARY_METRICS_LIBRARY);
+            writer.writeString(INSTRUMENTATION_LIBRARY_NAME, library.getName());
+            writer.writeString(INSTRUMENTATION_LIBRARY_VERSION, library.getVersion());
+            writer.endMessage();
+        }
+    }
+
+    private void writeMetric(MetricData metric, int from, int to) {
+        writer.startMessage(INSTRUMENTATION_LIBRARY_METRICS_METRICS);
+        writer.writeString(METRIC_NAME, metric.getName());
+        writer.writeString(METRIC_DESCRIPTION, metric.getDescription());
+        writer.writeString(METRIC_UNIT, metric.getUnit());
+
+        switch (metric.getType()) {
+            case MONOTONIC_SUM:
+            case NON_MONOTONIC_SUM:
+                writer.startMessage(METRIC_DOUBLE_SUM);
+                writePoints(metric, from, to);
+                writer.writeEnum(AGGREGATION_TEMPORALITY, temporality(metric));
+                writer.writeBool(SUM_IS_MONOTONIC, metric.getType() == MetricData.Type.MONOTONIC_SUM);
+                writer.endMessage();
+                break;
+            case GAUGE:
+                writer.startMessage(METRIC_DOUBLE_GAUGE);
+                writePoints(metric, from, to);
+                writer.endMessage();
+                break;
+            case HISTOGRAM:
+                writer.startMessage(METRIC_DOUBLE_HISTOGRAM);
+                writeHistogramPoints(metric, from, to);
+                writer.writeEnum(AGGREGATION_TEMPORALITY, temporality(metric));
+                writer.endMessage();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported metric type: " + metric.getType());
+        }
+        writer.endMessage();
+    }
+
+    private void writePoints(MetricData metric, int from, int to) {
+        for (int i = from; i < to; i++) {
+            writer.startMessage(DATA_POINTS);
+            metric.getLabels(i).forEach(labelWriter);
+            writer.writeFixed64(POINT_START_TIME_UNIX_NANO, metric.getStartEpochNanos(i));
+            writer.writeFixed64(POINT_TIME_UNIX_NANO, metric.getEpochNanos());
+            writer.writeDouble(POINT_VALUE, metric.getValue(i));
+            writeExemplars(POINT_EXEMPLARS, metric.getExemplars(i));
+            writer.endMessage();
+        }
+    }
+
+    /**
+     * Writes histogram points with explicit bounds covering the populated range of the log-linear buckets. Values
+     * that are zero or negative are counted in the first bucket.
+     */
+    private void writeHistogramPoints(MetricData metric, int from, int to) {
+        for (int i = from; i < to; i++) {
+            HistogramSnapshot histogram = metric.getHistogram(i);
+            writer.startMessage(DATA_POINTS);
+            metric.getLabels(i).forEach(labelWriter);
+            writer.writeFixed64(POINT_START_TIME_UNIX_NANO, metric.getStartEpochNanos(i));
+            writer.writeFixed64(POINT_TIME_UNIX_NANO, metric.getEpochNanos());
+            writer.writeFixed64(HISTOGRAM_POINT_COUNT, histogram.getCount());
+            writer.writeDouble(HISTOGRAM_POINT_SUM, histogram.getSum());
+
+            int low = -1;
+            int high = -1;
+            long belowRange = histogram.getZeroCount();
+            for (int bucket = 0; bucket < Histogram.BUCKET_COUNT; bucket++) {
+                belowRange += histogram.getNegativeCount(bucket);
+                if (histogram.getPositiveCount(bucket) != 0) {
+                    if (low < 0) {
+                        low = bucket;
+                    }
+                    high = bucket;
+                }
+            }
+
+            if (low < 0) {
+                writer.startPackedFixed64(HISTOGRAM_POINT_BUCKET_COUNTS, 1);
+                writer.writeRawFixed64(belowRange);
+            } else {
+                int bounds = high - low + 1;
+                writer.startPackedFixed64(HISTOGRAM_POINT_BUCKET_COUNTS, bounds + 1);
+                writer.writeRawFixed64(belowRange);
+                for (int bucket = low; bucket <= high; bucket++) {
+                    writer.writeRawFixed64(histogram.getPositiveCount(bucket));
+                }
+                writer.startPackedFixed64(HISTOGRAM_POINT_EXPLICIT_BOUNDS, bounds);
+                for (int bucket = low; bucket <= high; bucket++) {
+                    writer.writeRawFixed64(Double.doubleToRawLongBits(Histogram.lowerBound(bucket)));
+                }
+            }
+            writeExemplars(HISTOGRAM_POINT_EXEMPLARS, metric.getExemplars(i));
+            writer.endMessage();
+        }
+    }
+
+    private void writeExemplars(int field, List<Exemplar> exemplars) {
+        for (int i = 0; i < exemplars.size(); i++) {
+            Exemplar exemplar = exemplars.get(i);
+            writer.startMessage(field);
+            writer.writeFixed64(EXEMPLAR_TIME_UNIX_NANO, exemplar.getEpochNanos());
+            writer.writeDouble(EXEMPLAR_VALUE, exemplar.getValue());
+            writer.writeHexBytes(EXEMPLAR_SPAN_ID, exemplar.getSpanId());
+            writer.writeHexBytes(EXEMPLAR_TRACE_ID, exemplar.getTraceId());
+            writer.endMessage();
+        }
+    }
+
+    private static int temporality(MetricData metric) {
+        return metric.getTemporality() == MetricData.AggregationTemporality.DELTA ? AGGREGATION_TEMPORALITY_DELTA
+                : AGGREGATION_TEMPORALITY_CUMULATIVE;
+    }
+
+    private void writeAttribute(String key, String value) {
+        writer.startMessage(RESOURCE_ATTRIBUTES);
+        writer.writeString(KEY_VALUE_KEY, key);
+        writer.startMessage(KEY_VALUE_VALUE);
+        writer.writeString(ANY_VALUE_STRING_VALUE, value);
+        writer.endMessage();
+        writer.endMessage();
+    }
+
+    private void writeLabel(String key, String value) {
+        writer.startMessage(POINT_LABELS);
+        writer.writeString(STRING_KEY_VALUE_KEY, key);
+        writer.writeString(STRING_KEY_VALUE_VALUE, value);
+        writer.endMessage();
+    }
+
+    /**
+     * The position of the next point to encode in a list of metrics.
+     */
+    public static final class Cursor {
+        int metric;
+        int point;
+
+        public void reset() {
+            metric = 0;
+            point = 0;
+        }
+
+        public boolean isDone(List<MetricData> metrics) {
+            return metric >= metrics.size();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package io.smallrye.opentelemetry.sdk.exporter.otlp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.common.LabelsBuilder;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricExporter;
+
+/**
+ * Exports metrics to an OpenTelemetry collector with the OTLP protobuf encoding, over HTTP. The request body is the
+ * same {@code ExportMetricsServiceRequest} message the OTLP gRPC service receives.
+ * <p>
+ * Metrics are split into requests of at most {@link Builder#setMaxPointsPerRequest(int) maxPointsPerRequest} points,
+ * and encoded into a buffer reused by every export. Compressed requests are written with a deflater also reused by
+ * every export. Exports are serialized, as they share the buffer and the deflater.
+ */
+public final class OtlpHttpMetricExporter implements MetricExporter {
+    private static final Logger LOGGER = Logger.getLogger(OtlpHttpMetricExporter.class.getName());
+
+    public static final String DEFAULT_ENDPOINT = "http://localhost:55681/v1/metrics";
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] GZIP_HEADER = { (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0,
+            0, 0, 0, 0 };
+
+    private final URL endpoint;
+    private final Map<String, String> headers;
+    private final int timeoutMillis;
+    private final boolean compressed;
+    private final int maxPointsPerRequest;
+    private final MetricsRequestEncoder encoder;
+    private final MetricsRequestEncoder.Cursor cursor = new MetricsRequestEncoder.Cursor();
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] deflated = new byte[8192];
+    private volatile boolean shutdown;
+
+    private OtlpHttpMetricExporter(Builder builder) {
+        this.endpoint = builder.endpoint;
+        this.headers = new LinkedHashMap<>(builder.headers);
+        this.timeoutMillis = (int) builder.timeout.toMillis();
+        this.compressed = builder.compressed;
+        this.maxPointsPerRequest = builder.maxPointsPerRequest;
+        this.encoder = new MetricsRequestEncoder(builder.resourceAttributes.build());
+        this.deflater = compressed ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : null;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<MetricData> metrics) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+
+        List<MetricData> list = metrics instanceof List ? (List<MetricData>) metrics : new ArrayList<>(metrics);
+        cursor.reset();
+        try {
+            while (encoder.encode(list, cursor, maxPointsPerRequest)) {
+                send();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to export metrics to " + endpoint, e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        shutdown = true;
+        if (deflater != null) {
+            synchronized (this) {
+                deflater.end();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private void send() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) endpoint.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            connection.setRequestProperty("Content-Type", "application/x-protobuf");
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                connection.setRequestProperty(header.getKey(), header.getValue());
+            }
+
+            if (compressed) {
+                connection.setRequestProperty("Content-Encoding", "gzip");
+                connection.setChunkedStreamingMode(0);
+                try (OutputStream out = connection.getOutputStream()) {
+                    writeCompressed(out);
+                }
+            } else {
+                connection.setFixedLengthStreamingMode(encoder.size());
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(encoder.buffer(), 0, encoder.size());
+                }
+            }
+
+            int status = connection.getResponseCode();
+            drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+            if (status < 200 || status >= 300) {
+                throw new IOException("Collector responded with HTTP status " + status);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Writes the encoded request in the gzip format, with the deflater of the exporter rather than a
+     * {@code GZIPOutputStream} allocating its own for every request.
+     */
+    private void writeCompressed(OutputStream out) throws IOException {
+        byte[] buffer = encoder.buffer();
+        int size = encoder.size();
+        deflater.reset();
+        crc.reset();
+        crc.update(buffer, 0, size);
+
+        out.write(GZIP_HEADER);
+        deflater.setInput(buffer, 0, size);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(deflated, 0, deflated.length);
+            if (length > 0) {
+                out.write(deflated, 0, length);
+            }
+        }
+        byte[] trailer = new byte[8];
+        writeInt(trailer, 0, (int) crc.getValue());
+        writeInt(trailer, 4, size);
+        out.write(trailer);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >> 8);
+        bytes[offset + 2] = (byte) (value >> 16);
+        bytes[offset + 3] = (byte) (value >> 24);
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        if (in == null) {
+            return;
+        }
+        try (InputStream stream = in) {
+            byte[] discard = new byte[512];
+            while (stream.read(discard) >= 0) {
+                // Consume the response so the connection can be reused
+            }
+        }
+    }
+
+    public static final class Builder {
+        private URL endpoint;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final LabelsBuilder resourceAttributes = Labels.builder();
+        private Duration timeout = Duration.ofSeconds(10);
+        private boolean compressed;
+        private int maxPointsPerRequest = 1000;
+
+        private Builder() {
+            setEndpoint(DEFAULT_ENDPOINT);
+        }
+
+        public Builder setEndpoint(String endpoint) {
+            try {
+                this.endpoint = new URL(Objects.requireNonNull(endpoint));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid endpoint: " + endpoint, e);
+            }
+            return this;
+        }
+
+        public Builder addHeader(String name, String value) {
+            headers.put(Objects.requireNonNull(name), Objects.requireNonNull(value));
+            return this;
+        }
+
+        public Builder addResourceAttribute(String key, String value) {
+            resourceAttributes.put(Objects.requireNonNull(key), Objects.requireNonNull(value));
+            return this;
+        }
+
+        public Builder setTimeout(Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Compresses requests with gzip.
+         */
+        public Builder setCompressed(boolean compressed) {
+            this.compressed = compressed;
+            return this;
+        }
+
+        public Builder setMaxPointsPerRequest(int maxPointsPerRequest) {
+            if (maxPointsPerRequest < 1) {
+                throw new IllegalArgumentException("Maximum points per request must be positive: " + maxPointsPerRequest);
+            }
+            this.maxPointsPerRequest = maxPointsPerRequest;
+            return this;
+        }
+
+        public OtlpHttpMetricExporter build() {
+            return new OtlpHttpMetricExporter(this);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.smallrye.opentelemetry.sdk.exporter.otlp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Writes protobuf messages into a growable byte array that is reused from one message to the next.
+ * <p>
+ * Nested messages are written in place: {@link #startMessage(int)} reserves room for the largest length prefix and
+ * {@link #endMessage()} writes the actual length, moving the message body back when the prefix is shorter. This avoids
+ * computing the size of every message ahead of time, or building an object graph to do so.
+ */
+final class ProtoWriter {
+    static final int WIRE_TYPE_VARINT = 0;
+    static final int WIRE_TYPE_FIXED64 = 1;
+    static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+    private static final int MAX_LENGTH_PREFIX = 5;
+    private static final int MAX_DEPTH = 16;
+
+    private byte[] buffer;
+    private int position;
+    private final int[] starts = new int[MAX_DEPTH];
+    private final int[] reserved = new int[MAX_DEPTH];
+    private int depth;
+
+    ProtoWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    void reset() {
+        position = 0;
+        depth = 0;
+    }
+
+    int size() {
+        return position;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, position);
+    }
+
+    void startMessage(int field) {
+        writeTag(field, WIRE_TYPE_LENGTH_DELIMITED);
+        reserve(MAX_LENGTH_PREFIX);
+    }
+
+    void endMessage() {
+        depth--;
+        int start = starts[depth];
+        int bodyStart = start + reserved[depth];
+        int length = position - bodyStart;
+        int prefix = varintSize(length);
+        if (prefix < reserved[depth]) {
+            System.arraycopy(buffer, bodyStart, buffer, start + prefix, length);
+        }
+        position = start;
+        writeVarint(length);
+        position += length;
+    }
+
+    void writeString(int field, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        int length = value.length();
+        writeTag(field, WIRE_TYPE_LENGTH_DELIMITED);
+        // A char takes at most three bytes in UTF-8, surrogate pairs take four bytes for two chars
+        reserve(varintSize(length * 3));
+        ensureCapacity(length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = (byte) '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        endMessage();
+    }
+
+    void writeBytes(int field, byte[] bytes) {
+        writeTag(field, WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Writes the bytes spelled by a string of hex digits, such as a trace or span id, without decoding it to an array
+     * first.
+     */
+    void writeHexBytes(int field, String hex) {
+        int length = hex.length() / 2;
+        writeTag(field, WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(length);
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            buffer[position++] = (byte) (high << 4 | low);
+        }
+    }
+
+    void writeBool(int field, boolean value) {
+        if (value) {
+            writeTag(field, WIRE_TYPE_VARINT);
+            writeVarint(1);
+        }
+    }
+
+    void writeEnum(int field, int value) {
+        if (value != 0) {
+            writeTag(field, WIRE_TYPE_VARINT);
+            writeVarint(value);
+        }
+    }
+
+    void writeFixed64(int field, long value) {
+        writeTag(field, WIRE_TYPE_FIXED64);
+        writeRawFixed64(value);
+    }
+
+    void writeDouble(int field, double value) {
+        writeFixed64(field, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Starts a packed repeated field of {@code count} fixed 64 bits values, to be written with
+     * {@link #writeRawFixed64(long)}.
+     */
+    void startPackedFixed64(int field, int count) {
+        writeTag(field, WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(count * 8L);
+    }
+
+    void writeRawFixed64(long value) {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buffer[position++] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    void writeTag(int field, int wireType) {
+        writeVarint(((long) field << 3) | wireType);
+    }
+
+    void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    private void reserve(int prefix) {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("Messages are nested too deeply");
+        }
+        ensureCapacity(prefix);
+        starts[depth] = position;
+        reserved[depth] = prefix;
+        depth++;
+        position += prefix;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.smallrye.opentelemetry.sdk.exporter.otlp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the OTLP/HTTP receiver of a collector, recording the decoded requests.
+ */
+final class LocalCollector implements AutoCloseable {
+    final List<ProtoMessage> requests = new CopyOnWriteArrayList<>();
+    final List<String> contentEncodings = new CopyOnWriteArrayList<>();
+    private final HttpServer server;
+
+    LocalCollector() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/metrics", exchange -> {
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            contentEncodings.add(encoding == null ? "identity" : encoding);
+            InputStream body = "gzip".equals(encoding) ? new GZIPInputStream(exchange.getRequestBody())
+                    : exchange.getRequestBody();
+            requests.add(ProtoMessage.parse(readAll(body)));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    String endpoint() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1/metrics";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,211 @@
+package io.smallrye.opentelemetry.sdk.exporter.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.Exemplar;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+class OtlpHttpMetricExporterTest {
+
+    @Test
+    void testExportSum() throws Exception {
+        MetricData sum = MetricData.builder("requests", "Number of requests", "1", MetricData.Type.MONOTONIC_SUM)
+                .addPoint(Labels.of("method", "GET"), 10L, 42)
+                .addPoint(Labels.of("method", "PÖST"), 10L, 7)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 20L);
+
+        try (LocalCollector collector = new LocalCollector()) {
+            OtlpHttpMetricExporter exporter = OtlpHttpMetricExporter.builder()
+                    .setEndpoint(collector.endpoint())
+                    .addResourceAttribute("service.name", "test")
+                    .build();
+
+            assertThat(exporter.export(Collections.singletonList(sum)).isSuccess()).isTrue();
+            assertThat(collector.requests).hasSize(1);
+
+            ProtoMessage resourceMetrics = collector.requests.get(0).message(1);
+            ProtoMessage attribute = resourceMetrics.message(1).message(1);
+            assertThat(attribute.string(1)).isEqualTo("service.name");
+            assertThat(attribute.message(2).string(1)).isEqualTo("test");
+
+            List<ProtoMessage> metrics = resourceMetrics.message(2).messages(2);
+            assertThat(metrics).hasSize(1);
+            ProtoMessage metric = metrics.get(0);
+            assertThat(metric.string(1)).isEqualTo("requests");
+            assertThat(metric.string(2)).isEqualTo("Number of requests");
+            assertThat(metric.string(3)).isEqualTo("1");
+
+            ProtoMessage doubleSum = metric.message(7);
+            assertThat(doubleSum.has(3)).isTrue();
+            List<ProtoMessage> points = doubleSum.messages(1);
+            assertThat(points).hasSize(2);
+            assertThat(points.get(0).message(1).string(1)).isEqualTo("method");
+            assertThat(points.get(0).message(1).string(2)).isEqualTo("GET");
+            assertThat(points.get(1).message(1).string(2)).isEqualTo("PÖST");
+            assertThat(points.get(0).fixed64(2)).isEqualTo(10L);
+            assertThat(points.get(0).fixed64(3)).isEqualTo(20L);
+            assertThat(points.get(0).doubleValue(4)).isEqualTo(42);
+        }
+    }
+
+    @Test
+    void testExportHistogramCompressed() throws Exception {
+        Histogram histogram = new Histogram();
+        histogram.record(0);
+        histogram.record(1.5);
+        histogram.record(3);
+        MetricData data = MetricData.builder("latency", null, "ms", MetricData.Type.HISTOGRAM)
+                .addPoint(Labels.empty(), 1L, histogram.snapshot())
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 2L);
+
+        try (LocalCollector collector = new LocalCollector()) {
+            OtlpHttpMetricExporter exporter = OtlpHttpMetricExporter.builder()
+                    .setEndpoint(collector.endpoint())
+                    .setCompressed(true)
+                    .build();
+
+            assertThat(exporter.export(Collections.singletonList(data)).isSuccess()).isTrue();
+            assertThat(collector.contentEncodings).containsExactly("gzip");
+
+            ProtoMessage point = collector.requests.get(0).message(1).message(2).message(2).message(9).message(1);
+            assertThat(point.fixed64(4)).isEqualTo(3);
+            assertThat(point.doubleValue(5)).isEqualTo(4.5);
+            long[] counts = point.packedFixed64(6);
+            long[] bounds = point.packedFixed64(7);
+            assertThat(counts).hasSize(bounds.length + 1);
+            assertThat(Arrays.stream(counts).sum()).isEqualTo(3);
+            assertThat(counts[0]).isEqualTo(1);
+            assertThat(Double.longBitsToDouble(bounds[0])).isLessThanOrEqualTo(1.5);
+
+            // The deflater is reused by the next export
+            assertThat(exporter.export(Collections.singletonList(data)).isSuccess()).isTrue();
+            assertThat(collector.contentEncodings).containsExactly("gzip", "gzip");
+            assertThat(collector.requests.get(1).message(1).message(2).message(2).message(9).message(1).fixed64(4))
+                    .isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testExportExemplars() throws Exception {
+        SpanContext spanContext = SpanContext.create("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7",
+                TraceFlags.getSampled(), TraceState.getDefault());
+        Histogram histogram = new Histogram();
+        histogram.record(1.5);
+        MetricData sum = MetricData.builder("requests", null, "1", MetricData.Type.MONOTONIC_SUM)
+                .addPoint(Labels.empty(), 1L, 3, Collections.singletonList(new Exemplar(2, 5L, spanContext)))
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 10L);
+        MetricData latency = MetricData.builder("latency", null, "ms", MetricData.Type.HISTOGRAM)
+                .addPoint(Labels.empty(), 1L, histogram.snapshot(),
+                        Collections.singletonList(new Exemplar(1.5, 6L, spanContext)))
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 10L);
+
+        try (LocalCollector collector = new LocalCollector()) {
+            OtlpHttpMetricExporter exporter = OtlpHttpMetricExporter.builder()
+                    .setEndpoint(collector.endpoint())
+                    .build();
+
+            assertThat(exporter.export(Arrays.asList(sum, latency)).isSuccess()).isTrue();
+            List<ProtoMessage> metrics = collector.requests.get(0).message(1).message(2).messages(2);
+
+            ProtoMessage sumExemplar = metrics.get(0).message(7).message(1).message(5);
+            assertThat(sumExemplar.fixed64(2)).isEqualTo(5L);
+            assertThat(sumExemplar.doubleValue(3)).isEqualTo(2);
+            assertThat(sumExemplar.bytes(4)).containsExactly(0x00, 0xf0, 0x67, 0xaa, 0x0b, 0xa9, 0x02, 0xb7);
+            assertThat(sumExemplar.bytes(5)).hasSize(16).startsWith(0x4b, 0xf9, 0x2f, 0x35);
+
+            ProtoMessage histogramExemplar = metrics.get(1).message(9).message(1).message(8);
+            assertThat(histogramExemplar.fixed64(2)).isEqualTo(6L);
+            assertThat(histogramExemplar.doubleValue(3)).isEqualTo(1.5);
+            assertThat(histogramExemplar.bytes(4)).hasSize(8);
+        }
+    }
+
+    @Test
+    void testSplitIntoBatches() throws Exception {
+        MetricData first = MetricData.builder("first", null, "1", MetricData.Type.GAUGE)
+                .addPoint(Labels.of("k", "a"), 0L, 1)
+                .addPoint(Labels.of("k", "b"), 0L, 2)
+                .addPoint(Labels.of("k", "c"), 0L, 3)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 1L);
+        MetricData second = MetricData.builder("second", null, "1", MetricData.Type.GAUGE)
+                .addPoint(Labels.empty(), 0L, 4)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 1L);
+
+        try (LocalCollector collector = new LocalCollector()) {
+            OtlpHttpMetricExporter exporter = OtlpHttpMetricExporter.builder()
+                    .setEndpoint(collector.endpoint())
+                    .setMaxPointsPerRequest(2)
+                    .build();
+
+            assertThat(exporter.export(Arrays.asList(first, second)).isSuccess()).isTrue();
+            assertThat(collector.requests).hasSize(2);
+
+            List<ProtoMessage> firstRequest = collector.requests.get(0).message(1).message(2).messages(2);
+            assertThat(firstRequest).hasSize(1);
+            assertThat(firstRequest.get(0).message(5).messages(1)).hasSize(2);
+
+            List<ProtoMessage> secondRequest = collector.requests.get(1).message(1).message(2).messages(2);
+            assertThat(secondRequest).hasSize(2);
+            assertThat(secondRequest.get(0).string(1)).isEqualTo("first");
+            assertThat(secondRequest.get(0).message(5).messages(1)).hasSize(1);
+            assertThat(secondRequest.get(1).string(1)).isEqualTo("second");
+        }
+    }
+
+    @Test
+    void testGroupByInstrumentationLibrary() throws Exception {
+        InstrumentationLibraryInfo library = InstrumentationLibraryInfo.create("io.smallrye.test", "1.0");
+        MetricData first = MetricData.builder(library, "first", null, "1", MetricData.Type.GAUGE)
+                .addPoint(Labels.empty(), 0L, 1)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 1L);
+        MetricData second = MetricData.builder(library, "second", null, "1", MetricData.Type.GAUGE)
+                .addPoint(Labels.empty(), 0L, 2)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 1L);
+        MetricData unnamed = MetricData.builder("unnamed", null, "1", MetricData.Type.GAUGE)
+                .addPoint(Labels.empty(), 0L, 3)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 1L);
+
+        try (LocalCollector collector = new LocalCollector()) {
+            OtlpHttpMetricExporter exporter = OtlpHttpMetricExporter.builder()
+                    .setEndpoint(collector.endpoint())
+                    .build();
+
+            assertThat(exporter.export(Arrays.asList(first, second, unnamed)).isSuccess()).isTrue();
+
+            List<ProtoMessage> libraries = collector.requests.get(0).message(1).messages(2);
+            assertThat(libraries).hasSize(2);
+            assertThat(libraries.get(0).message(1).string(1)).isEqualTo("io.smallrye.test");
+            assertThat(libraries.get(0).message(1).string(2)).isEqualTo("1.0");
+            assertThat(libraries.get(0).messages(2)).extracting(metric -> metric.string(1))
+                    .containsExactly("first", "second");
+            assertThat(libraries.get(1).has(1)).isFalse();
+            assertThat(libraries.get(1).messages(2)).extracting(metric -> metric.string(1)).containsExactly("unnamed");
+        }
+    }
+
+    @Test
+    void testFailedExport() throws Exception {
+        String endpoint;
+        try (LocalCollector collector = new LocalCollector()) {
+            endpoint = collector.endpoint();
+        }
+        OtlpHttpMetricExporter exporter = OtlpHttpMetricExporter.builder().setEndpoint(endpoint).build();
+        MetricData data = MetricData.builder("gauge", null, "1", MetricData.Type.GAUGE)
+                .addPoint(Labels.empty(), 0L, 1)
+                .build(MetricData.AggregationTemporality.CUMULATIVE, 1L);
+
+        assertThat(exporter.export(Collections.singletonList(data)).isSuccess()).isFalse();
+    }
+}
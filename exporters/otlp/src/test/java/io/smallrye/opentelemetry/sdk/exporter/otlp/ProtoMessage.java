@@ -0,0 +1,119 @@
+package io.smallrye.opentelemetry.sdk.exporter.otlp;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal protobuf decoder to inspect the requests received by {@link LocalCollector}.
+ */
+final class ProtoMessage {
+    private final List<Field> fields = new ArrayList<>();
+
+    static ProtoMessage parse(byte[] bytes) {
+        ProtoMessage message = new ProtoMessage();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            long tag = readVarint(buffer);
+            int number = (int) (tag >>> 3);
+            int wireType = (int) (tag & 7);
+            switch (wireType) {
+                case ProtoWriter.WIRE_TYPE_VARINT:
+                    message.fields.add(new Field(number, readVarint(buffer), null));
+                    break;
+                case ProtoWriter.WIRE_TYPE_FIXED64:
+                    message.fields.add(new Field(number, buffer.getLong(), null));
+                    break;
+                case ProtoWriter.WIRE_TYPE_LENGTH_DELIMITED:
+                    byte[] value = new byte[(int) readVarint(buffer)];
+                    buffer.get(value);
+                    message.fields.add(new Field(number, 0, value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported wire type " + wireType);
+            }
+        }
+        return message;
+    }
+
+    List<ProtoMessage> messages(int number) {
+        List<ProtoMessage> messages = new ArrayList<>();
+        for (Field field : fields) {
+            if (field.number == number) {
+                messages.add(parse(field.bytes));
+            }
+        }
+        return messages;
+    }
+
+    ProtoMessage message(int number) {
+        return messages(number).get(0);
+    }
+
+    boolean has(int number) {
+        return fields.stream().anyMatch(field -> field.number == number);
+    }
+
+    String string(int number) {
+        return fields.stream()
+                .filter(field -> field.number == number)
+                .map(field -> new String(field.bytes, StandardCharsets.UTF_8))
+                .findFirst()
+                .orElse("");
+    }
+
+    byte[] bytes(int number) {
+        return fields.stream().filter(field -> field.number == number).map(field -> field.bytes).findFirst()
+                .orElse(new byte[0]);
+    }
+
+    long fixed64(int number) {
+        return fields.stream().filter(field -> field.number == number).mapToLong(field -> field.value).findFirst()
+                .orElse(0);
+    }
+
+    double doubleValue(int number) {
+        return Double.longBitsToDouble(fixed64(number));
+    }
+
+    long[] packedFixed64(int number) {
+        return fields.stream()
+                .filter(field -> field.number == number)
+                .map(field -> {
+                    ByteBuffer buffer = ByteBuffer.wrap(field.bytes).order(ByteOrder.LITTLE_ENDIAN);
+                    long[] values = new long[field.bytes.length / 8];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = buffer.getLong();
+                    }
+                    return values;
+                })
+                .findFirst()
+                .orElse(new long[0]);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static final class Field {
+        final int number;
+        final long value;
+        final byte[] bytes;
+
+        Field(int number, long value, byte[] bytes) {
+            this.number = number;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.smallrye.opentelemetry.sdk.exporter.prometheus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A fixed size byte buffer that is drained into a {@link Sink} whenever it fills up, so an exposition of any size is
+ * written with the same memory. Text is encoded to UTF-8 directly into the buffer, without intermediate strings.
+ */
+final class ExpositionBuffer {
+    private static final int MAX_CHAR_BYTES = 4;
+    private static final int MAX_NUMBER_BYTES = 32;
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] buffer;
+    private int position;
+    private Sink sink;
+
+    ExpositionBuffer(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    void open(Sink sink) {
+        this.sink = sink;
+        this.position = 0;
+    }
+
+    /**
+     * Writes out what is left in the buffer and finishes the sink.
+     */
+    void close() throws IOException {
+        drain();
+        sink.finish();
+        sink = null;
+    }
+
+    void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.length - position) {
+            drain();
+            if (length > buffer.length) {
+                sink.write(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    /**
+     * Writes a help text, escaping backslashes and line feeds.
+     */
+    void writeHelp(String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                writeByte('\\');
+                writeByte('\\');
+            } else if (c == '\n') {
+                writeByte('\\');
+                writeByte('n');
+            } else if (c < 0x80) {
+                writeByte(c);
+            } else {
+                i = writeNonAscii(value, i);
+            }
+        }
+    }
+
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensureRoom(MAX_NUMBER_BYTES);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int end = position + digits(value);
+        int index = end;
+        do {
+            buffer[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+    }
+
+    /**
+     * Writes a sample value. Integral values, which counters mostly hold, are written without going through a
+     * string; other values use the shortest decimal form of {@link Double#toString(double)}.
+     */
+    void writeDouble(double value) throws IOException {
+        if (Double.isNaN(value)) {
+            writeAscii("NaN");
+        } else if (value == Double.POSITIVE_INFINITY) {
+            writeAscii("+Inf");
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            writeAscii("-Inf");
+        } else if (value == (long) value && Math.abs(value) < 0x1p53) {
+            writeLong((long) value);
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    void writeAscii(String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            writeByte(value.charAt(i));
+        }
+    }
+
+    private int writeNonAscii(String value, int i) throws IOException {
+        ensureRoom(MAX_CHAR_BYTES);
+        char c = value.charAt(i);
+        if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(++i));
+            buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            buffer[position++] = (byte) '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return i;
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            sink.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Receives the content of the buffer each time it is drained.
+     */
+    interface Sink {
+        void write(byte[] bytes, int offset, int length) throws IOException;
+
+        void finish() throws IOException;
+    }
+}
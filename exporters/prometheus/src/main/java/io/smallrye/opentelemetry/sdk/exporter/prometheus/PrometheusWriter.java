@@ -0,0 +1,451 @@
+package io.smallrye.opentelemetry.sdk.exporter.prometheus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.SeriesEncoding;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.Exemplar;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.ExemplarReservoir;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.export.SeriesVisitor;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+/**
+ * Writes the series of an {@link OpenTelemetryMeterRegistry} in the Prometheus text exposition format, or in the
+ * OpenMetrics format.
+ * <p>
+ * Series are read from their accumulators while they are written, and the output goes through a buffer of fixed size
+ * that is reused by every scrape, optionally compressed with gzip. A scrape therefore takes the same memory whatever
+ * the number of series, unlike {@code PrometheusMeterRegistry.scrape()} which builds the whole exposition as a
+ * string. Scrapes are serialized, as they share the buffer.
+ * <p>
+ * Metric names follow the Micrometer Prometheus naming convention: the unit, when there is one, is appended to the
+ * name, followed by {@code _total} for monotonic sums. Histograms are written with one bucket per power of two of the
+ * {@link Histogram} layout, merging its finer buckets, empty or not, so that every series of a histogram has the same
+ * {@code le} labels from one scrape to the next.
+ * <p>
+ * In the OpenMetrics format, counter samples and histogram buckets are followed by the most recent exemplar of their
+ * series, when a measurement was made within a sampled span.
+ */
+public final class PrometheusWriter {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] TOTAL = bytes("_total");
+    private static final byte[] BUCKET = bytes("_bucket");
+    private static final byte[] SUM = bytes("_sum");
+    private static final byte[] COUNT = bytes("_count");
+    private static final byte[] NONE = new byte[0];
+    private static final byte[] LE = bytes("le=\"");
+    private static final byte[] INFINITY = bytes("+Inf");
+    private static final byte[] EOF = bytes("# EOF\n");
+    private static final byte[] EXEMPLAR_TRACE_ID = bytes(" # {trace_id=\"");
+    private static final byte[] EXEMPLAR_SPAN_ID = bytes("\",span_id=\"");
+    private static final SeriesEncoding<byte[]> LABELS = SeriesEncoding.of(PrometheusWriter::encodeLabels);
+    private static final int POWERS_OF_TWO = Histogram.BUCKET_COUNT >> Histogram.SUB_BUCKET_BITS;
+    private static final byte[][] BOUNDS = new byte[POWERS_OF_TWO][];
+
+    static {
+        for (int i = 0; i < POWERS_OF_TWO; i++) {
+            BOUNDS[i] = bytes(Double.toString(Histogram.upperBound(((i + 1) << Histogram.SUB_BUCKET_BITS) - 1)));
+        }
+    }
+
+    public enum Format {
+        PROMETHEUS_TEXT("text/plain; version=0.0.4; charset=utf-8"),
+        OPEN_METRICS("application/openmetrics-text; version=1.0.0; charset=utf-8");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private final OpenTelemetryMeterRegistry registry;
+    private final Format format;
+    private final ExpositionBuffer buffer = new ExpositionBuffer(BUFFER_SIZE);
+    private final Visitor visitor = new Visitor();
+    private final StreamSink streamSink = new StreamSink();
+    private final ChannelSink channelSink = new ChannelSink();
+    private final GzipSink gzipSink = new GzipSink();
+    private byte[] name = new byte[64];
+    private int nameLength;
+    private MetricData.Type type;
+
+    public PrometheusWriter(OpenTelemetryMeterRegistry registry) {
+        this(registry, Format.PROMETHEUS_TEXT);
+    }
+
+    public PrometheusWriter(OpenTelemetryMeterRegistry registry, Format format) {
+        this.registry = Objects.requireNonNull(registry);
+        this.format = Objects.requireNonNull(format);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Writes all series to a stream, which is flushed but not closed.
+     *
+     * @param compressed whether to compress the output with gzip, for clients that accept it
+     */
+    public synchronized void write(OutputStream out, boolean compressed) throws IOException {
+        streamSink.out = Objects.requireNonNull(out);
+        try {
+            write(streamSink, compressed);
+        } finally {
+            streamSink.out = null;
+        }
+    }
+
+    /**
+     * Writes all series to a channel, which is left open.
+     *
+     * @param compressed whether to compress the output with gzip, for clients that accept it
+     */
+    public synchronized void write(WritableByteChannel channel, boolean compressed) throws IOException {
+        channelSink.channel = Objects.requireNonNull(channel);
+        try {
+            write(channelSink, compressed);
+        } finally {
+            channelSink.channel = null;
+        }
+    }
+
+    private void write(ExpositionBuffer.Sink sink, boolean compressed) throws IOException {
+        if (compressed) {
+            gzipSink.open(sink);
+            sink = gzipSink;
+        }
+        buffer.open(sink);
+        try {
+            registry.visitSeries(visitor);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (format == Format.OPEN_METRICS) {
+            buffer.writeBytes(EOF);
+        }
+        buffer.close();
+    }
+
+    private void startMetric(Meter.Id id, MetricData.Type metricType) throws IOException {
+        type = metricType;
+        encodeName(id);
+
+        // OpenMetrics names counter families without the suffix of their samples
+        int familyLength = nameLength;
+        if (metricType == MetricData.Type.MONOTONIC_SUM && format == Format.PROMETHEUS_TEXT) {
+            familyLength += TOTAL.length;
+        }
+        String description = id.getDescription();
+        if (description != null && !description.isEmpty()) {
+            buffer.writeAscii("# HELP ");
+            buffer.writeBytes(name, 0, familyLength);
+            buffer.writeByte(' ');
+            buffer.writeHelp(description);
+            buffer.writeByte('\n');
+        }
+        buffer.writeAscii("# TYPE ");
+        buffer.writeBytes(name, 0, familyLength);
+        buffer.writeByte(' ');
+        buffer.writeAscii(typeName(metricType));
+        buffer.writeByte('\n');
+    }
+
+    /**
+     * Encodes the name of the current metric once, to be copied in front of each of its samples.
+     */
+    private void encodeName(Meter.Id id) {
+        nameLength = 0;
+        appendName(id.getName());
+        String unit = id.getBaseUnit();
+        if (unit != null && !unit.isEmpty()) {
+            appendName("_");
+            appendName(unit);
+        }
+        if (nameLength + TOTAL.length > name.length) {
+            name = Arrays.copyOf(name, nameLength + TOTAL.length);
+        }
+        System.arraycopy(TOTAL, 0, name, nameLength, TOTAL.length);
+    }
+
+    private void appendName(String value) {
+        int length = value.length();
+        if (nameLength + length > name.length) {
+            name = Arrays.copyOf(name, Math.max(name.length * 2, nameLength + length));
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+                    || (c >= '0' && c <= '9' && nameLength > 0);
+            name[nameLength++] = (byte) (valid ? c : '_');
+        }
+    }
+
+    private void writeValue(Series<?> series, double value) throws IOException {
+        writeSample(type == MetricData.Type.MONOTONIC_SUM ? TOTAL : NONE, series, null);
+        buffer.writeDouble(value);
+        ExemplarReservoir exemplars = series.getExemplars();
+        if (exemplars != null && type == MetricData.Type.MONOTONIC_SUM && format == Format.OPEN_METRICS) {
+            writeExemplar(exemplars.latest());
+        }
+        buffer.writeByte('\n');
+    }
+
+    private void writeHistogram(Series<?> series, Histogram histogram) throws IOException {
+        // Zero and negative values fall below the lowest positive bucket
+        long cumulative = histogram.zeroCount() + histogram.negativeCount();
+        ExemplarReservoir exemplars = format == Format.OPEN_METRICS ? series.getExemplars() : null;
+        for (int i = 0; i < POWERS_OF_TWO; i++) {
+            int from = i << Histogram.SUB_BUCKET_BITS;
+            int to = from + (1 << Histogram.SUB_BUCKET_BITS);
+            for (int bucket = from; bucket < to; bucket++) {
+                cumulative += histogram.positiveCount(bucket);
+            }
+            writeSample(BUCKET, series, BOUNDS[i]);
+            buffer.writeLong(cumulative);
+            if (exemplars != null) {
+                writeExemplar(exemplars.latestInBuckets(from, to));
+            }
+            buffer.writeByte('\n');
+        }
+        writeSample(BUCKET, series, INFINITY);
+        buffer.writeLong(cumulative);
+        buffer.writeByte('\n');
+        writeSample(COUNT, series, null);
+        buffer.writeLong(cumulative);
+        buffer.writeByte('\n');
+        writeSample(SUM, series, null);
+        buffer.writeDouble(histogram.sum());
+        buffer.writeByte('\n');
+    }
+
+    /**
+     * Writes the name and labels of a sample, up to the space before its value.
+     */
+    private void writeSample(byte[] suffix, Series<?> series, byte[] bound) throws IOException {
+        buffer.writeBytes(name, 0, nameLength);
+        buffer.writeBytes(suffix);
+        byte[] labels = series.getEncoded(LABELS);
+        if (labels.length > 0 || bound != null) {
+            buffer.writeByte('{');
+            buffer.writeBytes(labels);
+            if (bound != null) {
+                if (labels.length > 0) {
+                    buffer.writeByte(',');
+                }
+                buffer.writeBytes(LE);
+                buffer.writeBytes(bound);
+                buffer.writeByte('"');
+            }
+            buffer.writeByte('}');
+        }
+        buffer.writeByte(' ');
+    }
+
+    /**
+     * Writes an exemplar after the value of a sample, with its timestamp in seconds to the millisecond.
+     */
+    private void writeExemplar(Exemplar exemplar) throws IOException {
+        if (exemplar == null) {
+            return;
+        }
+        buffer.writeBytes(EXEMPLAR_TRACE_ID);
+        buffer.writeAscii(exemplar.getTraceId());
+        buffer.writeBytes(EXEMPLAR_SPAN_ID);
+        buffer.writeAscii(exemplar.getSpanId());
+        buffer.writeAscii("\"} ");
+        buffer.writeDouble(exemplar.getValue());
+        buffer.writeByte(' ');
+        long millis = exemplar.getEpochNanos() / 1_000_000;
+        buffer.writeLong(millis / 1000);
+        buffer.writeByte('.');
+        int fraction = (int) (millis % 1000);
+        buffer.writeByte('0' + fraction / 100);
+        buffer.writeByte('0' + fraction / 10 % 10);
+        buffer.writeByte('0' + fraction % 10);
+    }
+
+    /**
+     * Encodes the labels of a series, without the enclosing braces, as they appear in each of its samples.
+     */
+    static byte[] encodeLabels(Series<?> series) {
+        StringBuilder labels = new StringBuilder();
+        for (Tag tag : series.getId().getTagsAsIterable()) {
+            if (labels.length() > 0) {
+                labels.append(',');
+            }
+            String key = tag.getKey();
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_'
+                        || (c >= '0' && c <= '9' && i > 0);
+                labels.append(valid ? c : '_');
+            }
+            labels.append("=\"");
+            String value = tag.getValue();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' || c == '"') {
+                    labels.append('\\').append(c);
+                } else if (c == '\n') {
+                    labels.append("\\n");
+                } else {
+                    labels.append(c);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String typeName(MetricData.Type type) {
+        switch (type) {
+            case MONOTONIC_SUM:
+                return "counter";
+            case HISTOGRAM:
+                return "histogram";
+            default:
+                return "gauge";
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Adapts the writer to {@link SeriesVisitor}, whose methods cannot throw {@link IOException}.
+     */
+    private final class Visitor implements SeriesVisitor {
+        @Override
+        public void visitMetric(Series<?> first, MetricData.Type metricType) {
+            try {
+                startMetric(first.getId(), metricType);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void visitValue(Series<?> series, double value) {
+            try {
+                writeValue(series, value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void visitHistogram(Series<?> series, Histogram histogram) {
+            try {
+                writeHistogram(series, histogram);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class StreamSink implements ExpositionBuffer.Sink {
+        OutputStream out;
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class ChannelSink implements ExpositionBuffer.Sink {
+        WritableByteChannel channel;
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes, offset, length);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    /**
+     * Compresses the exposition into the gzip format with a deflater reused from one scrape to the next.
+     */
+    private static final class GzipSink implements ExpositionBuffer.Sink {
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] output = new byte[BUFFER_SIZE];
+        private ExpositionBuffer.Sink downstream;
+
+        void open(ExpositionBuffer.Sink sink) throws IOException {
+            downstream = sink;
+            deflater.reset();
+            crc.reset();
+            byte[] header = { (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+            downstream.write(header, 0, header.length);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            crc.update(bytes, offset, length);
+            deflater.setInput(bytes, offset, length);
+            while (!deflater.needsInput()) {
+                deflate();
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate();
+            }
+            byte[] trailer = new byte[8];
+            writeInt(trailer, 0, (int) crc.getValue());
+            writeInt(trailer, 4, (int) deflater.getBytesRead());
+            downstream.write(trailer, 0, trailer.length);
+            downstream.finish();
+            downstream = null;
+        }
+
+        private void deflate() throws IOException {
+            int length = deflater.deflate(output, 0, output.length);
+            if (length > 0) {
+                downstream.write(output, 0, length);
+            }
+        }
+
+        private static void writeInt(byte[] bytes, int offset, int value) {
+            bytes[offset] = (byte) value;
+            bytes[offset + 1] = (byte) (value >> 8);
+            bytes[offset + 2] = (byte) (value >> 16);
+            bytes[offset + 3] = (byte) (value >> 24);
+        }
+    }
+}
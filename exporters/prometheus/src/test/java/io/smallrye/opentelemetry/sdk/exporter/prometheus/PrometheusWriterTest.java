@@ -0,0 +1,211 @@
+package io.smallrye.opentelemetry.sdk.exporter.prometheus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+class PrometheusWriterTest {
+    // The unnamed library adds no tags, so the series only have the labels of the measurements
+    private final Meter meter = OpenTelemetryMeterRegistry.INSTANCE.meter("", null);
+
+    @Test
+    void testCounters() throws IOException {
+        LongCounter counter = meter.longCounterBuilder("writer.requests")
+                .setDescription("Number of requests")
+                .setUnit("1")
+                .build();
+        counter.add(4, Labels.of("method", "GET"));
+        counter.add(3, Labels.of("method", "GET"));
+        counter.add(1, Labels.of("method", "POST"));
+
+        String output = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE));
+
+        assertThat(output)
+                .contains("# HELP writer_requests_1_total Number of requests\n")
+                .contains("# TYPE writer_requests_1_total counter\n")
+                .contains("writer_requests_1_total{method=\"GET\"} 7\n")
+                .contains("writer_requests_1_total{method=\"POST\"} 1\n");
+    }
+
+    @Test
+    void testLibraryLabels() throws IOException {
+        OpenTelemetryMeterRegistry.INSTANCE.meter("prometheus-writer-test", "1.0")
+                .longCounterBuilder("writer.library")
+                .build()
+                .add(2, Labels.of("method", "GET"));
+        OpenTelemetryMeterRegistry.INSTANCE.meter("prometheus-writer-other", null)
+                .longCounterBuilder("writer.library")
+                .build()
+                .add(3, Labels.of("method", "GET"));
+
+        String output = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE));
+
+        assertThat(output)
+                .contains("writer_library_1_total{method=\"GET\",otel_library_name=\"prometheus-writer-test\","
+                        + "otel_library_version=\"1.0\"} 2\n")
+                .contains("writer_library_1_total{method=\"GET\",otel_library_name=\"prometheus-writer-other\"} 3\n");
+    }
+
+    @Test
+    void testGaugesAndEscaping() throws IOException {
+        LongUpDownCounter counter = meter.longUpDownCounterBuilder("writer-queue")
+                .setDescription("Queued \\ items\nper queue")
+                .build();
+        counter.add(-2, Labels.of("queue.name", "a \"b\" \\ c\nd é"));
+        counter.add(1, Labels.empty());
+
+        String output = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE));
+
+        assertThat(output)
+                .contains("# HELP writer_queue_1 Queued \\\\ items\\nper queue\n")
+                .contains("# TYPE writer_queue_1 gauge\n")
+                .contains("writer_queue_1{queue_name=\"a \\\"b\\\" \\\\ c\\nd é\"} -2\n")
+                .contains("writer_queue_1 1\n");
+    }
+
+    @Test
+    void testHistogram() throws IOException {
+        DoubleValueRecorder recorder = meter.doubleValueRecorderBuilder("writer.latency")
+                .setUnit("ms")
+                .build();
+        recorder.record(0, Labels.of("path", "/"));
+        recorder.record(1.5, Labels.of("path", "/"));
+        recorder.record(2.5, Labels.of("path", "/"));
+
+        String output = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE));
+
+        assertThat(output)
+                .contains("# TYPE writer_latency_ms histogram\n")
+                .contains("writer_latency_ms_bucket{path=\"/\",le=\"" + Math.scalb(1.0, Histogram.MIN_EXPONENT + 1)
+                        + "\"} 1\n")
+                .contains("writer_latency_ms_bucket{path=\"/\",le=\"1.0\"} 1\n")
+                .contains("writer_latency_ms_bucket{path=\"/\",le=\"2.0\"} 2\n")
+                .contains("writer_latency_ms_bucket{path=\"/\",le=\"4.0\"} 3\n")
+                .contains("writer_latency_ms_bucket{path=\"/\",le=\"8.0\"} 3\n")
+                .contains("writer_latency_ms_bucket{path=\"/\",le=\"+Inf\"} 3\n")
+                .contains("writer_latency_ms_count{path=\"/\"} 3\n")
+                .contains("writer_latency_ms_sum{path=\"/\"} 4\n");
+    }
+
+    @Test
+    void testHistogramBucketsAreStable() throws IOException {
+        DoubleValueRecorder recorder = meter.doubleValueRecorderBuilder("writer.stable")
+                .setUnit("ms")
+                .build();
+        recorder.record(1, Labels.of("path", "/a"));
+        recorder.record(1000, Labels.of("path", "/b"));
+
+        String output = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE));
+
+        // Every series has the same buckets, one per power of two and +Inf, whatever the values recorded so far
+        int buckets = Histogram.MAX_EXPONENT - Histogram.MIN_EXPONENT + 2;
+        assertThat(output.split("writer_stable_ms_bucket\\{path=\"/a\"", -1)).hasSize(buckets + 1);
+        assertThat(output.split("writer_stable_ms_bucket\\{path=\"/b\"", -1)).hasSize(buckets + 1);
+        assertThat(output).contains("writer_stable_ms_bucket{path=\"/a\",le=\"1024.0\"} 1\n")
+                .contains("writer_stable_ms_bucket{path=\"/b\",le=\"512.0\"} 0\n")
+                .contains("writer_stable_ms_bucket{path=\"/b\",le=\"1024.0\"} 1\n");
+    }
+
+    @Test
+    void testOpenMetrics() throws IOException {
+        meter.longCounterBuilder("writer.open.metrics").build().add(5);
+
+        PrometheusWriter writer = new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE,
+                PrometheusWriter.Format.OPEN_METRICS);
+        String output = scrape(writer);
+
+        assertThat(writer.getFormat().getContentType()).startsWith("application/openmetrics-text");
+        assertThat(output)
+                .contains("# TYPE writer_open_metrics_1 counter\n")
+                .contains("writer_open_metrics_1_total 5\n")
+                .endsWith("# EOF\n");
+    }
+
+    @Test
+    void testOpenMetricsExemplars() throws IOException {
+        LongCounter counter = meter.longCounterBuilder("writer.exemplars").build();
+        DoubleValueRecorder recorder = meter.doubleValueRecorderBuilder("writer.exemplar.latency").build();
+        SpanContext spanContext = SpanContext.create("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7",
+                TraceFlags.getSampled(), TraceState.getDefault());
+        try (Scope ignored = Context.current().with(Span.wrap(spanContext)).makeCurrent()) {
+            counter.add(2);
+            recorder.record(1.5);
+        }
+        recorder.record(2.5);
+
+        String exemplar = " # {trace_id=\"4bf92f3577b34da6a3ce929d0e0e4736\",span_id=\"00f067aa0ba902b7\"} ";
+        String openMetrics = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE,
+                PrometheusWriter.Format.OPEN_METRICS));
+        assertThat(openMetrics)
+                .containsPattern("writer_exemplars_1_total 2" + Pattern.quote(exemplar) + "2 \\d+\\.\\d{3}\n")
+                .containsPattern("writer_exemplar_latency_1_bucket\\{le=\"2.0\"} 1" + Pattern.quote(exemplar)
+                        + "1.5 \\d+\\.\\d{3}\n")
+                .contains("writer_exemplar_latency_1_bucket{le=\"4.0\"} 2\n");
+
+        // The Prometheus text format has no exemplars
+        String text = scrape(new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE));
+        assertThat(text).contains("writer_exemplars_1_total 2\n").doesNotContain("trace_id");
+    }
+
+    @Test
+    void testCompressedOutputMatches() throws IOException {
+        LongCounter counter = meter.longCounterBuilder("writer.compressed").build();
+        for (int i = 0; i < 2000; i++) {
+            counter.add(i, Labels.of("index", String.valueOf(i)));
+        }
+        PrometheusWriter writer = new PrometheusWriter(OpenTelemetryMeterRegistry.INSTANCE);
+
+        String plain = scrape(writer);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        writer.write(Channels.newChannel(compressed), true);
+
+        assertThat(plain).contains("writer_compressed_1_total{index=\"1999\"} 1999\n");
+        assertThat(compressed.size()).isLessThan(plain.length() / 4);
+        assertThat(gunzip(compressed.toByteArray())).isEqualTo(plain);
+        // The deflater is reused by the next scrape
+        compressed.reset();
+        writer.write(compressed, true);
+        assertThat(gunzip(compressed.toByteArray())).isEqualTo(plain);
+    }
+
+    private static String scrape(PrometheusWriter writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(out, false);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,162 @@
+package io.smallrye.opentelemetry.sdk.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BatchRecorder;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleSumObserver;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.opentelemetry.api.metrics.DoubleUpDownSumObserver;
+import io.opentelemetry.api.metrics.DoubleValueObserver;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongSumObserver;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.LongUpDownSumObserver;
+import io.opentelemetry.api.metrics.LongValueObserver;
+import io.opentelemetry.api.metrics.LongValueRecorder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.impl.BatchRecorderImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.CardinalityLimiter;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleCounterImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleSumObserverImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleUpDownCounterImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleUpDownSumObserverImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleValueObserverImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleValueRecorderImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongCounterImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongSumObserverImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongUpDownCounterImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongUpDownSumObserverImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongValueObserverImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongValueRecorderImpl;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
+
+/**
+ * The {@link Meter} of a single instrumentation library, obtained from
+ * {@link OpenTelemetryMeterRegistry#meter(String, String)}.
+ * <p>
+ * The library tags are resolved once when the meter is created and added to the id of every instrument built from it,
+ * so measurements never pay for them. They keep apart the series of instruments of different libraries that have the
+ * same name and labels. When the {@value OpenTelemetryMeterRegistry#LIBRARY_TAGS_PROPERTY} system property is
+ * {@code false}, no tags are added and such instruments share their series.
+ */
+public final class OpenTelemetryMeter implements Meter {
+    public static final String LIBRARY_NAME_TAG = "otel.library.name";
+    public static final String LIBRARY_VERSION_TAG = "otel.library.version";
+
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+    private final Tags libraryTags;
+    private final CardinalityLimiter cardinalityLimiter = new CardinalityLimiter();
+
+    OpenTelemetryMeter(InstrumentationLibraryInfo instrumentationLibraryInfo, boolean tagged) {
+        this.instrumentationLibraryInfo = instrumentationLibraryInfo;
+        this.libraryTags = tagged ? libraryTags(instrumentationLibraryInfo) : Tags.empty();
+    }
+
+    private static Tags libraryTags(InstrumentationLibraryInfo info) {
+        if (info.getName().isEmpty()) {
+            return Tags.empty();
+        }
+        if (info.getVersion() == null) {
+            return Tags.of(LIBRARY_NAME_TAG, info.getName());
+        }
+        return Tags.of(LIBRARY_NAME_TAG, info.getName(), LIBRARY_VERSION_TAG, info.getVersion());
+    }
+
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return instrumentationLibraryInfo;
+    }
+
+    /**
+     * Returns the tags added to the id of every instrument of this meter.
+     */
+    public Tags getLibraryTags() {
+        return libraryTags;
+    }
+
+    /**
+     * Returns the view applied to an instrument of this meter, resolved once when the instrument is built.
+     */
+    public View findView(String instrumentName) {
+        return OpenTelemetryMeterRegistry.INSTANCE.findView(instrumentationLibraryInfo, instrumentName);
+    }
+
+    /**
+     * Returns the limiter bounding the number of series of the synchronous instruments of this meter.
+     */
+    public CardinalityLimiter getCardinalityLimiter() {
+        return cardinalityLimiter;
+    }
+
+    @Override
+    public DoubleCounter.Builder doubleCounterBuilder(String name) {
+        return new DoubleCounterImpl.Builder(this, name);
+    }
+
+    @Override
+    public LongCounter.Builder longCounterBuilder(String name) {
+        return new LongCounterImpl.Builder(this, name);
+    }
+
+    @Override
+    public DoubleUpDownCounter.Builder doubleUpDownCounterBuilder(String name) {
+        return new DoubleUpDownCounterImpl.Builder(this, name);
+    }
+
+    @Override
+    public LongUpDownCounter.Builder longUpDownCounterBuilder(String name) {
+        return new LongUpDownCounterImpl.Builder(this, name);
+    }
+
+    @Override
+    public DoubleValueRecorder.Builder doubleValueRecorderBuilder(String name) {
+        return new DoubleValueRecorderImpl.Builder(this, name);
+    }
+
+    @Override
+    public LongValueRecorder.Builder longValueRecorderBuilder(String name) {
+        return new LongValueRecorderImpl.Builder(this, name);
+    }
+
+    @Override
+    public DoubleSumObserver.Builder doubleSumObserverBuilder(String name) {
+        return new DoubleSumObserverImpl.Builder(this, name);
+    }
+
+    @Override
+    public LongSumObserver.Builder longSumObserverBuilder(String name) {
+        return new LongSumObserverImpl.Builder(this, name);
+    }
+
+    @Override
+    public DoubleUpDownSumObserver.Builder doubleUpDownSumObserverBuilder(String name) {
+        return new DoubleUpDownSumObserverImpl.Builder(this, name);
+    }
+
+    @Override
+    public LongUpDownSumObserver.Builder longUpDownSumObserverBuilder(String name) {
+        return new LongUpDownSumObserverImpl.Builder(this, name);
+    }
+
+    @Override
+    public DoubleValueObserver.Builder doubleValueObserverBuilder(String name) {
+        return new DoubleValueObserverImpl.Builder(this, name);
+    }
+
+    @Override
+    public LongValueObserver.Builder longValueObserverBuilder(String name) {
+        return new LongValueObserverImpl.Builder(this, name);
+    }
+
+    @Override
+    public BatchRecorder newBatchRecorder(String... keyValuePairs) {
+        return new BatchRecorderImpl(Labels.of(keyValuePairs));
+    }
+
+    @Override
+    public String toString() {
+        return "OpenTelemetryMeter{" + instrumentationLibraryInfo + "}";
+    }
+}
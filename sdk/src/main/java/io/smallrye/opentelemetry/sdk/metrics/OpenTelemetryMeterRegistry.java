@@ -1,6 +1,24 @@
 package io.smallrye.opentelemetry.sdk.metrics;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
 import io.opentelemetry.api.metrics.BatchRecorder;
 import io.opentelemetry.api.metrics.DoubleCounter;
 import io.opentelemetry.api.metrics.DoubleSumObserver;
@@ -15,75 +33,423 @@ import io.opentelemetry.api.metrics.LongUpDownSumObserver;
 import io.opentelemetry.api.metrics.LongValueObserver;
 import io.opentelemetry.api.metrics.LongValueRecorder;
 import io.opentelemetry.api.metrics.Meter;
-import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleCounterImpl;
-import io.smallrye.opentelemetry.sdk.metrics.impl.LongCounterImpl;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.internal.SystemClock;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.smallrye.opentelemetry.sdk.metrics.export.SeriesVisitor;
+import io.smallrye.opentelemetry.sdk.metrics.impl.CollectionScheduler;
+import io.smallrye.opentelemetry.sdk.metrics.impl.RegistryMetricProducer;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
 
 public class OpenTelemetryMeterRegistry extends CompositeMeterRegistry implements Meter {
 
+    /**
+     * System property controlling whether the instrumentation library name and version are added as tags of every
+     * instrument, which they are unless it is set to {@code false}. Without them, instruments of different libraries
+     * with the same name and labels share their series, reported under the library of the instrument that created it.
+     */
+    public static final String LIBRARY_TAGS_PROPERTY = "io.smallrye.opentelemetry.metrics.library-tags";
+
     public static final OpenTelemetryMeterRegistry INSTANCE = new OpenTelemetryMeterRegistry();
 
+    private static final Logger LOGGER = Logger.getLogger(OpenTelemetryMeterRegistry.class.getName());
+    private static final View NO_VIEW = View.builder().build();
+
+    private final Clock clock = SystemClock.getInstance();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicInteger epoch = new AtomicInteger();
+    private final ConcurrentMap<io.micrometer.core.instrument.Meter.Id, Series<?>> series = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Series<?>>> seriesByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Class<?>> seriesTypes = new ConcurrentHashMap<>();
+    private final Object seriesLock = new Object();
+    private final CollectionScheduler collectionScheduler = new CollectionScheduler(this);
+    private final RegistryMetricProducer metricProducer = new RegistryMetricProducer(this, clock);
+    private final ConcurrentMap<InstrumentationLibraryInfo, OpenTelemetryMeter> meters = new ConcurrentHashMap<>();
+    private final List<View> views = new CopyOnWriteArrayList<>();
+    private final Config filterTrackingConfig = new FilterTrackingConfig();
+    private volatile MeterFilter[] filters = new MeterFilter[0];
+    private final boolean libraryTags = !"false".equalsIgnoreCase(System.getProperty(LIBRARY_TAGS_PROPERTY));
+    private final OpenTelemetryMeter defaultMeter = new OpenTelemetryMeter(InstrumentationLibraryInfo.getEmpty(),
+            false);
+
+    public OpenTelemetryMeterRegistry() {
+        config().onMeterRemoved(meter -> {
+            Series<?> removed = series.remove(meter.getId());
+            if (removed != null) {
+                removed.markRemoved();
+                seriesByName.computeIfPresent(removed.getId().getName(), (name, named) -> {
+                    named.remove(removed);
+                    return named.isEmpty() ? null : named;
+                });
+            }
+            generation.incrementAndGet();
+        });
+    }
+
+    /**
+     * Returns a counter that changes whenever the set of child registries or registered meters changes.
+     * Instruments compare it against the value seen when they resolved their meters to know when
+     * cached meters must be resolved again.
+     */
+    public int generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the current epoch, advanced once per collection cycle by {@link #evictIdleSeries(int)}. Series record
+     * the epoch of their last update.
+     */
+    public int epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Returns the series identified by {@code id}, calling {@code factory} to create its accumulator and register
+     * its meter on first use. Series are shared by all instruments with the same name and tags, and are dropped when
+     * their meter is removed from this registry. They are keyed by the id the meter filters map {@code id} to, as
+     * Micrometer does for meters, and a series whose mapped id is denied is handed out without being registered.
+     * <p>
+     * Creation is serialized so that the meter is registered before the series becomes visible. Meter registration
+     * happens outside of the series map, as Micrometer notifies meter removals while holding its own lock.
+     */
+    public <T> Series<T> series(io.micrometer.core.instrument.Meter.Id id, Class<T> type,
+            Function<io.micrometer.core.instrument.Meter.Id, ? extends T> factory) {
+        return series(InstrumentationLibraryInfo.getEmpty(), id, type, factory);
+    }
+
+    /**
+     * Returns the series identified by {@code id}, created on behalf of an instrument of the given instrumentation
+     * library, which the series is then reported under.
+     *
+     * @see #series(io.micrometer.core.instrument.Meter.Id, Class, Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Series<T> series(InstrumentationLibraryInfo library, io.micrometer.core.instrument.Meter.Id id,
+            Class<T> type, Function<io.micrometer.core.instrument.Meter.Id, ? extends T> factory) {
+        // Series are keyed by the id Micrometer gives their meter, so that removals find them
+        MeterFilter[] current = filters;
+        io.micrometer.core.instrument.Meter.Id mapped = map(current, id);
+        Series<?> existing = series.get(mapped);
+        if (existing == null) {
+            if (!accepts(current, mapped)) {
+                // Denied by a filter on its tags: measurements go to a series that is neither registered nor exported
+                Series<T> denied = new Series<>(library, id, factory.apply(id), epoch.get(), clock.now());
+                denied.markRemoved();
+                return denied;
+            }
+            synchronized (seriesLock) {
+                existing = series.get(mapped);
+                if (existing == null) {
+                    Series<?> created = new Series<>(library, id, factory.apply(id), epoch.get(), clock.now());
+                    series.put(mapped, created);
+                    seriesByName.compute(id.getName(), (name, named) -> {
+                        Set<Series<?>> set = named != null ? named : ConcurrentHashMap.newKeySet();
+                        set.add(created);
+                        return set;
+                    });
+                    existing = created;
+                }
+            }
+        }
+
+        Object accumulator = existing.getAccumulator();
+        if (!type.isInstance(accumulator)) {
+            throw new IllegalArgumentException("There is already a registered series of a different type ("
+                    + accumulator.getClass().getSimpleName() + " vs. " + type.getSimpleName()
+                    + ") with the same name: " + id.getName());
+        }
+        return (Series<T>) existing;
+    }
+
+    /**
+     * Claims a metric name for the series of one type of accumulator, when an instrument is built. Instruments of
+     * different kinds cannot share series, so an instrument claiming a name already claimed for another type is a
+     * conflict: it is logged here and the builder hands out an instrument that records nothing, rather than
+     * {@link #series} failing the first measurement.
+     *
+     * @return whether the name is free or already claimed for the same type
+     */
+    public boolean claimSeriesType(String name, Class<?> type) {
+        Class<?> claimed = seriesTypes.putIfAbsent(name, type);
+        if (claimed != null && claimed != type) {
+            LOGGER.log(Level.WARNING, "Instrument {0} is ignored, the name is already used by an instrument of a"
+                    + " different kind ({1} vs. {2})",
+                    new Object[] { name, claimed.getSimpleName(), type.getSimpleName() });
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a read-only view of the series of this registry.
+     */
+    public Collection<Series<?>> getSeries() {
+        return Collections.unmodifiableCollection(series.values());
+    }
+
+    /**
+     * Returns a read-only view of the series of this registry grouped by metric name, so that the series of a
+     * metric can be written together without sorting them first.
+     */
+    public Map<String, Set<Series<?>>> getSeriesByName() {
+        return Collections.unmodifiableMap(seriesByName);
+    }
+
+    /**
+     * Streams the series of this registry to a visitor, one metric at a time, without copying their values.
+     *
+     * @see RegistryMetricProducer#visit(SeriesVisitor)
+     */
+    public void visitSeries(SeriesVisitor visitor) {
+        metricProducer.visit(visitor);
+    }
+
+    /**
+     * Returns the producer reading the series of this registry into {@link MetricData}, for exporters that do not go
+     * through a Micrometer registry.
+     */
+    public MetricProducer metricProducer() {
+        return metricProducer;
+    }
+
+    /**
+     * Removes the meters of the series that were not updated during the last {@code idleEpochs} epochs from this
+     * registry and its child registries, then starts a new epoch.
+     *
+     * @return the number of removed series
+     */
+    public int evictIdleSeries(int idleEpochs) {
+        int current = epoch.get();
+        int evicted = 0;
+        for (Map.Entry<io.micrometer.core.instrument.Meter.Id, Series<?>> candidate : series.entrySet()) {
+            if (current - candidate.getValue().getLastUpdate() >= idleEpochs) {
+                if (remove(candidate.getKey()) != null) {
+                    evicted++;
+                }
+            }
+        }
+        epoch.incrementAndGet();
+        return evicted;
+    }
+
+    /**
+     * Removes the meters of the series tagged with the given value from this registry and its child registries, such
+     * as the series reported by a component that shut down.
+     *
+     * @return the number of removed series
+     */
+    public int removeSeries(String tagKey, String tagValue) {
+        int removed = 0;
+        for (Map.Entry<io.micrometer.core.instrument.Meter.Id, Series<?>> candidate : series.entrySet()) {
+            if (tagValue.equals(candidate.getValue().getId().getTag(tagKey)) && remove(candidate.getKey()) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the meter of an instrumentation library, creating it on first use. Instruments built from this
+     * registry directly belong to an unnamed library.
+     */
+    public OpenTelemetryMeter meter(String instrumentationName, String instrumentationVersion) {
+        InstrumentationLibraryInfo info = InstrumentationLibraryInfo.create(instrumentationName,
+                instrumentationVersion);
+        OpenTelemetryMeter meter = meters.get(info);
+        if (meter == null) {
+            meter = meters.computeIfAbsent(info, key -> new OpenTelemetryMeter(key, libraryTags));
+        }
+        return meter;
+    }
+
+    /**
+     * Returns whether the meter filters of this registry accept an instrument, evaluated as Micrometer does when a
+     * meter is registered. Instruments denied by a filter are built as no-op instruments, and instruments already
+     * built stop recording when a filter denying them is added.
+     * <p>
+     * Only the filters of this registry are considered: the exporters reading the series of this registry directly
+     * do not go through child registries, so neither the filters of a child registry nor the absence of child
+     * registries disable an instrument.
+     * <p>
+     * The id of an instrument has no label tags, so only filters deciding on its name or on its instrument level tags
+     * disable it. Filters deciding on label tags are applied to each series instead, when it is created: a denied
+     * series is neither registered nor exported.
+     */
+    public boolean isEnabled(io.micrometer.core.instrument.Meter.Id id) {
+        MeterFilter[] current = filters;
+        return accepts(current, map(current, id));
+    }
+
+    /**
+     * Returns the meter registered with this registry under the id the meter filters map {@code id} to, or
+     * {@code null} if there is none.
+     */
+    public io.micrometer.core.instrument.Meter findMeter(io.micrometer.core.instrument.Meter.Id id) {
+        io.micrometer.core.instrument.Meter.Id mapped = map(filters, id);
+        for (io.micrometer.core.instrument.Meter meter : find(mapped.getName()).meters()) {
+            if (meter.getId().equals(mapped)) {
+                return meter;
+            }
+        }
+        return null;
+    }
+
+    private static io.micrometer.core.instrument.Meter.Id map(MeterFilter[] current,
+            io.micrometer.core.instrument.Meter.Id id) {
+        io.micrometer.core.instrument.Meter.Id mapped = id;
+        for (MeterFilter filter : current) {
+            mapped = filter.map(mapped);
+        }
+        return mapped;
+    }
+
+    private static boolean accepts(MeterFilter[] current, io.micrometer.core.instrument.Meter.Id mapped) {
+        for (MeterFilter filter : current) {
+            MeterFilterReply reply = filter.accept(mapped);
+            if (reply == MeterFilterReply.DENY) {
+                return false;
+            }
+            if (reply == MeterFilterReply.ACCEPT) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a view, applied to the instruments built from now on. When several views select an instrument, the
+     * first one registered applies.
+     */
+    public void registerView(View view) {
+        views.add(Objects.requireNonNull(view));
+    }
+
+    /**
+     * Removes a view. Instruments built while it was registered keep reporting as it configured them.
+     */
+    public boolean removeView(View view) {
+        return views.remove(view);
+    }
+
+    /**
+     * Returns the first registered view selecting an instrument, or a view changing nothing if there is none.
+     */
+    View findView(InstrumentationLibraryInfo library, String instrumentName) {
+        for (View view : views) {
+            if (view.matches(library, instrumentName)) {
+                return view;
+            }
+        }
+        return NO_VIEW;
+    }
+
+    /**
+     * Returns the scheduler running the callbacks of asynchronous instruments once per collection cycle.
+     */
+    public CollectionScheduler collectionScheduler() {
+        return collectionScheduler;
+    }
+
+    @Override
+    public Config config() {
+        // Called by the constructor of the parent class, before the field is initialized
+        return filterTrackingConfig != null ? filterTrackingConfig : super.config();
+    }
+
+    @Override
+    public CompositeMeterRegistry add(MeterRegistry registry) {
+        super.add(registry);
+        generation.incrementAndGet();
+        return this;
+    }
+
+    @Override
+    public CompositeMeterRegistry remove(MeterRegistry registry) {
+        super.remove(registry);
+        generation.incrementAndGet();
+        return this;
+    }
+
     @Override
     public DoubleCounter.Builder doubleCounterBuilder(String name) {
-        return new DoubleCounterImpl.Builder(name);
+        return defaultMeter.doubleCounterBuilder(name);
     }
 
     @Override
     public LongCounter.Builder longCounterBuilder(String name) {
-        return new LongCounterImpl.Builder(name);
+        return defaultMeter.longCounterBuilder(name);
     }
 
     @Override
     public DoubleUpDownCounter.Builder doubleUpDownCounterBuilder(String name) {
-        return null;
+        return defaultMeter.doubleUpDownCounterBuilder(name);
     }
 
     @Override
     public LongUpDownCounter.Builder longUpDownCounterBuilder(String name) {
-        return null;
+        return defaultMeter.longUpDownCounterBuilder(name);
     }
 
     @Override
     public DoubleValueRecorder.Builder doubleValueRecorderBuilder(String name) {
-        return null;
+        return defaultMeter.doubleValueRecorderBuilder(name);
     }
 
     @Override
     public LongValueRecorder.Builder longValueRecorderBuilder(String name) {
-        return null;
+        return defaultMeter.longValueRecorderBuilder(name);
     }
 
     @Override
     public DoubleSumObserver.Builder doubleSumObserverBuilder(String name) {
-        return null;
+        return defaultMeter.doubleSumObserverBuilder(name);
     }
 
     @Override
     public LongSumObserver.Builder longSumObserverBuilder(String name) {
-        return null;
+        return defaultMeter.longSumObserverBuilder(name);
     }
 
     @Override
     public DoubleUpDownSumObserver.Builder doubleUpDownSumObserverBuilder(String name) {
-        return null;
+        return defaultMeter.doubleUpDownSumObserverBuilder(name);
     }
 
     @Override
     public LongUpDownSumObserver.Builder longUpDownSumObserverBuilder(String name) {
-        return null;
+        return defaultMeter.longUpDownSumObserverBuilder(name);
     }
 
     @Override
     public DoubleValueObserver.Builder doubleValueObserverBuilder(String name) {
-        return null;
+        return defaultMeter.doubleValueObserverBuilder(name);
     }
 
     @Override
     public LongValueObserver.Builder longValueObserverBuilder(String name) {
-        return null;
+        return defaultMeter.longValueObserverBuilder(name);
     }
 
     @Override
     public BatchRecorder newBatchRecorder(String... keyValuePairs) {
-        return null;
+        return defaultMeter.newBatchRecorder(keyValuePairs);
+    }
+
+    /**
+     * Keeps a copy of the meter filters, which Micrometer does not expose, and starts a new generation when one is
+     * added so that instruments check again whether they are enabled.
+     */
+    private final class FilterTrackingConfig extends Config {
+        @Override
+        public synchronized Config meterFilter(MeterFilter filter) {
+            super.meterFilter(filter);
+            MeterFilter[] updated = Arrays.copyOf(filters, filters.length + 1);
+            updated[filters.length] = filter;
+            filters = updated;
+            generation.incrementAndGet();
+            return this;
+        }
     }
 }
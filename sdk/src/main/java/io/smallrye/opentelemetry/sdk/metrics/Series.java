@@ -0,0 +1,156 @@
+package io.smallrye.opentelemetry.sdk.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.ExemplarReservoir;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+/**
+ * A series of {@link OpenTelemetryMeterRegistry}: the accumulator behind one Micrometer meter, along with the epoch of
+ * its last update. Epochs are advanced by the collection scheduler, so idle series can be found without reading a
+ * clock on every measurement.
+ *
+ * @param <T> the type of accumulator
+ */
+public final class Series<T> {
+    private static final Object[] NO_ENCODINGS = new Object[0];
+    private static final int EXEMPLARS = 4;
+    private static final Duration EXEMPLAR_WINDOW = Duration.ofSeconds(10);
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Series, ExemplarReservoir> RESERVOIR = AtomicReferenceFieldUpdater
+            .newUpdater(Series.class, ExemplarReservoir.class, "reservoir");
+
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+    private final Meter.Id id;
+    private final T accumulator;
+    private final long startEpochNanos;
+    private volatile Labels labels;
+    private volatile int lastUpdate;
+    private volatile boolean removed;
+    private volatile Object[] encodings = NO_ENCODINGS;
+    private volatile ExemplarReservoir reservoir;
+
+    Series(InstrumentationLibraryInfo instrumentationLibraryInfo, Meter.Id id, T accumulator, int epoch,
+            long startEpochNanos) {
+        this.instrumentationLibraryInfo = instrumentationLibraryInfo;
+        this.id = id;
+        this.accumulator = accumulator;
+        this.startEpochNanos = startEpochNanos;
+        this.lastUpdate = epoch;
+    }
+
+    /**
+     * Returns the instrumentation library of the instrument that created the series. Instruments of other libraries
+     * with the same name and labels share the series.
+     */
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return instrumentationLibraryInfo;
+    }
+
+    public Meter.Id getId() {
+        return id;
+    }
+
+    public T getAccumulator() {
+        return accumulator;
+    }
+
+    /**
+     * Returns the tags of the series as {@link Labels}, converted on first use. The tags of the instrumentation library
+     * are left out, as the library of the series is reported along with its labels.
+     */
+    public Labels getLabels() {
+        Labels converted = labels;
+        if (converted == null) {
+            converted = LabelConverter.toLabels(id.getTagsAsIterable());
+            labels = converted;
+        }
+        return converted;
+    }
+
+    /**
+     * Returns the encoded form of this series in an export format, encoding it on first use.
+     * <p>
+     * Encodings are published with copy-on-write, without locking. When two encodings are first used concurrently,
+     * one of them may be lost and is computed again by the next export.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> E getEncoded(SeriesEncoding<E> encoding) {
+        Object[] current = encodings;
+        int slot = encoding.slot();
+        if (slot < current.length && current[slot] != null) {
+            return (E) current[slot];
+        }
+
+        E encoded = encoding.encode(this);
+        Object[] updated = Arrays.copyOf(current, Math.max(current.length, slot + 1));
+        updated[slot] = encoded;
+        encodings = updated;
+        return encoded;
+    }
+
+    /**
+     * Returns the exemplars of the series, or {@code null} if no measurement was made within a sampled span.
+     */
+    public ExemplarReservoir getExemplars() {
+        return reservoir;
+    }
+
+    /**
+     * Offers a measurement made within a sampled span as an exemplar of the series. The reservoir is created on first
+     * use: histograms keep exemplars across their buckets, other series keep a few exemplars sampled every ten
+     * seconds.
+     */
+    public void offerExemplar(double value, SpanContext spanContext) {
+        ExemplarReservoir current = reservoir;
+        if (current == null) {
+            ExemplarReservoir created = accumulator instanceof Histogram ? ExemplarReservoir.histogramBuckets()
+                    : ExemplarReservoir.fixedSize(EXEMPLARS, EXEMPLAR_WINDOW);
+            current = RESERVOIR.compareAndSet(this, null, created) ? created : reservoir;
+        }
+        current.offer(value, spanContext);
+    }
+
+    /**
+     * Returns the time at which the series was created, which is the start time of its cumulative points.
+     */
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * Returns the epoch during which the series was last updated.
+     */
+    public int getLastUpdate() {
+        return lastUpdate;
+    }
+
+    /**
+     * Records an update during the given epoch. The field is only written once per epoch, so concurrent updates do
+     * not contend on it.
+     */
+    public void touch(int epoch) {
+        if (lastUpdate != epoch) {
+            lastUpdate = epoch;
+        }
+    }
+
+    /**
+     * Returns whether the meter of this series was removed from the registry. A removed series no longer receives
+     * updates, and instruments resolve a new one on their next measurement.
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    void markRemoved() {
+        removed = true;
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.opentelemetry.sdk.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The encoded form of series in one export format, such as the label block of a Prometheus sample. Each series
+ * computes its encoding once, on first use, and keeps it for its lifetime, so that exports only have to write the
+ * values that change.
+ * <p>
+ * Every encoding takes a slot in each series that uses it, so encodings are meant to be constants of an exporter
+ * rather than created per export.
+ *
+ * @param <E> the type of encoded form
+ * @see Series#getEncoded(SeriesEncoding)
+ */
+public final class SeriesEncoding<E> {
+    private static final AtomicInteger SLOTS = new AtomicInteger();
+
+    private final int slot = SLOTS.getAndIncrement();
+    private final Function<Series<?>, ? extends E> encoder;
+
+    private SeriesEncoding(Function<Series<?>, ? extends E> encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * Creates an encoding computed by the given function, which must not return {@code null}.
+     */
+    public static <E> SeriesEncoding<E> of(Function<Series<?>, ? extends E> encoder) {
+        return new SeriesEncoding<>(Objects.requireNonNull(encoder));
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    E encode(Series<?> series) {
+        return Objects.requireNonNull(encoder.apply(series));
+    }
+}
@@ -13,8 +13,7 @@ public class SmallRyeMeterProviderFactory implements MeterProvider, MeterProvide
 
     @Override
     public Meter get(String instrumentationName, String instrumentationVersion) {
-        //TODO Should we set common tag on the registry of instrumentation name and version?
-        return OpenTelemetryMeterRegistry.INSTANCE;
+        return OpenTelemetryMeterRegistry.INSTANCE.meter(instrumentationName, instrumentationVersion);
     }
 
     @Override
@@ -0,0 +1,49 @@
+package io.smallrye.opentelemetry.sdk.metrics.exemplar;
+
+import io.opentelemetry.api.trace.SpanContext;
+
+/**
+ * A measurement made within a sampled span, linking the point it contributed to with the trace of that span.
+ * <p>
+ * Instances are immutable.
+ */
+public final class Exemplar {
+    private final double value;
+    private final long epochNanos;
+    private final SpanContext spanContext;
+
+    public Exemplar(double value, long epochNanos, SpanContext spanContext) {
+        this.value = value;
+        this.epochNanos = epochNanos;
+        this.spanContext = spanContext;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the time at which the measurement was made.
+     */
+    public long getEpochNanos() {
+        return epochNanos;
+    }
+
+    public SpanContext getSpanContext() {
+        return spanContext;
+    }
+
+    public String getTraceId() {
+        return spanContext.getTraceIdAsHexString();
+    }
+
+    public String getSpanId() {
+        return spanContext.getSpanIdAsHexString();
+    }
+
+    @Override
+    public String toString() {
+        return "Exemplar{value=" + value + ", epochNanos=" + epochNanos + ", traceId=" + getTraceId() + ", spanId="
+                + getSpanId() + "}";
+    }
+}
@@ -0,0 +1,135 @@
+package io.smallrye.opentelemetry.sdk.metrics.exemplar;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.SystemClock;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+/**
+ * Keeps a fixed number of exemplars of a series in atomic slots, so that offering an exemplar never locks. Readers
+ * see each slot as it was last written, possibly while other slots are being replaced.
+ * <p>
+ * Series only create a reservoir when a measurement is first made within a sampled span, and measurements made
+ * outside of one never reach it.
+ */
+public abstract class ExemplarReservoir {
+
+    /**
+     * System property disabling exemplars when set to {@code false}. Measurements then skip the lookup of the current
+     * span entirely.
+     */
+    public static final String EXEMPLARS_PROPERTY = "io.smallrye.opentelemetry.metrics.exemplars";
+
+    /**
+     * Whether measurements made within a sampled span are offered as exemplars. Read once, so that the JIT removes the
+     * check when exemplars are disabled.
+     */
+    public static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(EXEMPLARS_PROPERTY));
+
+    final AtomicReferenceArray<Exemplar> slots;
+    final Clock clock;
+
+    ExemplarReservoir(int size, Clock clock) {
+        this.slots = new AtomicReferenceArray<>(size);
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a reservoir sampling uniformly among the measurements of each window, keeping at most {@code size}
+     * exemplars. Exemplars of the previous window are kept until they are replaced.
+     */
+    public static ExemplarReservoir fixedSize(int size, Duration window) {
+        return fixedSize(size, window, SystemClock.getInstance());
+    }
+
+    public static ExemplarReservoir fixedSize(int size, Duration window, Clock clock) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        return new FixedSizeReservoir(size, window.toNanos(), clock);
+    }
+
+    /**
+     * Creates a reservoir keeping the last exemplar of each power of two of the {@link Histogram} layout, so that each
+     * exemplar can be shown next to the bucket it was recorded in. Zero and negative values, which the exports count
+     * below the lowest bucket, are not kept.
+     */
+    public static ExemplarReservoir histogramBuckets() {
+        return histogramBuckets(SystemClock.getInstance());
+    }
+
+    public static ExemplarReservoir histogramBuckets(Clock clock) {
+        return new HistogramBucketReservoir(clock);
+    }
+
+    /**
+     * Offers a measurement made within the given sampled span.
+     */
+    public abstract void offer(double value, SpanContext spanContext);
+
+    /**
+     * Returns the exemplars currently held, in no particular order.
+     */
+    public List<Exemplar> collect() {
+        List<Exemplar> exemplars = null;
+        for (int i = 0; i < slots.length(); i++) {
+            Exemplar exemplar = slots.get(i);
+            if (exemplar != null) {
+                if (exemplars == null) {
+                    exemplars = new ArrayList<>(slots.length() - i);
+                }
+                exemplars.add(exemplar);
+            }
+        }
+        return exemplars != null ? exemplars : Collections.emptyList();
+    }
+
+    /**
+     * Returns the most recent exemplar, or {@code null} if there is none.
+     */
+    public Exemplar latest() {
+        return latest(0, slots.length(), -1, -1);
+    }
+
+    /**
+     * Returns the most recent exemplar whose value falls into a bucket of the {@link Histogram} layout, or
+     * {@code null} if there is none.
+     */
+    public Exemplar latestInBucket(int bucket) {
+        return latestInBuckets(bucket, bucket + 1);
+    }
+
+    /**
+     * Returns the most recent exemplar whose value falls into the buckets of the {@link Histogram} layout from
+     * {@code fromBucket}, inclusive, to {@code toBucket}, exclusive, or {@code null} if there is none.
+     */
+    public Exemplar latestInBuckets(int fromBucket, int toBucket) {
+        return latest(0, slots.length(), fromBucket, toBucket);
+    }
+
+    Exemplar latest(int from, int to, int fromBucket, int toBucket) {
+        Exemplar latest = null;
+        for (int i = from; i < to; i++) {
+            Exemplar exemplar = slots.get(i);
+            if (exemplar != null && (latest == null || exemplar.getEpochNanos() > latest.getEpochNanos())
+                    && (fromBucket < 0 || isInBuckets(exemplar.getValue(), fromBucket, toBucket))) {
+                latest = exemplar;
+            }
+        }
+        return latest;
+    }
+
+    private static boolean isInBuckets(double value, int fromBucket, int toBucket) {
+        if (value <= 0) {
+            return false;
+        }
+        int bucket = Histogram.bucketIndex(value);
+        return bucket >= fromBucket && bucket < toBucket;
+    }
+}
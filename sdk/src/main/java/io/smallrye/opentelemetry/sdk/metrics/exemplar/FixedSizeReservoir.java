@@ -0,0 +1,53 @@
+package io.smallrye.opentelemetry.sdk.metrics.exemplar;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.Clock;
+
+/**
+ * Samples exemplars with reservoir sampling: the first measurements of a window fill the slots, and the n-th
+ * measurement then replaces a random slot with a probability of {@code size / n}. The count starts over with the
+ * first replacement after the end of a window, so exemplars stay recent however long the series lives, and the clock
+ * is not read for the measurements that are not kept.
+ */
+final class FixedSizeReservoir extends ExemplarReservoir {
+    private static final AtomicLongFieldUpdater<FixedSizeReservoir> WINDOW_START = AtomicLongFieldUpdater
+            .newUpdater(FixedSizeReservoir.class, "windowStart");
+
+    private final long windowNanos;
+    private final AtomicLong offered = new AtomicLong();
+    private volatile long windowStart;
+
+    FixedSizeReservoir(int size, long windowNanos, Clock clock) {
+        super(size, clock);
+        this.windowNanos = windowNanos;
+        this.windowStart = clock.now();
+    }
+
+    @Override
+    public void offer(double value, SpanContext spanContext) {
+        long count = offered.getAndIncrement();
+        int slot;
+        if (count < slots.length()) {
+            slot = (int) count;
+        } else {
+            long candidate = ThreadLocalRandom.current().nextLong(count + 1);
+            if (candidate >= slots.length()) {
+                return;
+            }
+            slot = (int) candidate;
+        }
+        // The clock is only read when a slot is replaced, so the window is checked then too
+        long now = clock.now();
+        long start = windowStart;
+        if (now - start >= windowNanos && WINDOW_START.compareAndSet(this, start, now)) {
+            // Offers racing with the reset may still count towards the previous window, which only skews sampling
+            offered.set(1);
+            slot = 0;
+        }
+        slots.set(slot, new Exemplar(value, now, spanContext));
+    }
+}
@@ -0,0 +1,30 @@
+package io.smallrye.opentelemetry.sdk.metrics.exemplar;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.Clock;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+/**
+ * Keeps the last exemplar recorded in each power of two of the {@link Histogram} layout, rather than in each of its
+ * buckets, so that the reservoir stays small while exemplars still spread over the whole distribution.
+ */
+final class HistogramBucketReservoir extends ExemplarReservoir {
+
+    HistogramBucketReservoir(Clock clock) {
+        super(Histogram.BUCKET_COUNT >> Histogram.SUB_BUCKET_BITS, clock);
+    }
+
+    @Override
+    public void offer(double value, SpanContext spanContext) {
+        if (value > 0) {
+            slots.set(Histogram.bucketIndex(value) >> Histogram.SUB_BUCKET_BITS,
+                    new Exemplar(value, clock.now(), spanContext));
+        }
+    }
+
+    @Override
+    public Exemplar latestInBuckets(int fromBucket, int toBucket) {
+        return latest(fromBucket >> Histogram.SUB_BUCKET_BITS, ((toBucket - 1) >> Histogram.SUB_BUCKET_BITS) + 1,
+                fromBucket, toBucket);
+    }
+}
@@ -0,0 +1,262 @@
+package io.smallrye.opentelemetry.sdk.metrics.export;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.Exemplar;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.HistogramSnapshot;
+
+/**
+ * The points of all series of one metric at the time of a collection. Points are stored in columns: the labels,
+ * start time and value of the point at index {@code i} are read with {@link #getLabels(int)},
+ * {@link #getStartEpochNanos(int)} and {@link #getValue(int)}. For {@link Type#HISTOGRAM} metrics, the value is the sum
+ * of the recorded values and {@link #getHistogram(int)} returns the distribution. {@link #getExemplars(int)} returns
+ * the measurements made within sampled spans that are linked to a point.
+ * <p>
+ * A metric belongs to the instrumentation library of the meter its instruments were built from.
+ * <p>
+ * Instances are immutable.
+ */
+public final class MetricData {
+
+    public enum Type {
+        MONOTONIC_SUM,
+        NON_MONOTONIC_SUM,
+        GAUGE,
+        HISTOGRAM
+    }
+
+    public enum AggregationTemporality {
+        /**
+         * Points accumulate from the start time of their series.
+         */
+        CUMULATIVE,
+        /**
+         * Points only hold what was recorded since the previous collection.
+         */
+        DELTA
+    }
+
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+    private final String name;
+    private final String description;
+    private final String unit;
+    private final Type type;
+    private final AggregationTemporality temporality;
+    private final long epochNanos;
+    private final int pointCount;
+    private final Labels[] labels;
+    private final long[] startEpochNanos;
+    private final double[] values;
+    private final HistogramSnapshot[] histograms;
+    private final List<Exemplar>[] exemplars;
+
+    private MetricData(Builder builder, AggregationTemporality temporality, long epochNanos) {
+        this.instrumentationLibraryInfo = builder.instrumentationLibraryInfo;
+        this.name = builder.name;
+        this.description = builder.description;
+        this.unit = builder.unit;
+        this.type = builder.type;
+        this.temporality = temporality;
+        this.epochNanos = epochNanos;
+        this.pointCount = builder.size;
+        this.labels = Arrays.copyOf(builder.labels, builder.size);
+        this.startEpochNanos = Arrays.copyOf(builder.startEpochNanos, builder.size);
+        this.values = Arrays.copyOf(builder.values, builder.size);
+        this.histograms = builder.histograms == null ? null : Arrays.copyOf(builder.histograms, builder.size);
+        this.exemplars = builder.exemplars == null ? null : Arrays.copyOf(builder.exemplars, builder.size);
+    }
+
+    /**
+     * Returns a builder for a metric of an unnamed instrumentation library.
+     */
+    public static Builder builder(String name, String description, String unit, Type type) {
+        return builder(InstrumentationLibraryInfo.getEmpty(), name, description, unit, type);
+    }
+
+    public static Builder builder(InstrumentationLibraryInfo instrumentationLibraryInfo, String name,
+            String description, String unit, Type type) {
+        return new Builder(instrumentationLibraryInfo, name, description, unit, type);
+    }
+
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return instrumentationLibraryInfo;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public AggregationTemporality getTemporality() {
+        return temporality;
+    }
+
+    /**
+     * Returns the time of the collection, which is the end time of every point.
+     */
+    public long getEpochNanos() {
+        return epochNanos;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public Labels getLabels(int index) {
+        return labels[checkIndex(index)];
+    }
+
+    public long getStartEpochNanos(int index) {
+        return startEpochNanos[checkIndex(index)];
+    }
+
+    public double getValue(int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Returns the distribution of a histogram point, or {@code null} if the metric is not a histogram.
+     */
+    public HistogramSnapshot getHistogram(int index) {
+        checkIndex(index);
+        return histograms == null ? null : histograms[index];
+    }
+
+    /**
+     * Returns the exemplars of a point, which is empty unless measurements of its series were made within sampled
+     * spans.
+     */
+    public List<Exemplar> getExemplars(int index) {
+        checkIndex(index);
+        List<Exemplar> pointExemplars = exemplars == null ? null : exemplars[index];
+        return pointExemplars != null ? pointExemplars : Collections.emptyList();
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= pointCount) {
+            throw new IndexOutOfBoundsException("Point " + index + " of " + pointCount);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricData{instrumentationLibraryInfo=" + instrumentationLibraryInfo + ", name=" + name + ", type="
+                + type + ", temporality=" + temporality + ", points=" + pointCount + "}";
+    }
+
+    /**
+     * Accumulates the points of a metric into growable columns.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+        private final String name;
+        private final String description;
+        private final String unit;
+        private final Type type;
+        private int size;
+        private Labels[] labels = new Labels[INITIAL_CAPACITY];
+        private long[] startEpochNanos = new long[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private HistogramSnapshot[] histograms;
+        // Only allocated once a point has exemplars
+        private List<Exemplar>[] exemplars;
+
+        private Builder(InstrumentationLibraryInfo instrumentationLibraryInfo, String name, String description,
+                String unit, Type type) {
+            this.instrumentationLibraryInfo = Objects.requireNonNull(instrumentationLibraryInfo);
+            this.name = Objects.requireNonNull(name);
+            this.description = description;
+            this.unit = unit;
+            this.type = Objects.requireNonNull(type);
+            if (type == Type.HISTOGRAM) {
+                histograms = new HistogramSnapshot[INITIAL_CAPACITY];
+            }
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public Builder addPoint(Labels labels, long startEpochNanos, double value) {
+            return addPoint(labels, startEpochNanos, value, Collections.emptyList());
+        }
+
+        public Builder addPoint(Labels labels, long startEpochNanos, double value, List<Exemplar> pointExemplars) {
+            if (type == Type.HISTOGRAM) {
+                throw new IllegalStateException("Histogram points require a distribution: " + name);
+            }
+            int index = append(labels, startEpochNanos, value);
+            setExemplars(index, pointExemplars);
+            return this;
+        }
+
+        public Builder addPoint(Labels labels, long startEpochNanos, HistogramSnapshot histogram) {
+            return addPoint(labels, startEpochNanos, histogram, Collections.emptyList());
+        }
+
+        public Builder addPoint(Labels labels, long startEpochNanos, HistogramSnapshot histogram,
+                List<Exemplar> pointExemplars) {
+            if (type != Type.HISTOGRAM) {
+                throw new IllegalStateException("Metric is not a histogram: " + name);
+            }
+            // append may grow the columns, so the index has to be taken before reading the array
+            int index = append(labels, startEpochNanos, histogram.getSum());
+            histograms[index] = histogram;
+            setExemplars(index, pointExemplars);
+            return this;
+        }
+
+        public MetricData build(AggregationTemporality temporality, long epochNanos) {
+            return new MetricData(this, Objects.requireNonNull(temporality), epochNanos);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setExemplars(int index, List<Exemplar> pointExemplars) {
+            if (pointExemplars.isEmpty()) {
+                return;
+            }
+            if (exemplars == null) {
+                exemplars = (List<Exemplar>[]) new List<?>[labels.length];
+            }
+            exemplars[index] = pointExemplars;
+        }
+
+        private int append(Labels pointLabels, long pointStartEpochNanos, double value) {
+            if (size == labels.length) {
+                int capacity = size * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                startEpochNanos = Arrays.copyOf(startEpochNanos, capacity);
+                values = Arrays.copyOf(values, capacity);
+                if (histograms != null) {
+                    histograms = Arrays.copyOf(histograms, capacity);
+                }
+                if (exemplars != null) {
+                    exemplars = Arrays.copyOf(exemplars, capacity);
+                }
+            }
+            labels[size] = Objects.requireNonNull(pointLabels);
+            startEpochNanos[size] = pointStartEpochNanos;
+            values[size] = value;
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.opentelemetry.sdk.metrics.export;
+
+import java.util.Collection;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+
+/**
+ * Sends collected metrics to a backend. Exporters receive the immutable batches produced by a {@link MetricProducer},
+ * so they do not need to read the accumulators themselves.
+ */
+public interface MetricExporter {
+
+    /**
+     * Exports a batch of metrics. The batch must not be modified, as it may be shared with other exporters.
+     */
+    CompletableResultCode export(Collection<MetricData> metrics);
+
+    /**
+     * Exports any metrics buffered by the exporter.
+     */
+    CompletableResultCode flush();
+
+    /**
+     * Releases the resources of the exporter. No export is made after shutdown.
+     */
+    CompletableResultCode shutdown();
+}
@@ -0,0 +1,15 @@
+package io.smallrye.opentelemetry.sdk.metrics.export;
+
+import java.util.Collection;
+
+/**
+ * Reads the current values of a set of instruments. Each call is a single pass over the accumulators, and the result
+ * can be handed to any number of {@link MetricExporter}s.
+ */
+public interface MetricProducer {
+
+    /**
+     * Returns one {@link MetricData} per metric name, holding a point for each series of that metric.
+     */
+    Collection<MetricData> collectAllMetrics();
+}
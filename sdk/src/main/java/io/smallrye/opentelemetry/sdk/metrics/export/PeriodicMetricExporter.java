@@ -0,0 +1,327 @@
+package io.smallrye.opentelemetry.sdk.metrics.export;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownSumObserver;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.DaemonThreadFactory;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Collects metrics from a {@link MetricProducer} on a fixed interval and hands each batch to a set of
+ * {@link MetricExporter}s.
+ * <p>
+ * Collection and export run on two dedicated threads connected by a bounded queue, so a slow backend never blocks
+ * application threads, and never delays collection by more than the queue capacity. When the queue is full, the
+ * {@link DropPolicy} decides which batch is discarded. Each exporter is called from a thread of its own and waited
+ * for at most the export timeout, so an exporter blocking the calling thread cannot hold the others back. A batch is
+ * skipped for an exporter whose previous export still blocks its thread.
+ * <p>
+ * The exporter reports its own queue depth, dropped batches and export latency as metrics of the
+ * {@value #INSTRUMENTATION_NAME} instrumentation library, labeled with {@value #INSTANCE_LABEL} to tell instances
+ * apart. They are removed from the registry on shutdown.
+ */
+public final class PeriodicMetricExporter {
+    private static final Logger LOGGER = Logger.getLogger(PeriodicMetricExporter.class.getName());
+
+    public static final String INSTRUMENTATION_NAME = "io.smallrye.opentelemetry.sdk.export";
+    public static final String INSTANCE_LABEL = "otel.sdk.instance";
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public enum DropPolicy {
+        /**
+         * Discards the batch that was just collected.
+         */
+        DROP_NEWEST,
+        /**
+         * Discards the oldest batch waiting in the queue to make room for the new one.
+         */
+        DROP_OLDEST
+    }
+
+    private static final Collection<MetricData> POISON = new ArrayList<>();
+
+    private final MetricProducer producer;
+    private final List<Export> exports;
+    private final Duration interval;
+    private final Duration exportTimeout;
+    private final DropPolicy dropPolicy;
+    private final BlockingQueue<Collection<MetricData>> queue;
+    private final ScheduledExecutorService collector;
+    private final Thread exportThread;
+    private final String instance;
+    private final Labels labels;
+    private final LongUpDownSumObserver queueSize;
+    private final LongCounter droppedBatches;
+    private final DoubleValueRecorder exportLatency;
+    // Guards the queue against batches queued or polled once the poison batch may be in it
+    private final Object queueLock = new Object();
+    private volatile boolean shutdown;
+
+    private PeriodicMetricExporter(Builder builder) {
+        this.producer = builder.producer;
+        this.interval = builder.interval;
+        this.exportTimeout = builder.exportTimeout;
+        this.dropPolicy = builder.dropPolicy;
+        this.queue = new ArrayBlockingQueue<>(builder.queueSize);
+        this.instance = "metrics-" + INSTANCES.incrementAndGet();
+        this.labels = Labels.of(INSTANCE_LABEL, instance);
+        this.exports = new ArrayList<>(builder.exporters.size());
+        for (MetricExporter exporter : builder.exporters) {
+            exports.add(new Export(exporter, Labels.of(INSTANCE_LABEL, instance, "exporter",
+                    exporter.getClass().getSimpleName())));
+        }
+
+        Meter meter = OpenTelemetryMeterRegistry.INSTANCE.meter(INSTRUMENTATION_NAME, null);
+        this.queueSize = meter.longUpDownSumObserverBuilder("otel.sdk.export.queue.size")
+                .setDescription("Metric batches waiting to be exported")
+                .setCallback(result -> result.observe(queue.size(), labels))
+                .build();
+        this.droppedBatches = meter.longCounterBuilder("otel.sdk.export.dropped")
+                .setDescription("Metric batches dropped because the export queue was full")
+                .build();
+        this.exportLatency = meter.doubleValueRecorderBuilder("otel.sdk.export.latency")
+                .setDescription("Time taken by an exporter to export a batch of metrics")
+                .setUnit("ms")
+                .build();
+
+        this.collector = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("otel-metrics-export-collector"));
+        this.exportThread = new DaemonThreadFactory("otel-metrics-exporter").newThread(this::exportLoop);
+        this.exportThread.start();
+        long period = interval.toNanos();
+        this.collector.scheduleAtFixedRate(this::collectSafely, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    public static Builder builder(MetricProducer producer) {
+        return new Builder(producer);
+    }
+
+    /**
+     * Collects a batch now and queues it for export, applying the drop policy if the queue is full.
+     *
+     * @return {@code false} if a batch was dropped
+     */
+    public boolean collect() {
+        if (shutdown) {
+            return false;
+        }
+        return enqueue(producer.collectAllMetrics());
+    }
+
+    /**
+     * Stops collecting, exports the batches still in the queue, shuts the exporters down and removes the metrics of
+     * this instance from the registry.
+     *
+     * @return a result failing if an exporter failed to shut down
+     */
+    public CompletableResultCode shutdown() {
+        synchronized (queueLock) {
+            if (shutdown) {
+                return CompletableResultCode.ofSuccess();
+            }
+            shutdown = true;
+        }
+        collector.shutdown();
+        CompletableResultCode result = new CompletableResultCode();
+        Thread stopper = new DaemonThreadFactory("otel-metrics-export-shutdown").newThread(() -> {
+            try {
+                // No batch is queued from now on, so the export thread is the only one to take from the queue
+                queue.put(POISON);
+                exportThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().unregister(queueSize);
+            OpenTelemetryMeterRegistry.INSTANCE.removeSeries(INSTANCE_LABEL, instance);
+
+            List<CompletableResultCode> results = new ArrayList<>(exports.size());
+            for (Export export : exports) {
+                export.executor.shutdown();
+                try {
+                    results.add(export.exporter.shutdown());
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Shutdown of " + export.exporter + " failed", e);
+                    results.add(CompletableResultCode.ofFailure());
+                }
+            }
+            CompletableResultCode all = CompletableResultCode.ofAll(results);
+            all.whenComplete(() -> {
+                if (all.isSuccess()) {
+                    result.succeed();
+                } else {
+                    result.fail();
+                }
+            });
+        });
+        stopper.start();
+        return result;
+    }
+
+    private void collectSafely() {
+        try {
+            collect();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Metric collection failed", e);
+        }
+    }
+
+    private boolean enqueue(Collection<MetricData> batch) {
+        synchronized (queueLock) {
+            if (shutdown) {
+                return false;
+            }
+            if (queue.offer(batch)) {
+                return true;
+            }
+            if (dropPolicy == DropPolicy.DROP_OLDEST) {
+                // Only this method adds to the queue before shutdown, so the room made here is left for the batch
+                boolean dropped = queue.poll() != null;
+                queue.offer(batch);
+                if (!dropped) {
+                    return true;
+                }
+            }
+        }
+        droppedBatches.add(1, labels);
+        LOGGER.log(Level.FINE, "Export queue is full, dropped a metric batch");
+        return false;
+    }
+
+    private void exportLoop() {
+        while (true) {
+            Collection<MetricData> batch;
+            try {
+                batch = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch == POISON) {
+                return;
+            }
+            for (Export export : exports) {
+                export(export, batch);
+            }
+        }
+    }
+
+    private void export(Export export, Collection<MetricData> batch) {
+        MetricExporter exporter = export.exporter;
+        if (export.pending != null && !export.pending.isDone()) {
+            LOGGER.log(Level.WARNING, "Skipping a metric batch for {0}, previous export is still running", exporter);
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + exportTimeout.toNanos();
+        try {
+            export.pending = export.executor.submit(() -> exporter.export(batch));
+            CompletableResultCode result = export.pending.get(exportTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                    .join(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!result.isDone()) {
+                LOGGER.log(Level.WARNING, "Export to {0} timed out after {1}", new Object[] { exporter, exportTimeout });
+            } else if (!result.isSuccess()) {
+                LOGGER.log(Level.WARNING, "Export to {0} failed", exporter);
+            }
+        } catch (TimeoutException e) {
+            LOGGER.log(Level.WARNING, "Export to {0} timed out after {1}", new Object[] { exporter, exportTimeout });
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Export to " + exporter + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exportLatency.record((System.nanoTime() - start) / 1_000_000d, export.labels);
+        }
+    }
+
+    private static final class Export {
+        final MetricExporter exporter;
+        final Labels labels;
+        final ExecutorService executor;
+        // Only used by the export thread
+        Future<CompletableResultCode> pending;
+
+        Export(MetricExporter exporter, Labels labels) {
+            this.exporter = exporter;
+            this.labels = labels;
+            this.executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("otel-metrics-export"));
+        }
+    }
+
+    public static final class Builder {
+        private final MetricProducer producer;
+        private final List<MetricExporter> exporters = new ArrayList<>();
+        private Duration interval = Duration.ofSeconds(60);
+        private Duration exportTimeout = Duration.ofSeconds(30);
+        private int queueSize = 4;
+        private DropPolicy dropPolicy = DropPolicy.DROP_OLDEST;
+
+        private Builder(MetricProducer producer) {
+            this.producer = Objects.requireNonNull(producer);
+        }
+
+        public Builder addExporter(MetricExporter exporter) {
+            exporters.add(Objects.requireNonNull(exporter));
+            return this;
+        }
+
+        public Builder setInterval(Duration interval) {
+            this.interval = positive(interval, "Export interval");
+            return this;
+        }
+
+        public Builder setExportTimeout(Duration exportTimeout) {
+            this.exportTimeout = positive(exportTimeout, "Export timeout");
+            return this;
+        }
+
+        public Builder setQueueSize(int queueSize) {
+            if (queueSize < 1) {
+                throw new IllegalArgumentException("Queue size must be positive: " + queueSize);
+            }
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public Builder setDropPolicy(DropPolicy dropPolicy) {
+            this.dropPolicy = Objects.requireNonNull(dropPolicy);
+            return this;
+        }
+
+        /**
+         * Starts the collection and export threads.
+         */
+        public PeriodicMetricExporter build() {
+            if (exporters.isEmpty()) {
+                throw new IllegalStateException("At least one exporter is required");
+            }
+            return new PeriodicMetricExporter(this);
+        }
+
+        private static Duration positive(Duration duration, String name) {
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.opentelemetry.sdk.metrics.export;
+
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+/**
+ * Receives the series of a registry one at a time, reading their accumulators in place. Unlike
+ * {@link MetricProducer#collectAllMetrics()}, visiting does not copy the values of all series before they are written,
+ * so exporters can stream any number of series with a fixed amount of memory.
+ * <p>
+ * The series of a metric are visited together: {@link #visitMetric} is called once per metric name, followed by one
+ * call per series of that metric. Histograms are read while they may still be updated, so their buckets and sum are
+ * only approximately consistent with each other.
+ */
+public interface SeriesVisitor {
+
+    /**
+     * Starts a metric. The series that follow, until the next call, have the given name and type.
+     *
+     * @param first the first series of the metric, providing its name, description, unit and instrumentation library
+     */
+    void visitMetric(Series<?> first, MetricData.Type type);
+
+    /**
+     * Visits a sum or gauge series of the current metric.
+     */
+    void visitValue(Series<?> series, double value);
+
+    /**
+     * Visits a histogram series of the current metric.
+     */
+    void visitHistogram(Series<?> series, Histogram histogram);
+}
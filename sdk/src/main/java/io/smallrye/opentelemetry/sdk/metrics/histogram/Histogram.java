@@ -0,0 +1,158 @@
+package io.smallrye.opentelemetry.sdk.metrics.histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * A fixed memory, log-linear histogram.
+ * <p>
+ * Each power of two between {@code 2^MIN_EXPONENT} and {@code 2^(MAX_EXPONENT + 1)} is split into
+ * {@code 2^SUB_BUCKET_BITS} buckets of equal width, so a value is known within a relative error of
+ * {@code 2^-SUB_BUCKET_BITS}. Smaller and larger magnitudes are clamped to the first and last bucket. The bucket of
+ * a value is taken from the bits of its exponent and mantissa, without computing a logarithm.
+ * <p>
+ * Recording does not allocate: it is an atomic increment of one bucket and an addition to a striped sum. The largest
+ * value is tracked exactly, and only written when a new maximum is recorded. Negative values are counted in a second set of
+ * buckets, allocated the first time a negative value is recorded.
+ * All histograms share the same bucket layout, so their {@link HistogramSnapshot snapshots} can be merged.
+ */
+public class Histogram {
+    public static final int SUB_BUCKET_BITS = 3;
+    public static final int MIN_EXPONENT = -24;
+    public static final int MAX_EXPONENT = 39;
+    public static final int BUCKET_COUNT = (MAX_EXPONENT - MIN_EXPONENT + 1) << SUB_BUCKET_BITS;
+
+    private static final int SUB_BUCKET_MASK = (1 << SUB_BUCKET_BITS) - 1;
+    private static final int MANTISSA_BITS = 52;
+    private static final int EXPONENT_BIAS = 1023;
+
+    private final AtomicLongArray positive = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicReference<AtomicLongArray> negative = new AtomicReference<>();
+    private final AtomicLong zeroCount = new AtomicLong();
+    private final DoubleAdder sum = new DoubleAdder();
+    private final AtomicLong max = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+
+    public void record(double value) {
+        if (value > 0) {
+            positive.getAndIncrement(bucketIndex(value));
+        } else if (value < 0) {
+            negativeBuckets().getAndIncrement(bucketIndex(-value));
+        } else if (value == 0) {
+            zeroCount.getAndIncrement();
+        } else {
+            // NaN is not recorded
+            return;
+        }
+        sum.add(value);
+        updateMax(value);
+    }
+
+    public long count() {
+        long count = zeroCount.get() + count(positive);
+        AtomicLongArray buckets = negative.get();
+        if (buckets != null) {
+            count += count(buckets);
+        }
+        return count;
+    }
+
+    public double sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest value recorded so far, or {@code NaN} when nothing was recorded.
+     */
+    public double max() {
+        return Double.longBitsToDouble(max.get());
+    }
+
+    public long zeroCount() {
+        return zeroCount.get();
+    }
+
+    /**
+     * Returns the number of negative values recorded so far.
+     */
+    public long negativeCount() {
+        AtomicLongArray buckets = negative.get();
+        return buckets != null ? count(buckets) : 0;
+    }
+
+    /**
+     * Returns the current count of a positive bucket, without copying the other buckets.
+     */
+    public long positiveCount(int index) {
+        return positive.get(index);
+    }
+
+    public HistogramSnapshot snapshot() {
+        AtomicLongArray buckets = negative.get();
+        return new HistogramSnapshot(zeroCount.get(), sum.sum(), toArray(positive),
+                buckets != null ? toArray(buckets) : null);
+    }
+
+    /**
+     * Returns the bucket holding the given positive magnitude.
+     */
+    public static int bucketIndex(double magnitude) {
+        long bits = Double.doubleToRawLongBits(magnitude);
+        int exponent = (int) ((bits >>> MANTISSA_BITS) & 0x7ff) - EXPONENT_BIAS;
+        if (exponent < MIN_EXPONENT) {
+            return 0;
+        }
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (bits >>> (MANTISSA_BITS - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+        return ((exponent - MIN_EXPONENT) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    public static double lowerBound(int index) {
+        int exponent = (index >> SUB_BUCKET_BITS) + MIN_EXPONENT;
+        int subBucket = index & SUB_BUCKET_MASK;
+        return Math.scalb(1.0 + (double) subBucket / (1 << SUB_BUCKET_BITS), exponent);
+    }
+
+    public static double upperBound(int index) {
+        return lowerBound(index + 1);
+    }
+
+    private void updateMax(double value) {
+        long current;
+        do {
+            current = max.get();
+            double currentMax = Double.longBitsToDouble(current);
+            if (value <= currentMax) {
+                return;
+            }
+        } while (!max.compareAndSet(current, Double.doubleToRawLongBits(value)));
+    }
+
+    private AtomicLongArray negativeBuckets() {
+        AtomicLongArray buckets = negative.get();
+        if (buckets == null) {
+            negative.compareAndSet(null, new AtomicLongArray(BUCKET_COUNT));
+            buckets = negative.get();
+        }
+        return buckets;
+    }
+
+    private static long count(AtomicLongArray buckets) {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    private static long[] toArray(AtomicLongArray buckets) {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,123 @@
+package io.smallrye.opentelemetry.sdk.metrics.histogram;
+
+/**
+ * An immutable copy of the buckets of a {@link Histogram}.
+ * <p>
+ * Snapshots of different series, or received from other processes, can be combined with {@link #merge}, as every
+ * histogram uses the same bucket layout.
+ */
+public final class HistogramSnapshot {
+    private static final long[] EMPTY = new long[Histogram.BUCKET_COUNT];
+
+    private final long zeroCount;
+    private final double sum;
+    private final long[] positive;
+    private final long[] negative;
+    private final long count;
+
+    HistogramSnapshot(long zeroCount, double sum, long[] positive, long[] negative) {
+        this.zeroCount = zeroCount;
+        this.sum = sum;
+        this.positive = positive;
+        this.negative = negative != null ? negative : EMPTY;
+        this.count = zeroCount + total(this.positive) + total(this.negative);
+    }
+
+    /**
+     * Rebuilds a snapshot from its exported parts, for instance to merge snapshots of several processes.
+     *
+     * @param positive the counts of the positive buckets, {@link Histogram#BUCKET_COUNT} long
+     * @param negative the counts of the negative buckets, indexed by magnitude, or {@code null} if there are none
+     */
+    public static HistogramSnapshot of(long zeroCount, double sum, long[] positive, long[] negative) {
+        checkLength(positive);
+        if (negative != null) {
+            checkLength(negative);
+        }
+        return new HistogramSnapshot(zeroCount, sum, positive.clone(), negative != null ? negative.clone() : null);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public long getZeroCount() {
+        return zeroCount;
+    }
+
+    public long getPositiveCount(int index) {
+        return positive[index];
+    }
+
+    public long getNegativeCount(int index) {
+        return negative[index];
+    }
+
+    /**
+     * Returns an approximation of the value below which the given percentage of recorded values fall, or {@code NaN}
+     * when the snapshot is empty. Values are reported as the middle of their bucket.
+     */
+    public double valueAtPercentile(double percentile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = Histogram.BUCKET_COUNT - 1; i >= 0; i--) {
+            seen += negative[i];
+            if (seen >= rank) {
+                return -middle(i);
+            }
+        }
+        seen += zeroCount;
+        if (seen >= rank) {
+            return 0;
+        }
+        for (int i = 0; i < Histogram.BUCKET_COUNT; i++) {
+            seen += positive[i];
+            if (seen >= rank) {
+                return middle(i);
+            }
+        }
+        return middle(Histogram.BUCKET_COUNT - 1);
+    }
+
+    public HistogramSnapshot merge(HistogramSnapshot other) {
+        long[] mergedPositive = new long[Histogram.BUCKET_COUNT];
+        long[] mergedNegative = new long[Histogram.BUCKET_COUNT];
+        for (int i = 0; i < Histogram.BUCKET_COUNT; i++) {
+            mergedPositive[i] = positive[i] + other.positive[i];
+            mergedNegative[i] = negative[i] + other.negative[i];
+        }
+        return new HistogramSnapshot(zeroCount + other.zeroCount, sum + other.sum, mergedPositive, mergedNegative);
+    }
+
+    private static double middle(int index) {
+        return (Histogram.lowerBound(index) + Histogram.upperBound(index)) / 2;
+    }
+
+    private static long total(long[] counts) {
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        return total;
+    }
+
+    private static void checkLength(long[] counts) {
+        if (counts.length != Histogram.BUCKET_COUNT) {
+            throw new IllegalArgumentException(
+                    "Expected " + Histogram.BUCKET_COUNT + " buckets, got " + counts.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{count=" + count + ", sum=" + sum + "}";
+    }
+}
@@ -0,0 +1,112 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+/**
+ * An instrument whose values are reported by a callback. The callback is invoked by the {@link CollectionScheduler}
+ * once per collection cycle, and the observed values are cached until the next cycle.
+ * <p>
+ * The instrument is also the result handed to its callback, so a collection cycle does not allocate for series that
+ * were already observed.
+ *
+ * @param <R> the type of result handed to the callback
+ * @param <V> the type of cached value backing each series
+ */
+abstract class AbstractAsynchronousInstrument<R extends AsynchronousInstrument.Result, V extends ObservedValue>
+        implements AsynchronousInstrument<R> {
+
+    final OpenTelemetryMeter meter;
+    final Meter.Id meterId;
+
+    private final Class<V> valueType;
+    private final Function<Meter.Id, V> factory;
+    private final ConcurrentMap<Labels, Series<V>> values = new ConcurrentHashMap<>();
+    private volatile int generation;
+    private volatile Callback<R> callback;
+    private volatile boolean enabled = true;
+    private volatile int enabledGeneration = -1;
+
+    AbstractAsynchronousInstrument(OpenTelemetryMeter meter, Meter.Id meterId, Class<V> valueType,
+            Function<Meter.Id, V> factory) {
+        this.meter = meter;
+        this.meterId = meterId;
+        this.valueType = valueType;
+        this.factory = factory;
+    }
+
+    /**
+     * @deprecated the callback should be set on the builder of the instrument
+     */
+    @Deprecated
+    @Override
+    public void setCallback(Callback<R> callback) {
+        updateCallback(callback);
+    }
+
+    void updateCallback(Callback<R> callback) {
+        this.callback = Objects.requireNonNull(callback);
+    }
+
+    /**
+     * Invokes the callback, if any, unless a meter filter added since the instrument was built denies it. Only called
+     * from the collection scheduler.
+     */
+    void collect() {
+        Callback<R> current = callback;
+        if (current != null && isEnabled()) {
+            current.update(result());
+        }
+    }
+
+    /**
+     * Returns whether the meter filters of the registry accept this instrument, checked again whenever the generation
+     * of the registry changes.
+     */
+    private boolean isEnabled() {
+        int current = OpenTelemetryMeterRegistry.INSTANCE.generation();
+        if (current != enabledGeneration) {
+            enabled = OpenTelemetryMeterRegistry.INSTANCE.isEnabled(meterId);
+            enabledGeneration = current;
+        }
+        return enabled;
+    }
+
+    abstract R result();
+
+    boolean claimSeriesType() {
+        return OpenTelemetryMeterRegistry.INSTANCE.claimSeriesType(meterId.getName(), valueType);
+    }
+
+    void record(double value, Labels labels) {
+        Objects.requireNonNull(labels, "labels");
+        int current = OpenTelemetryMeterRegistry.INSTANCE.generation();
+        if (current != generation) {
+            values.clear();
+            generation = current;
+        }
+
+        Series<V> observed = values.get(labels);
+        if (observed == null) {
+            observed = values.computeIfAbsent(labels, this::resolve);
+        }
+        observed.touch(OpenTelemetryMeterRegistry.INSTANCE.epoch());
+        observed.getAccumulator().set(value);
+    }
+
+    private Series<V> resolve(Labels labels) {
+        Meter.Id id = meterId.replaceTags(LabelConverter.toTags(labels, meterId.getTagsAsIterable()));
+        return OpenTelemetryMeterRegistry.INSTANCE.series(meter.getInstrumentationLibraryInfo(), id, valueType,
+                factory);
+    }
+}
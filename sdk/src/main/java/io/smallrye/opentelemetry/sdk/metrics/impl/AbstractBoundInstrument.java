@@ -0,0 +1,124 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.ExemplarReservoir;
+
+/**
+ * A synchronous instrument bound to a single {@link Labels} set. The series is resolved once and only resolved again
+ * when {@link OpenTelemetryMeterRegistry#generation()} changes. Each update records the current epoch on the series, so
+ * idle series can be evicted.
+ *
+ * @param <A> the type of accumulator backing the instrument
+ */
+abstract class AbstractBoundInstrument<A> {
+    private static final int RELEASED = -1;
+
+    final Labels labels;
+
+    private final AtomicInteger refCount = new AtomicInteger();
+    private volatile Resolved<A> resolved;
+
+    AbstractBoundInstrument(Labels labels) {
+        this.labels = labels;
+    }
+
+    A accumulator() {
+        return series().getAccumulator();
+    }
+
+    /**
+     * Returns the accumulator of the series, offering the measurement as an exemplar of the series when it is made
+     * within a sampled span. Without one, this only costs the lookup of the current span.
+     */
+    A accumulator(double measurement) {
+        Series<A> resolved = series();
+        if (ExemplarReservoir.ENABLED) {
+            SpanContext spanContext = Span.fromContext(Context.current()).getSpanContext();
+            if (spanContext.isSampled()) {
+                resolved.offerExemplar(measurement, spanContext);
+            }
+        }
+        return resolved.getAccumulator();
+    }
+
+    private Series<A> series() {
+        OpenTelemetryMeterRegistry registry = OpenTelemetryMeterRegistry.INSTANCE;
+        int current = registry.generation();
+        Resolved<A> cached = resolved;
+        if (cached == null || current != cached.generation) {
+            // The generation is read before resolving, so a series removed meanwhile is resolved again next time
+            cached = new Resolved<>(resolve(), current);
+            resolved = cached;
+        }
+        cached.series.touch(registry.epoch());
+        return cached.series;
+    }
+
+    abstract Series<A> resolve();
+
+    /**
+     * Applies a measurement buffered by a {@link BatchRecorderImpl}. Long instruments read {@code longValue} and double
+     * instruments read {@code doubleValue}.
+     */
+    abstract void applyBatched(long longValue, double doubleValue);
+
+    /**
+     * Acquires a reference for a caller of {@code bind()}. Fails once the bound instrument was released after the
+     * eviction of its series, in which case the caller must look up a new bound instrument.
+     */
+    boolean retain() {
+        int count;
+        do {
+            count = refCount.get();
+            if (count == RELEASED) {
+                return false;
+            }
+        } while (!refCount.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Releases the bound instrument if no caller holds a reference and its series was evicted, so the parent can drop
+     * it. Fails if the bound instrument is in use.
+     */
+    boolean releaseIfEvicted() {
+        Resolved<A> cached = resolved;
+        return cached != null && cached.series.isRemoved() && refCount.compareAndSet(0, RELEASED);
+    }
+
+    /**
+     * Returns whether the bound instrument was released after the eviction of its series, and dropped by its parent.
+     */
+    boolean isReleased() {
+        return refCount.get() == RELEASED;
+    }
+
+    /**
+     * Releases a reference acquired by {@link #retain()}. The bound instrument stays cached by its parent without
+     * references, as for unbound measurements, since its series stays in the registry until it is evicted.
+     */
+    void release() {
+        refCount.decrementAndGet();
+    }
+
+    /**
+     * A series along with the generation it was resolved in, published together so that concurrent resolutions
+     * cannot pair a new generation with a series removed in an older one.
+     */
+    private static final class Resolved<A> {
+        final Series<A> series;
+        final int generation;
+
+        Resolved(Series<A> series, int generation) {
+            this.series = series;
+            this.generation = generation;
+        }
+    }
+}
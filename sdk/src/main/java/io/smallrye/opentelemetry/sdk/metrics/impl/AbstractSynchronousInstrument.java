@@ -0,0 +1,205 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.opentelemetry.api.common.Labels;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+/**
+ * Base class for synchronous instruments, caching a bound instrument for each {@link Labels} it has been used with.
+ * The number of cached label sets is bounded by the {@link CardinalityLimiter} of the meter. Labels are reduced to the
+ * keys kept by the view of the instrument first, so label sets that only differ by dropped keys share a bound
+ * instrument and count once toward the limit. A direct-mapped cache then maps the label sets recently used with the
+ * instrument to their bound instrument, so repeated measurements do not reduce their labels again.
+ * <p>
+ * A cached label set has a series in the registry, which outlives the references acquired by {@code bind()}. Bound
+ * instruments are therefore dropped from the cache, and stop counting toward the limit, only when their series is
+ * evicted.
+ *
+ * @param <B> the type of bound instrument
+ */
+abstract class AbstractSynchronousInstrument<B extends AbstractBoundInstrument<?>> {
+    static final Labels OVERFLOW_LABELS = Labels.of(CardinalityLimiter.OVERFLOW_LABEL, "true");
+
+    // Must be a power of two
+    private static final int FILTERED_CACHE_SIZE = 256;
+
+    final OpenTelemetryMeter meter;
+    final Meter.Id meterId;
+
+    private final Set<String> labelKeys;
+    private final ConcurrentMap<Labels, B> boundInstruments = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Filtered<B>> filtered;
+    private final AtomicInteger seriesCount = new AtomicInteger();
+    private volatile LongSum foldedMeasurements;
+    private volatile int foldedMeasurementsGeneration;
+    private volatile boolean enabled = true;
+    private volatile int enabledGeneration = -1;
+
+    /**
+     * @param labelKeys the label keys kept in the series of the instrument, or {@code null} to keep all of them
+     */
+    AbstractSynchronousInstrument(OpenTelemetryMeter meter, Meter.Id meterId, Set<String> labelKeys) {
+        this.meter = meter;
+        this.meterId = meterId;
+        this.labelKeys = labelKeys;
+        this.filtered = labelKeys != null ? new AtomicReferenceArray<>(FILTERED_CACHE_SIZE) : null;
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().track(this);
+    }
+
+    /**
+     * Returns whether the meter filters of the registry accept this instrument, checked again whenever the generation
+     * of the registry changes. Builders hand out no-op instruments for the instruments denied when they are built;
+     * this check covers the filters added afterwards.
+     */
+    boolean isEnabled() {
+        int current = OpenTelemetryMeterRegistry.INSTANCE.generation();
+        if (current != enabledGeneration) {
+            enabled = OpenTelemetryMeterRegistry.INSTANCE.isEnabled(meterId);
+            enabledGeneration = current;
+        }
+        return enabled;
+    }
+
+    /**
+     * Returns the bound instrument for the given labels, creating it on first use. When the cardinality limit is
+     * reached, returns the bound instrument of the overflow series instead.
+     */
+    B boundInstrument(Labels labels) {
+        if (labelKeys == null) {
+            B boundInstrument = boundInstruments.get(labels);
+            return boundInstrument != null ? boundInstrument : newBoundInstrumentOrOverflow(labels);
+        }
+
+        int index = index(labels.hashCode());
+        Filtered<B> entry = filtered.get(index);
+        if (entry != null && entry.labels.equals(labels) && !entry.boundInstrument.isReleased()) {
+            return entry.boundInstrument;
+        }
+
+        Labels kept = LabelConverter.filter(labels, labelKeys);
+        B boundInstrument = boundInstruments.get(kept);
+        if (boundInstrument == null) {
+            boundInstrument = newBoundInstrumentOrOverflow(kept);
+            if (boundInstrument.labels == OVERFLOW_LABELS) {
+                // Not cached, so the label set gets its own series once the limit allows it
+                return boundInstrument;
+            }
+        }
+        filtered.lazySet(index, new Filtered<>(labels, boundInstrument));
+        return boundInstrument;
+    }
+
+    /**
+     * Returns the bound instrument for the given labels with a reference held until it is unbound.
+     */
+    B acquireBoundInstrument(Labels labels) {
+        while (true) {
+            B boundInstrument = boundInstrument(labels);
+            if (boundInstrument.retain()) {
+                return boundInstrument;
+            }
+            remove(boundInstrument);
+        }
+    }
+
+    private void remove(AbstractBoundInstrument<?> boundInstrument) {
+        if (boundInstruments.remove(boundInstrument.labels, boundInstrument)) {
+            seriesCount.decrementAndGet();
+            meter.getCardinalityLimiter().seriesRemoved();
+        }
+    }
+
+    /**
+     * Drops the bound instruments whose series was evicted and that are not bound by any caller.
+     */
+    void evictIdle() {
+        for (B boundInstrument : boundInstruments.values()) {
+            if (boundInstrument.releaseIfEvicted()) {
+                remove(boundInstrument);
+            }
+        }
+    }
+
+    abstract B newBoundInstrument(Labels labels);
+
+    /**
+     * Returns the id of the series of the labels of a bound instrument, which were already reduced to the kept keys.
+     */
+    Meter.Id seriesId(Labels labels) {
+        return meterId.replaceTags(LabelConverter.toTags(labels, meterId.getTagsAsIterable()));
+    }
+
+    /**
+     * Returns the series of a label set, reported under the instrumentation library of the meter of this instrument.
+     */
+    <T> Series<T> series(Labels labels, Class<T> type, Function<Meter.Id, ? extends T> factory) {
+        return OpenTelemetryMeterRegistry.INSTANCE.series(meter.getInstrumentationLibraryInfo(), seriesId(labels), type,
+                factory);
+    }
+
+    private B newBoundInstrumentOrOverflow(Labels kept) {
+        if (!meter.getCardinalityLimiter().allows(seriesCount.get())) {
+            return overflow();
+        }
+        return boundInstruments.computeIfAbsent(kept, this::newSeries);
+    }
+
+    private B newSeries(Labels labels) {
+        seriesCount.incrementAndGet();
+        meter.getCardinalityLimiter().seriesAdded();
+        return newBoundInstrument(labels);
+    }
+
+    private B overflow() {
+        foldedMeasurements().add(1);
+        B boundInstrument = boundInstruments.get(OVERFLOW_LABELS);
+        if (boundInstrument == null) {
+            boundInstrument = boundInstruments.computeIfAbsent(OVERFLOW_LABELS, this::newSeries);
+        }
+        return boundInstrument;
+    }
+
+    private LongSum foldedMeasurements() {
+        int current = OpenTelemetryMeterRegistry.INSTANCE.generation();
+        LongSum resolved = foldedMeasurements;
+        if (resolved == null || current != foldedMeasurementsGeneration) {
+            Meter.Id id = new Meter.Id(CardinalityLimiter.FOLDED_MEASUREMENTS_METRIC,
+                    Tags.of("instrument", meterId.getName()), "1",
+                    "Measurements folded into the overflow series because a cardinality limit was reached",
+                    Meter.Type.COUNTER);
+            resolved = OpenTelemetryMeterRegistry.INSTANCE.series(meter.getInstrumentationLibraryInfo(), id, LongSum.class,
+                    LongSum::register).getAccumulator();
+            foldedMeasurements = resolved;
+            foldedMeasurementsGeneration = current;
+        }
+        return resolved;
+    }
+
+    private static int index(int hash) {
+        return (hash ^ (hash >>> 16)) & (FILTERED_CACHE_SIZE - 1);
+    }
+
+    /**
+     * A label set used with the instrument, along with the bound instrument of the labels it was reduced to.
+     */
+    private static final class Filtered<T> {
+        final Labels labels;
+        final T boundInstrument;
+
+        Filtered(Labels labels, T boundInstrument) {
+            this.labels = labels;
+            this.boundInstrument = boundInstrument;
+        }
+    }
+}
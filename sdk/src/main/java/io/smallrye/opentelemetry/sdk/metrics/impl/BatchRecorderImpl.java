@@ -0,0 +1,136 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Arrays;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BatchRecorder;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.LongValueRecorder;
+
+/**
+ * Records measurements for several instruments with the same {@link Labels}. Each instrument resolves the labels to
+ * its bound instrument once per recorder, and {@link #record()} applies the buffered measurements directly to the
+ * accumulators of the bound instruments.
+ * <p>
+ * The buffer is cleared by {@link #record()}, so a recorder can be reused. Like the other builders and recorders of the
+ * API, a recorder is not thread safe.
+ */
+public final class BatchRecorderImpl implements BatchRecorder {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Labels labels;
+
+    // Bound instruments already resolved by this recorder, in the order the instruments were first used
+    private AbstractSynchronousInstrument<?>[] instruments = new AbstractSynchronousInstrument<?>[INITIAL_CAPACITY];
+    private AbstractBoundInstrument<?>[] boundInstruments = new AbstractBoundInstrument<?>[INITIAL_CAPACITY];
+    private int resolved;
+
+    // Buffered measurements
+    private AbstractBoundInstrument<?>[] pending = new AbstractBoundInstrument<?>[INITIAL_CAPACITY];
+    private long[] longValues = new long[INITIAL_CAPACITY];
+    private double[] doubleValues = new double[INITIAL_CAPACITY];
+    private int size;
+
+    public BatchRecorderImpl(Labels labels) {
+        this.labels = labels;
+    }
+
+    @Override
+    public BatchRecorder put(LongValueRecorder valueRecorder, long value) {
+        return putLong(valueRecorder, value);
+    }
+
+    @Override
+    public BatchRecorder put(DoubleValueRecorder valueRecorder, double value) {
+        return putDouble(valueRecorder, value);
+    }
+
+    @Override
+    public BatchRecorder put(LongCounter counter, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("LongCounter can only increase.");
+        }
+        return putLong(counter, value);
+    }
+
+    @Override
+    public BatchRecorder put(DoubleCounter counter, double value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("DoubleCounter can only increase.");
+        }
+        return putDouble(counter, value);
+    }
+
+    @Override
+    public BatchRecorder put(LongUpDownCounter upDownCounter, long value) {
+        return putLong(upDownCounter, value);
+    }
+
+    @Override
+    public BatchRecorder put(DoubleUpDownCounter upDownCounter, double value) {
+        return putDouble(upDownCounter, value);
+    }
+
+    @Override
+    public void record() {
+        for (int i = 0; i < size; i++) {
+            pending[i].applyBatched(longValues[i], doubleValues[i]);
+            pending[i] = null;
+        }
+        size = 0;
+    }
+
+    private BatchRecorder putLong(Object instrument, long value) {
+        if (!NoopInstruments.isNoop(instrument)) {
+            int index = append(instrument);
+            longValues[index] = value;
+        }
+        return this;
+    }
+
+    private BatchRecorder putDouble(Object instrument, double value) {
+        if (!NoopInstruments.isNoop(instrument)) {
+            int index = append(instrument);
+            doubleValues[index] = value;
+        }
+        return this;
+    }
+
+    private int append(Object instrument) {
+        AbstractBoundInstrument<?> boundInstrument = boundInstrument(instrument);
+        if (size == pending.length) {
+            int capacity = size * 2;
+            pending = Arrays.copyOf(pending, capacity);
+            longValues = Arrays.copyOf(longValues, capacity);
+            doubleValues = Arrays.copyOf(doubleValues, capacity);
+        }
+        pending[size] = boundInstrument;
+        return size++;
+    }
+
+    private AbstractBoundInstrument<?> boundInstrument(Object instrument) {
+        for (int i = 0; i < resolved; i++) {
+            if (instruments[i] == instrument) {
+                return boundInstruments[i];
+            }
+        }
+
+        if (!(instrument instanceof AbstractSynchronousInstrument)) {
+            throw new IllegalArgumentException("Unsupported instrument: " + instrument);
+        }
+        AbstractSynchronousInstrument<?> synchronousInstrument = (AbstractSynchronousInstrument<?>) instrument;
+        AbstractBoundInstrument<?> boundInstrument = synchronousInstrument.boundInstrument(labels);
+        if (resolved == instruments.length) {
+            instruments = Arrays.copyOf(instruments, resolved * 2);
+            boundInstruments = Arrays.copyOf(boundInstruments, resolved * 2);
+        }
+        instruments[resolved] = synchronousInstrument;
+        boundInstruments[resolved] = boundInstrument;
+        resolved++;
+        return boundInstrument;
+    }
+}
@@ -0,0 +1,43 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+
+final class BoundDoubleCounterImpl extends AbstractBoundInstrument<DoubleSum> implements DoubleCounter.BoundDoubleCounter {
+    private final DoubleCounterImpl counter;
+
+    BoundDoubleCounterImpl(DoubleCounterImpl counter, Labels labels) {
+        super(labels);
+        this.counter = counter;
+    }
+
+    @Override
+    public void add(double increment) {
+        if (increment < 0) {
+            throw new IllegalArgumentException("DoubleCounter can only increase.");
+        }
+
+        if (counter.isEnabled()) {
+            accumulator(increment).add(increment);
+        }
+    }
+
+    @Override
+    void applyBatched(long longValue, double doubleValue) {
+        add(doubleValue);
+    }
+
+    @Override
+    public void unbind() {
+        release();
+    }
+
+    @Override
+    Series<DoubleSum> resolve() {
+        return counter.series(labels, DoubleSum.class,
+                counter.temporality == MetricData.AggregationTemporality.DELTA ? DoubleSum::registerDelta
+                        : DoubleSum::register);
+    }
+}
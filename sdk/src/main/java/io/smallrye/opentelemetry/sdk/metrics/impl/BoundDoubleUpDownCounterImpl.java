@@ -0,0 +1,37 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+
+final class BoundDoubleUpDownCounterImpl extends AbstractBoundInstrument<DoubleUpDownSum>
+        implements DoubleUpDownCounter.BoundDoubleUpDownCounter {
+    private final DoubleUpDownCounterImpl counter;
+
+    BoundDoubleUpDownCounterImpl(DoubleUpDownCounterImpl counter, Labels labels) {
+        super(labels);
+        this.counter = counter;
+    }
+
+    @Override
+    public void add(double increment) {
+        if (counter.isEnabled()) {
+            accumulator().add(increment);
+        }
+    }
+
+    @Override
+    void applyBatched(long longValue, double doubleValue) {
+        add(doubleValue);
+    }
+
+    @Override
+    public void unbind() {
+        release();
+    }
+
+    @Override
+    Series<DoubleUpDownSum> resolve() {
+        return counter.series(labels, DoubleUpDownSum.class, DoubleUpDownSum::register);
+    }
+}
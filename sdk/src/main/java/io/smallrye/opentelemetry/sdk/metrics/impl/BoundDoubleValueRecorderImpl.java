@@ -0,0 +1,38 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+final class BoundDoubleValueRecorderImpl extends AbstractBoundInstrument<Histogram>
+        implements DoubleValueRecorder.BoundDoubleValueRecorder {
+    private final DoubleValueRecorderImpl recorder;
+
+    BoundDoubleValueRecorderImpl(DoubleValueRecorderImpl recorder, Labels labels) {
+        super(labels);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void record(double value) {
+        if (recorder.isEnabled()) {
+            accumulator(value).record(value);
+        }
+    }
+
+    @Override
+    void applyBatched(long longValue, double doubleValue) {
+        record(doubleValue);
+    }
+
+    @Override
+    public void unbind() {
+        release();
+    }
+
+    @Override
+    Series<Histogram> resolve() {
+        return recorder.series(labels, Histogram.class, HistogramMeter::register);
+    }
+}
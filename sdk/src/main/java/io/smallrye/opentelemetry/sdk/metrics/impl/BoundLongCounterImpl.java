@@ -0,0 +1,43 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+
+final class BoundLongCounterImpl extends AbstractBoundInstrument<LongSum> implements LongCounter.BoundLongCounter {
+    private final LongCounterImpl counter;
+
+    BoundLongCounterImpl(LongCounterImpl counter, Labels labels) {
+        super(labels);
+        this.counter = counter;
+    }
+
+    @Override
+    public void add(long increment) {
+        if (increment < 0) {
+            throw new IllegalArgumentException("LongCounter can only increase.");
+        }
+
+        if (counter.isEnabled()) {
+            accumulator(increment).add(increment);
+        }
+    }
+
+    @Override
+    void applyBatched(long longValue, double doubleValue) {
+        add(longValue);
+    }
+
+    @Override
+    public void unbind() {
+        release();
+    }
+
+    @Override
+    Series<LongSum> resolve() {
+        return counter.series(labels, LongSum.class,
+                counter.temporality == MetricData.AggregationTemporality.DELTA ? LongSum::registerDelta
+                        : LongSum::register);
+    }
+}
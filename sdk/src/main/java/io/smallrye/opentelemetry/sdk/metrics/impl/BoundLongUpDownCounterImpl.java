@@ -0,0 +1,37 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+
+final class BoundLongUpDownCounterImpl extends AbstractBoundInstrument<LongUpDownSum>
+        implements LongUpDownCounter.BoundLongUpDownCounter {
+    private final LongUpDownCounterImpl counter;
+
+    BoundLongUpDownCounterImpl(LongUpDownCounterImpl counter, Labels labels) {
+        super(labels);
+        this.counter = counter;
+    }
+
+    @Override
+    public void add(long increment) {
+        if (counter.isEnabled()) {
+            accumulator().add(increment);
+        }
+    }
+
+    @Override
+    void applyBatched(long longValue, double doubleValue) {
+        add(longValue);
+    }
+
+    @Override
+    public void unbind() {
+        release();
+    }
+
+    @Override
+    Series<LongUpDownSum> resolve() {
+        return counter.series(labels, LongUpDownSum.class, LongUpDownSum::register);
+    }
+}
@@ -0,0 +1,83 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of series of the synchronous instruments of a meter. Once an instrument reached
+ * {@link #getMaxSeriesPerInstrument()} series, or all instruments of the meter together reached
+ * {@link #getMaxSeries()}, measurements with a new label set are folded into a single overflow series of the
+ * instrument, tagged with {@value #OVERFLOW_LABEL}.
+ * <p>
+ * Each folded measurement increments the {@value #FOLDED_MEASUREMENTS_METRIC} counter, tagged with the name of the
+ * instrument. It counts measurements rather than distinct label sets, which would have to be remembered without a
+ * bound, so a single label set over the limit counts once per measurement.
+ * <p>
+ * Limits are checked against counters, not by inspecting the series, so the check is constant time. Concurrent
+ * creation of series may exceed a limit by a few series.
+ */
+public final class CardinalityLimiter {
+    public static final String MAX_SERIES_PROPERTY = "io.smallrye.opentelemetry.metrics.max-series";
+    public static final String MAX_SERIES_PER_INSTRUMENT_PROPERTY = "io.smallrye.opentelemetry.metrics.max-series-per-instrument";
+
+    public static final int DEFAULT_MAX_SERIES = 100_000;
+    public static final int DEFAULT_MAX_SERIES_PER_INSTRUMENT = 10_000;
+
+    public static final String OVERFLOW_LABEL = "otel.metric.overflow";
+    public static final String FOLDED_MEASUREMENTS_METRIC = "otel.sdk.metrics.measurements.folded";
+
+    private final AtomicInteger seriesCount = new AtomicInteger();
+    private volatile int maxSeries;
+    private volatile int maxSeriesPerInstrument;
+
+    public CardinalityLimiter() {
+        this(Integer.getInteger(MAX_SERIES_PROPERTY, DEFAULT_MAX_SERIES),
+                Integer.getInteger(MAX_SERIES_PER_INSTRUMENT_PROPERTY, DEFAULT_MAX_SERIES_PER_INSTRUMENT));
+    }
+
+    public CardinalityLimiter(int maxSeries, int maxSeriesPerInstrument) {
+        setMaxSeries(maxSeries);
+        setMaxSeriesPerInstrument(maxSeriesPerInstrument);
+    }
+
+    public int getMaxSeries() {
+        return maxSeries;
+    }
+
+    public void setMaxSeries(int maxSeries) {
+        if (maxSeries < 1) {
+            throw new IllegalArgumentException("Maximum number of series must be positive: " + maxSeries);
+        }
+        this.maxSeries = maxSeries;
+    }
+
+    public int getMaxSeriesPerInstrument() {
+        return maxSeriesPerInstrument;
+    }
+
+    public void setMaxSeriesPerInstrument(int maxSeriesPerInstrument) {
+        if (maxSeriesPerInstrument < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum number of series per instrument must be positive: " + maxSeriesPerInstrument);
+        }
+        this.maxSeriesPerInstrument = maxSeriesPerInstrument;
+    }
+
+    /**
+     * Returns the number of series currently held by the synchronous instruments of the meter.
+     */
+    public int getSeriesCount() {
+        return seriesCount.get();
+    }
+
+    boolean allows(int instrumentSeriesCount) {
+        return instrumentSeriesCount < maxSeriesPerInstrument && seriesCount.get() < maxSeries;
+    }
+
+    void seriesAdded() {
+        seriesCount.incrementAndGet();
+    }
+
+    void seriesRemoved() {
+        seriesCount.decrementAndGet();
+    }
+}
@@ -0,0 +1,274 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.opentelemetry.sdk.common.DaemonThreadFactory;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Runs the callbacks of asynchronous instruments once per collection cycle. Registries only read the values cached
+ * by the last cycle, so expensive callbacks are not multiplied by the number of registries or scrapes.
+ * <p>
+ * Callbacks are batched per instrumentation library: each cycle submits one task per library to a small worker
+ * pool. A cycle waits at most {@link #getCallbackTimeout()} for the batches, cancelling those that did not complete.
+ * A library whose previous batch is still running is skipped for the cycle rather than queued behind it.
+ * <p>
+ * When idle series eviction is enabled with {@link #setIdleIntervals(int)}, each cycle also removes the series that
+ * were not updated for that many cycles from the registry and from its child registries, and drops them from the
+ * caches of the synchronous instruments.
+ * <p>
+ * The scheduler thread starts when the first asynchronous instrument is registered or when eviction is enabled.
+ */
+public final class CollectionScheduler {
+    private static final Logger LOGGER = Logger.getLogger(CollectionScheduler.class.getName());
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_CALLBACK_TIMEOUT = Duration.ofSeconds(5);
+
+    public static final String IDLE_INTERVALS_PROPERTY = "io.smallrye.opentelemetry.metrics.idle-intervals";
+
+    private static final int MAX_WORKERS = 4;
+
+    private final OpenTelemetryMeterRegistry registry;
+    private final ConcurrentMap<String, Batch> batches = new ConcurrentHashMap<>();
+    private final Queue<WeakReference<AbstractSynchronousInstrument<?>>> synchronousInstruments = new ConcurrentLinkedQueue<>();
+    private volatile Duration interval = DEFAULT_INTERVAL;
+    private volatile Duration callbackTimeout = DEFAULT_CALLBACK_TIMEOUT;
+    private volatile int idleIntervals = Integer.getInteger(IDLE_INTERVALS_PROPERTY, 0);
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> schedule;
+    private ExecutorService workers;
+
+    public CollectionScheduler(OpenTelemetryMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the time between two collection cycles, rescheduling the next cycle if the scheduler already runs.
+     */
+    public synchronized void setInterval(Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Collection interval must be positive: " + interval);
+        }
+        this.interval = interval;
+        if (schedule != null) {
+            schedule.cancel(false);
+            schedule = null;
+            start();
+        }
+    }
+
+    public Duration getCallbackTimeout() {
+        return callbackTimeout;
+    }
+
+    /**
+     * Sets how long a collection cycle waits for the callbacks of an instrumentation library before cancelling them.
+     */
+    public void setCallbackTimeout(Duration callbackTimeout) {
+        if (callbackTimeout.isNegative() || callbackTimeout.isZero()) {
+            throw new IllegalArgumentException("Callback timeout must be positive: " + callbackTimeout);
+        }
+        this.callbackTimeout = callbackTimeout;
+    }
+
+    public int getIdleIntervals() {
+        return idleIntervals;
+    }
+
+    /**
+     * Enables the eviction of series that were not updated for the given number of collection cycles, or disables it
+     * with {@code 0}.
+     */
+    public synchronized void setIdleIntervals(int idleIntervals) {
+        if (idleIntervals < 0) {
+            throw new IllegalArgumentException("Idle intervals must not be negative: " + idleIntervals);
+        }
+        this.idleIntervals = idleIntervals;
+        if (idleIntervals > 0 && schedule == null) {
+            start();
+        }
+    }
+
+    void track(AbstractSynchronousInstrument<?> instrument) {
+        synchronousInstruments.add(new WeakReference<>(instrument));
+        if (idleIntervals > 0) {
+            synchronized (this) {
+                if (schedule == null) {
+                    start();
+                }
+            }
+        }
+    }
+
+    void register(AbstractAsynchronousInstrument<?, ?> instrument) {
+        batches.computeIfAbsent(instrument.meter.getInstrumentationLibraryInfo().getName(), Batch::new).instruments
+                .add(instrument);
+        synchronized (this) {
+            if (schedule == null) {
+                start();
+            }
+        }
+    }
+
+    /**
+     * Stops invoking the callback of an asynchronous instrument, once the current collection cycle is over. Its series
+     * keep their last observed values until they are removed from the registry.
+     */
+    public synchronized void unregister(AsynchronousInstrument<?> instrument) {
+        for (Batch batch : batches.values()) {
+            batch.instruments.remove(instrument);
+        }
+    }
+
+    /**
+     * Runs a collection cycle on the calling thread, waiting for the callbacks of every instrumentation library or
+     * until the callback timeout elapses, then evicts idle series if enabled.
+     */
+    public synchronized void collect() {
+        if (!batches.isEmpty()) {
+            runCallbacks();
+        }
+        int idle = idleIntervals;
+        if (idle > 0) {
+            evictIdleSeries(idle);
+        }
+    }
+
+    private void evictIdleSeries(int idle) {
+        int evicted = registry.evictIdleSeries(idle);
+        if (evicted == 0) {
+            return;
+        }
+        Iterator<WeakReference<AbstractSynchronousInstrument<?>>> iterator = synchronousInstruments.iterator();
+        while (iterator.hasNext()) {
+            AbstractSynchronousInstrument<?> instrument = iterator.next().get();
+            if (instrument == null) {
+                iterator.remove();
+            } else {
+                instrument.evictIdle();
+            }
+        }
+        LOGGER.log(Level.FINE, "Evicted {0} idle series", evicted);
+    }
+
+    private void runCallbacks() {
+        if (workers == null) {
+            workers = Executors.newFixedThreadPool(MAX_WORKERS, new DaemonThreadFactory("otel-metrics-callback"));
+        }
+
+        for (Batch batch : batches.values()) {
+            if (batch.pending != null && !batch.pending.isDone()) {
+                LOGGER.log(Level.WARNING, "Skipping the callbacks of {0}, previous collection is still running",
+                        batch.name());
+                continue;
+            }
+            batch.pending = workers.submit(batch);
+        }
+
+        long deadline = System.nanoTime() + callbackTimeout.toNanos();
+        for (Map.Entry<String, Batch> entry : batches.entrySet()) {
+            Future<?> pending = entry.getValue().pending;
+            if (pending == null || pending.isDone()) {
+                continue;
+            }
+            try {
+                pending.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                pending.cancel(true);
+                LOGGER.log(Level.WARNING, "Callbacks of {0} did not complete within {1}, cancelled",
+                        new Object[] { entry.getValue().name(), callbackTimeout });
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.WARNING, "Callbacks of " + entry.getValue().name() + " failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the scheduler thread and the callback workers. The scheduler starts again when an asynchronous
+     * instrument is registered.
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            schedule = null;
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+    }
+
+    private void start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("otel-metrics-collector"));
+        }
+        long period = interval.toNanos();
+        schedule = scheduler.scheduleAtFixedRate(this::collectSafely, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    private void collectSafely() {
+        try {
+            collect();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Collection cycle failed", e);
+        }
+    }
+
+    private static final class Batch implements Runnable {
+        final String instrumentationName;
+        final List<AbstractAsynchronousInstrument<?, ?>> instruments = new CopyOnWriteArrayList<>();
+        volatile Future<?> pending;
+
+        Batch(String instrumentationName) {
+            this.instrumentationName = instrumentationName;
+        }
+
+        String name() {
+            return instrumentationName.isEmpty() ? "the default instrumentation library" : instrumentationName;
+        }
+
+        @Override
+        public void run() {
+            for (AbstractAsynchronousInstrument<?, ?> instrument : instruments) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                try {
+                    instrument.collect();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Callback of " + instrument.meterId.getName() + " failed", e);
+                }
+            }
+        }
+    }
+}
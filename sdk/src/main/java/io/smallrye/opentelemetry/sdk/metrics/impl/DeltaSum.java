@@ -0,0 +1,53 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+
+/**
+ * Base class of the counter sums reported with delta temporality.
+ * <p>
+ * Increments go to one of two striped cells. A collection swaps the cells with a single volatile write, so writers
+ * move to the other cell without ever blocking, and then reads the cell they moved away from. A writer that read the
+ * active cell just before the swap may still add to the retired cell after it was read. As cells are never reset,
+ * only compared to what was read from them last time, such an increment is reported by the next collection of that
+ * cell instead of being lost. Collecting neither allocates nor keeps any state besides the last value read from each
+ * cell.
+ */
+abstract class DeltaSum {
+    private static final Logger LOGGER = Logger.getLogger(DeltaSum.class.getName());
+
+    private volatile int active;
+
+    /**
+     * Logs that a series requested with delta temporality is backed by a Micrometer {@link Counter} registered
+     * beforehand, and is therefore reported with cumulative temporality.
+     */
+    static void warnCumulative(Meter.Id id) {
+        LOGGER.log(Level.WARNING, "Counter {0} is reported with cumulative temporality instead of delta, a Micrometer"
+                + " counter with the same name and tags was registered first", id.getName());
+    }
+
+    /**
+     * Returns the index of the cell increments go to.
+     */
+    final int active() {
+        return active;
+    }
+
+    /**
+     * Swaps the cells and returns the increments since the previous collection.
+     */
+    final synchronized double collect() {
+        int retired = active;
+        active = retired ^ 1;
+        return collect(retired);
+    }
+
+    /**
+     * Returns the increments of a cell since it was last collected, and remembers its current value.
+     */
+    abstract double collect(int cell);
+}
@@ -1,19 +1,31 @@
 package io.smallrye.opentelemetry.sdk.metrics.impl;
 
 import java.util.Objects;
+import java.util.Set;
 
-import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.opentelemetry.api.common.Labels;
 import io.opentelemetry.api.metrics.DoubleCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
 import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
 import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
 
-public class DoubleCounterImpl implements DoubleCounter, DoubleCounter.BoundDoubleCounter {
-    Meter.Id meterId;
+public class DoubleCounterImpl extends AbstractSynchronousInstrument<BoundDoubleCounterImpl> implements DoubleCounter {
+    final MetricData.AggregationTemporality temporality;
 
-    public DoubleCounterImpl(Meter.Id meterId) {
-        this.meterId = meterId;
+    public DoubleCounterImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        this(meter, meterId, MetricData.AggregationTemporality.CUMULATIVE, null);
+    }
+
+    /**
+     * @param labelKeys the label keys kept in the series of the counter, or {@code null} to keep all of them
+     */
+    public DoubleCounterImpl(OpenTelemetryMeter meter, Meter.Id meterId, MetricData.AggregationTemporality temporality,
+            Set<String> labelKeys) {
+        super(meter, meterId, labelKeys);
+        this.temporality = Objects.requireNonNull(temporality);
     }
 
     // DoubleCounter implementations
@@ -22,42 +34,37 @@ public class DoubleCounterImpl implements DoubleCounter, DoubleCounter.BoundDoub
         if (increment < 0) {
             throw new IllegalArgumentException("DoubleCounter can only increase.");
         }
-
-        counter(labels).increment(increment);
-    }
-
-    @Override
-    public BoundDoubleCounter bind(Labels labels) {
-        return new DoubleCounterImpl(this.meterId.withTags(LabelConverter.toTags(labels)));
+        if (isEnabled()) {
+            boundInstrument(labels).add(increment);
+        }
     }
 
-    // DoubleCounter.BoundDoubleCounter implementations
     @Override
     public void add(double increment) {
         add(increment, Labels.empty());
     }
 
     @Override
-    public void unbind() {
-        // No Op
+    public BoundDoubleCounter bind(Labels labels) {
+        return acquireBoundInstrument(labels);
     }
 
     // Internal methods
-    private Counter counter(Labels labels) {
-        return Counter.builder(meterId.getName())
-                .description(meterId.getDescription())
-                .baseUnit(meterId.getBaseUnit())
-                .tags(LabelConverter.toTags(labels).and(meterId.getTags()))
-                .register(OpenTelemetryMeterRegistry.INSTANCE);
+    @Override
+    BoundDoubleCounterImpl newBoundInstrument(Labels labels) {
+        return new BoundDoubleCounterImpl(this, labels);
     }
 
     public static final class Builder implements DoubleCounter.Builder {
+        private final OpenTelemetryMeter meter;
         private final String name;
         private String description;
         private String baseUnit = "1";
         private Labels labels = Labels.empty();
+        private MetricData.AggregationTemporality temporality = MetricData.AggregationTemporality.CUMULATIVE;
 
-        public Builder(String name) {
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
             this.name = name;
         }
 
@@ -73,13 +80,31 @@ public class DoubleCounterImpl implements DoubleCounter, DoubleCounter.BoundDoub
             return this;
         }
 
-        private Meter.Id constructMeterId() {
-            return new Meter.Id(name, LabelConverter.toTags(labels), baseUnit, description, Meter.Type.COUNTER);
+        /**
+         * Reports the counter with delta temporality: each collection by the metric producer of the registry only
+         * holds the increments since the previous one. Micrometer registries still read a cumulative count. When
+         * several counters share a series, the first one to create it sets its temporality.
+         */
+        public Builder setAggregationTemporality(MetricData.AggregationTemporality temporality) {
+            this.temporality = Objects.requireNonNull(temporality);
+            return this;
+        }
+
+        private Meter.Id constructMeterId(View view) {
+            return new Meter.Id(view.resolveName(name), LabelConverter.toTags(labels, meter.getLibraryTags()),
+                    baseUnit, view.resolveDescription(description), Meter.Type.COUNTER);
         }
 
         @Override
         public DoubleCounter build() {
-            return new DoubleCounterImpl(constructMeterId());
+            View view = meter.findView(name);
+            Meter.Id meterId = constructMeterId(view);
+            OpenTelemetryMeterRegistry registry = OpenTelemetryMeterRegistry.INSTANCE;
+            if (view.isDropped() || !registry.isEnabled(meterId)
+                    || !registry.claimSeriesType(meterId.getName(), DoubleSum.class)) {
+                return NoopInstruments.DOUBLE_COUNTER;
+            }
+            return new DoubleCounterImpl(meter, meterId, view.resolveTemporality(temporality), view.getLabelKeys());
         }
     }
 }
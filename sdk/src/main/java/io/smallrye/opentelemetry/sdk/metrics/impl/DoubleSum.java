@@ -0,0 +1,93 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.concurrent.atomic.DoubleAdder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Accumulates the increments of a double counter series.
+ */
+interface DoubleSum {
+    void add(double increment);
+
+    double sum();
+
+    /**
+     * Creates a striped sum exposed to Micrometer as a {@link FunctionCounter}, so updates from many threads do not
+     * contend on a single cell and the cells are only summed when a registry reads them. When a Micrometer
+     * {@link Counter} was already registered with the same name and tags, increments are applied to it instead.
+     */
+    static DoubleSum register(Meter.Id id) {
+        return register(id, new Striped());
+    }
+
+    /**
+     * Creates a sum reported with delta temporality. Micrometer still reads the total of both cells, so registries
+     * see a cumulative counter. A series already held by a Micrometer {@link Counter} cannot report deltas: it stays
+     * cumulative, and a warning is logged.
+     */
+    static DoubleSum registerDelta(Meter.Id id) {
+        return register(id, new Delta());
+    }
+
+    static DoubleSum register(Meter.Id id, DoubleSum sum) {
+        try {
+            FunctionCounter.builder(id.getName(), sum, DoubleSum::sum)
+                    .description(id.getDescription())
+                    .baseUnit(id.getBaseUnit())
+                    .tags(id.getTagsAsIterable())
+                    .register(OpenTelemetryMeterRegistry.INSTANCE);
+            return sum;
+        } catch (IllegalArgumentException e) {
+            if (sum instanceof DeltaSum) {
+                DeltaSum.warnCumulative(id);
+            }
+            Counter counter = Counter.builder(id.getName())
+                    .description(id.getDescription())
+                    .baseUnit(id.getBaseUnit())
+                    .tags(id.getTagsAsIterable())
+                    .register(OpenTelemetryMeterRegistry.INSTANCE);
+            return new DoubleSum() {
+                @Override
+                public void add(double increment) {
+                    counter.increment(increment);
+                }
+
+                @Override
+                public double sum() {
+                    return counter.count();
+                }
+            };
+        }
+    }
+
+    final class Striped extends DoubleAdder implements DoubleSum {
+        private static final long serialVersionUID = 1L;
+    }
+
+    final class Delta extends DeltaSum implements DoubleSum {
+        private final DoubleAdder[] cells = { new DoubleAdder(), new DoubleAdder() };
+        private final double[] collected = new double[2];
+
+        @Override
+        public void add(double increment) {
+            cells[active()].add(increment);
+        }
+
+        @Override
+        public double sum() {
+            return cells[0].sum() + cells[1].sum();
+        }
+
+        @Override
+        double collect(int cell) {
+            double sum = cells[cell].sum();
+            double delta = sum - collected[cell];
+            collected[cell] = sum;
+            return delta;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Objects;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.opentelemetry.api.metrics.DoubleSumObserver;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+public class DoubleSumObserverImpl
+        extends AbstractAsynchronousInstrument<AsynchronousInstrument.DoubleResult, ObservedValue.SumValue>
+        implements DoubleSumObserver, AsynchronousInstrument.DoubleResult {
+
+    public DoubleSumObserverImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        super(meter, meterId, ObservedValue.SumValue.class, ObservedValue.SumValue::register);
+    }
+
+    // DoubleResult implementations
+    @Override
+    public void observe(double value, Labels labels) {
+        record(value, labels);
+    }
+
+    // Internal methods
+    @Override
+    AsynchronousInstrument.DoubleResult result() {
+        return this;
+    }
+
+    public static final class Builder implements DoubleSumObserver.Builder {
+        private final OpenTelemetryMeter meter;
+        private final String name;
+        private String description;
+        private String baseUnit = "1";
+        private Labels labels = Labels.empty();
+        private Callback<DoubleResult> callback;
+
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
+            this.name = name;
+        }
+
+        @Override
+        public DoubleSumObserver.Builder setDescription(String description) {
+            this.description = Objects.requireNonNull(description);
+            return this;
+        }
+
+        @Override
+        public DoubleSumObserver.Builder setUnit(String unit) {
+            this.baseUnit = Objects.requireNonNull(unit);
+            return this;
+        }
+
+        @Override
+        public DoubleSumObserver.Builder setCallback(Callback<DoubleResult> callback) {
+            this.callback = Objects.requireNonNull(callback);
+            return this;
+        }
+
+        private Meter.Id constructMeterId() {
+            return new Meter.Id(name, LabelConverter.toTags(labels, meter.getLibraryTags()), baseUnit, description,
+                    Meter.Type.COUNTER);
+        }
+
+        @Override
+        public DoubleSumObserver build() {
+            Meter.Id meterId = constructMeterId();
+            if (meter.findView(name).isDropped() || !OpenTelemetryMeterRegistry.INSTANCE.isEnabled(meterId)) {
+                return NoopInstruments.DOUBLE_SUM_OBSERVER;
+            }
+            DoubleSumObserverImpl observer = new DoubleSumObserverImpl(meter, meterId);
+            if (callback != null) {
+                observer.updateCallback(callback);
+            }
+            if (observer.claimSeriesType()) {
+                OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().register(observer);
+            }
+            return observer;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Objects;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.opentelemetry.api.metrics.DoubleUpDownSumObserver;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+public class DoubleUpDownSumObserverImpl
+        extends AbstractAsynchronousInstrument<AsynchronousInstrument.DoubleResult, ObservedValue.GaugeValue>
+        implements DoubleUpDownSumObserver, AsynchronousInstrument.DoubleResult {
+
+    public DoubleUpDownSumObserverImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        super(meter, meterId, ObservedValue.GaugeValue.class, ObservedValue.GaugeValue::register);
+    }
+
+    // DoubleResult implementations
+    @Override
+    public void observe(double value, Labels labels) {
+        record(value, labels);
+    }
+
+    // Internal methods
+    @Override
+    AsynchronousInstrument.DoubleResult result() {
+        return this;
+    }
+
+    public static final class Builder implements DoubleUpDownSumObserver.Builder {
+        private final OpenTelemetryMeter meter;
+        private final String name;
+        private String description;
+        private String baseUnit = "1";
+        private Labels labels = Labels.empty();
+        private Callback<DoubleResult> callback;
+
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
+            this.name = name;
+        }
+
+        @Override
+        public DoubleUpDownSumObserver.Builder setDescription(String description) {
+            this.description = Objects.requireNonNull(description);
+            return this;
+        }
+
+        @Override
+        public DoubleUpDownSumObserver.Builder setUnit(String unit) {
+            this.baseUnit = Objects.requireNonNull(unit);
+            return this;
+        }
+
+        @Override
+        public DoubleUpDownSumObserver.Builder setCallback(Callback<DoubleResult> callback) {
+            this.callback = Objects.requireNonNull(callback);
+            return this;
+        }
+
+        private Meter.Id constructMeterId() {
+            return new Meter.Id(name, LabelConverter.toTags(labels, meter.getLibraryTags()), baseUnit, description,
+                    Meter.Type.GAUGE);
+        }
+
+        @Override
+        public DoubleUpDownSumObserver build() {
+            Meter.Id meterId = constructMeterId();
+            if (meter.findView(name).isDropped() || !OpenTelemetryMeterRegistry.INSTANCE.isEnabled(meterId)) {
+                return NoopInstruments.DOUBLE_UP_DOWN_SUM_OBSERVER;
+            }
+            DoubleUpDownSumObserverImpl observer = new DoubleUpDownSumObserverImpl(meter, meterId);
+            if (callback != null) {
+                observer.updateCallback(callback);
+            }
+            if (observer.claimSeriesType()) {
+                OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().register(observer);
+            }
+            return observer;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Objects;
+import java.util.Set;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
+
+public class DoubleValueRecorderImpl extends AbstractSynchronousInstrument<BoundDoubleValueRecorderImpl>
+        implements DoubleValueRecorder {
+
+    public DoubleValueRecorderImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        this(meter, meterId, null);
+    }
+
+    /**
+     * @param labelKeys the label keys kept in the series of the instrument, or {@code null} to keep all of them
+     */
+    public DoubleValueRecorderImpl(OpenTelemetryMeter meter, Meter.Id meterId, Set<String> labelKeys) {
+        super(meter, meterId, labelKeys);
+    }
+
+    // DoubleValueRecorder implementations
+    @Override
+    public void record(double value, Labels labels) {
+        if (isEnabled()) {
+            boundInstrument(labels).record(value);
+        }
+    }
+
+    @Override
+    public void record(double value) {
+        record(value, Labels.empty());
+    }
+
+    @Override
+    public BoundDoubleValueRecorder bind(Labels labels) {
+        return acquireBoundInstrument(labels);
+    }
+
+    // Internal methods
+    @Override
+    BoundDoubleValueRecorderImpl newBoundInstrument(Labels labels) {
+        return new BoundDoubleValueRecorderImpl(this, labels);
+    }
+
+    public static final class Builder implements DoubleValueRecorder.Builder {
+        private final OpenTelemetryMeter meter;
+        private final String name;
+        private String description;
+        private String baseUnit = "1";
+        private Labels labels = Labels.empty();
+
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
+            this.name = name;
+        }
+
+        @Override
+        public DoubleValueRecorder.Builder setDescription(String description) {
+            this.description = Objects.requireNonNull(description);
+            return this;
+        }
+
+        @Override
+        public DoubleValueRecorder.Builder setUnit(String unit) {
+            this.baseUnit = Objects.requireNonNull(unit);
+            return this;
+        }
+
+        private Meter.Id constructMeterId(View view) {
+            return new Meter.Id(view.resolveName(name), LabelConverter.toTags(labels, meter.getLibraryTags()),
+                    baseUnit, view.resolveDescription(description), Meter.Type.DISTRIBUTION_SUMMARY);
+        }
+
+        @Override
+        public DoubleValueRecorder build() {
+            View view = meter.findView(name);
+            Meter.Id meterId = constructMeterId(view);
+            OpenTelemetryMeterRegistry registry = OpenTelemetryMeterRegistry.INSTANCE;
+            if (view.isDropped() || !registry.isEnabled(meterId)
+                    || !registry.claimSeriesType(meterId.getName(), Histogram.class)) {
+                return NoopInstruments.DOUBLE_VALUE_RECORDER;
+            }
+            return new DoubleValueRecorderImpl(meter, meterId, view.getLabelKeys());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Arrays;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+final class HistogramMeter {
+    private HistogramMeter() {
+        // Prevent direct instantiation
+    }
+
+    /**
+     * Creates the histogram of a value recorder series, exposed to Micrometer as a distribution summary reporting the
+     * count, total and max of the recorded values. The full distribution is available from
+     * {@link Histogram#snapshot()}.
+     */
+    static Histogram register(Meter.Id id) {
+        Histogram histogram = new Histogram();
+        Meter.builder(id.getName(), Meter.Type.DISTRIBUTION_SUMMARY, Arrays.asList(
+                new Measurement(() -> (double) histogram.count(), Statistic.COUNT),
+                new Measurement(histogram::sum, Statistic.TOTAL),
+                new Measurement(histogram::max, Statistic.MAX)))
+                .description(id.getDescription())
+                .baseUnit(id.getBaseUnit())
+                .tags(id.getTagsAsIterable())
+                .register(OpenTelemetryMeterRegistry.INSTANCE);
+        return histogram;
+    }
+}
@@ -1,63 +1,70 @@
 package io.smallrye.opentelemetry.sdk.metrics.impl;
 
 import java.util.Objects;
+import java.util.Set;
 
-import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.opentelemetry.api.common.Labels;
 import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
 import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
 import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
 
-public class LongCounterImpl implements LongCounter, LongCounter.BoundLongCounter {
-    Meter.Id meterId;
+public class LongCounterImpl extends AbstractSynchronousInstrument<BoundLongCounterImpl> implements LongCounter {
+    final MetricData.AggregationTemporality temporality;
 
-    public LongCounterImpl(Meter.Id meterId) {
-        this.meterId = meterId;
+    public LongCounterImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        this(meter, meterId, MetricData.AggregationTemporality.CUMULATIVE, null);
+    }
+
+    /**
+     * @param labelKeys the label keys kept in the series of the counter, or {@code null} to keep all of them
+     */
+    public LongCounterImpl(OpenTelemetryMeter meter, Meter.Id meterId, MetricData.AggregationTemporality temporality,
+            Set<String> labelKeys) {
+        super(meter, meterId, labelKeys);
+        this.temporality = Objects.requireNonNull(temporality);
     }
 
     // LongCounter implementations
     @Override
     public void add(long increment, Labels labels) {
         if (increment < 0) {
-            throw new IllegalArgumentException("DoubleCounter can only increase.");
+            throw new IllegalArgumentException("LongCounter can only increase.");
+        }
+        if (isEnabled()) {
+            boundInstrument(labels).add(increment);
         }
-
-        counter(labels).increment(increment);
-    }
-
-    @Override
-    public BoundLongCounter bind(Labels labels) {
-        return new LongCounterImpl(this.meterId.withTags(LabelConverter.toTags(labels)));
     }
 
-    // LongCounter.BoundLongCounter implementations
     @Override
     public void add(long increment) {
         add(increment, Labels.empty());
     }
 
     @Override
-    public void unbind() {
-        // No Op
+    public BoundLongCounter bind(Labels labels) {
+        return acquireBoundInstrument(labels);
     }
 
     // Internal methods
-    private Counter counter(Labels labels) {
-        return Counter.builder(meterId.getName())
-                .description(meterId.getDescription())
-                .baseUnit(meterId.getBaseUnit())
-                .tags(LabelConverter.toTags(labels).and(meterId.getTags()))
-                .register(OpenTelemetryMeterRegistry.INSTANCE);
+    @Override
+    BoundLongCounterImpl newBoundInstrument(Labels labels) {
+        return new BoundLongCounterImpl(this, labels);
     }
 
     public static final class Builder implements LongCounter.Builder {
+        private final OpenTelemetryMeter meter;
         private final String name;
         private String description;
         private String baseUnit = "1";
         private Labels labels = Labels.empty();
+        private MetricData.AggregationTemporality temporality = MetricData.AggregationTemporality.CUMULATIVE;
 
-        public Builder(String name) {
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
             this.name = name;
         }
 
@@ -73,13 +80,31 @@ public class LongCounterImpl implements LongCounter, LongCounter.BoundLongCounte
             return this;
         }
 
-        private Meter.Id constructMeterId() {
-            return new Meter.Id(name, LabelConverter.toTags(labels), baseUnit, description, Meter.Type.COUNTER);
+        /**
+         * Reports the counter with delta temporality: each collection by the metric producer of the registry only
+         * holds the increments since the previous one. Micrometer registries still read a cumulative count. When
+         * several counters share a series, the first one to create it sets its temporality.
+         */
+        public Builder setAggregationTemporality(MetricData.AggregationTemporality temporality) {
+            this.temporality = Objects.requireNonNull(temporality);
+            return this;
+        }
+
+        private Meter.Id constructMeterId(View view) {
+            return new Meter.Id(view.resolveName(name), LabelConverter.toTags(labels, meter.getLibraryTags()),
+                    baseUnit, view.resolveDescription(description), Meter.Type.COUNTER);
         }
 
         @Override
         public LongCounter build() {
-            return new LongCounterImpl(constructMeterId());
+            View view = meter.findView(name);
+            Meter.Id meterId = constructMeterId(view);
+            OpenTelemetryMeterRegistry registry = OpenTelemetryMeterRegistry.INSTANCE;
+            if (view.isDropped() || !registry.isEnabled(meterId)
+                    || !registry.claimSeriesType(meterId.getName(), LongSum.class)) {
+                return NoopInstruments.LONG_COUNTER;
+            }
+            return new LongCounterImpl(meter, meterId, view.resolveTemporality(temporality), view.getLabelKeys());
         }
     }
 }
@@ -0,0 +1,85 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Objects;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.opentelemetry.api.metrics.LongSumObserver;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+
+public class LongSumObserverImpl
+        extends AbstractAsynchronousInstrument<AsynchronousInstrument.LongResult, ObservedValue.SumValue>
+        implements LongSumObserver, AsynchronousInstrument.LongResult {
+
+    public LongSumObserverImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        super(meter, meterId, ObservedValue.SumValue.class, ObservedValue.SumValue::register);
+    }
+
+    // LongResult implementations
+    @Override
+    public void observe(long value, Labels labels) {
+        record(value, labels);
+    }
+
+    // Internal methods
+    @Override
+    AsynchronousInstrument.LongResult result() {
+        return this;
+    }
+
+    public static final class Builder implements LongSumObserver.Builder {
+        private final OpenTelemetryMeter meter;
+        private final String name;
+        private String description;
+        private String baseUnit = "1";
+        private Labels labels = Labels.empty();
+        private Callback<LongResult> callback;
+
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
+            this.name = name;
+        }
+
+        @Override
+        public LongSumObserver.Builder setDescription(String description) {
+            this.description = Objects.requireNonNull(description);
+            return this;
+        }
+
+        @Override
+        public LongSumObserver.Builder setUnit(String unit) {
+            this.baseUnit = Objects.requireNonNull(unit);
+            return this;
+        }
+
+        @Override
+        public LongSumObserver.Builder setCallback(Callback<LongResult> callback) {
+            this.callback = Objects.requireNonNull(callback);
+            return this;
+        }
+
+        private Meter.Id constructMeterId() {
+            return new Meter.Id(name, LabelConverter.toTags(labels, meter.getLibraryTags()), baseUnit, description,
+                    Meter.Type.COUNTER);
+        }
+
+        @Override
+        public LongSumObserver build() {
+            Meter.Id meterId = constructMeterId();
+            if (meter.findView(name).isDropped() || !OpenTelemetryMeterRegistry.INSTANCE.isEnabled(meterId)) {
+                return NoopInstruments.LONG_SUM_OBSERVER;
+            }
+            LongSumObserverImpl observer = new LongSumObserverImpl(meter, meterId);
+            if (callback != null) {
+                observer.updateCallback(callback);
+            }
+            if (observer.claimSeriesType()) {
+                OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().register(observer);
+            }
+            return observer;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.Objects;
+import java.util.Set;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.utils.LabelConverter;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
+
+public class LongUpDownCounterImpl extends AbstractSynchronousInstrument<BoundLongUpDownCounterImpl>
+        implements LongUpDownCounter {
+
+    public LongUpDownCounterImpl(OpenTelemetryMeter meter, Meter.Id meterId) {
+        this(meter, meterId, null);
+    }
+
+    /**
+     * @param labelKeys the label keys kept in the series of the instrument, or {@code null} to keep all of them
+     */
+    public LongUpDownCounterImpl(OpenTelemetryMeter meter, Meter.Id meterId, Set<String> labelKeys) {
+        super(meter, meterId, labelKeys);
+    }
+
+    // LongUpDownCounter implementations
+    @Override
+    public void add(long increment, Labels labels) {
+        if (isEnabled()) {
+            boundInstrument(labels).add(increment);
+        }
+    }
+
+    @Override
+    public void add(long increment) {
+        add(increment, Labels.empty());
+    }
+
+    @Override
+    public BoundLongUpDownCounter bind(Labels labels) {
+        return acquireBoundInstrument(labels);
+    }
+
+    // Internal methods
+    @Override
+    BoundLongUpDownCounterImpl newBoundInstrument(Labels labels) {
+        return new BoundLongUpDownCounterImpl(this, labels);
+    }
+
+    public static final class Builder implements LongUpDownCounter.Builder {
+        private final OpenTelemetryMeter meter;
+        private final String name;
+        private String description;
+        private String baseUnit = "1";
+        private Labels labels = Labels.empty();
+
+        public Builder(OpenTelemetryMeter meter, String name) {
+            this.meter = meter;
+            this.name = name;
+        }
+
+        @Override
+        public LongUpDownCounter.Builder setDescription(String description) {
+            this.description = Objects.requireNonNull(description);
+            return this;
+        }
+
+        @Override
+        public LongUpDownCounter.Builder setUnit(String unit) {
+            this.baseUnit = Objects.requireNonNull(unit);
+            return this;
+        }
+
+        private Meter.Id constructMeterId(View view) {
+            return new Meter.Id(view.resolveName(name), LabelConverter.toTags(labels, meter.getLibraryTags()),
+                    baseUnit, view.resolveDescription(description), Meter.Type.GAUGE);
+        }
+
+        @Override
+        public LongUpDownCounter build() {
+            View view = meter.findView(name);
+            Meter.Id meterId = constructMeterId(view);
+            OpenTelemetryMeterRegistry registry = OpenTelemetryMeterRegistry.INSTANCE;
+            if (view.isDropped() || !registry.isEnabled(meterId)
+                    || !registry.claimSeriesType(meterId.getName(), LongUpDownSum.class)) {
+                return NoopInstruments.LONG_UP_DOWN_COUNTER;
+            }
+            return new LongUpDownCounterImpl(meter, meterId, view.getLabelKeys());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Accumulates the increments and decrements of a long up down counter series in striped cells, exposed to Micrometer
+ * as a {@link Gauge} that sums the cells when a registry reads it.
+ * <p>
+ * When a Micrometer meter was already registered with the same name and tags, Micrometer registries keep reading that
+ * meter: the sum is then only reported by the exporters reading the series of the registry, and a warning is logged.
+ */
+final class LongUpDownSum extends LongAdder {
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = Logger.getLogger(LongUpDownSum.class.getName());
+
+    static LongUpDownSum register(Meter.Id id) {
+        LongUpDownSum sum = new LongUpDownSum();
+        if (OpenTelemetryMeterRegistry.INSTANCE.findMeter(id) != null) {
+            // Micrometer would hand out the existing gauge, or fail for a meter of another type
+            warnNotRegistered(id);
+            return sum;
+        }
+        try {
+            Gauge.builder(id.getName(), sum, LongUpDownSum::doubleValue)
+                    .description(id.getDescription())
+                    .baseUnit(id.getBaseUnit())
+                    .tags(id.getTagsAsIterable())
+                    .strongReference(true)
+                    .register(OpenTelemetryMeterRegistry.INSTANCE);
+        } catch (IllegalArgumentException e) {
+            warnNotRegistered(id);
+        }
+        return sum;
+    }
+
+    private static void warnNotRegistered(Meter.Id id) {
+        LOGGER.log(Level.WARNING, "Up down counter {0} is not reported to Micrometer registries, a Micrometer meter"
+                + " with the same name and tags was registered first", id.getName());
+    }
+}
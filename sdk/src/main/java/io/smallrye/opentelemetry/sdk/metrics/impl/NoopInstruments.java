@@ -0,0 +1,194 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleSumObserver;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.opentelemetry.api.metrics.DoubleUpDownSumObserver;
+import io.opentelemetry.api.metrics.DoubleValueObserver;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongSumObserver;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.LongUpDownSumObserver;
+import io.opentelemetry.api.metrics.LongValueObserver;
+import io.opentelemetry.api.metrics.LongValueRecorder;
+
+/**
+ * The instruments handed out for instruments dropped by a view or denied by a meter filter of the registry. They have
+ * no name and no state, so a single instance of each type is shared, and each one is also its own bound instrument.
+ * Measurements are ignored in methods the JIT inlines away, but counter increments are still validated, so that an
+ * instrument fails the same way whether a filter denies it or not. No-op observers ignore their callback and are never
+ * registered with the collection scheduler.
+ */
+final class NoopInstruments {
+    static final LongCounter LONG_COUNTER = new NoopLongCounter();
+    static final DoubleCounter DOUBLE_COUNTER = new NoopDoubleCounter();
+    static final LongUpDownCounter LONG_UP_DOWN_COUNTER = new NoopLongUpDownCounter();
+    static final DoubleUpDownCounter DOUBLE_UP_DOWN_COUNTER = new NoopDoubleUpDownCounter();
+    static final LongValueRecorder LONG_VALUE_RECORDER = new NoopLongValueRecorder();
+    static final DoubleValueRecorder DOUBLE_VALUE_RECORDER = new NoopDoubleValueRecorder();
+    private static final NoopLongObserver LONG_OBSERVER = new NoopLongObserver();
+    static final LongSumObserver LONG_SUM_OBSERVER = LONG_OBSERVER;
+    static final LongUpDownSumObserver LONG_UP_DOWN_SUM_OBSERVER = LONG_OBSERVER;
+    static final LongValueObserver LONG_VALUE_OBSERVER = LONG_OBSERVER;
+    private static final NoopDoubleObserver DOUBLE_OBSERVER = new NoopDoubleObserver();
+    static final DoubleSumObserver DOUBLE_SUM_OBSERVER = DOUBLE_OBSERVER;
+    static final DoubleUpDownSumObserver DOUBLE_UP_DOWN_SUM_OBSERVER = DOUBLE_OBSERVER;
+    static final DoubleValueObserver DOUBLE_VALUE_OBSERVER = DOUBLE_OBSERVER;
+
+    private NoopInstruments() {
+        // Prevent direct instantiation
+    }
+
+    /**
+     * Returns whether an instrument is one of the no-op instruments, whose measurements batches skip.
+     */
+    static boolean isNoop(Object instrument) {
+        return instrument instanceof Noop;
+    }
+
+    private interface Noop {
+    }
+
+    private static final class NoopLongCounter implements LongCounter, LongCounter.BoundLongCounter, Noop {
+        @Override
+        public void add(long increment, Labels labels) {
+            add(increment);
+        }
+
+        @Override
+        public void add(long increment) {
+            if (increment < 0) {
+                throw new IllegalArgumentException("LongCounter can only increase.");
+            }
+        }
+
+        @Override
+        public BoundLongCounter bind(Labels labels) {
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+        }
+    }
+
+    private static final class NoopDoubleCounter implements DoubleCounter, DoubleCounter.BoundDoubleCounter, Noop {
+        @Override
+        public void add(double increment, Labels labels) {
+            add(increment);
+        }
+
+        @Override
+        public void add(double increment) {
+            if (increment < 0) {
+                throw new IllegalArgumentException("DoubleCounter can only increase.");
+            }
+        }
+
+        @Override
+        public BoundDoubleCounter bind(Labels labels) {
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+        }
+    }
+
+    private static final class NoopLongUpDownCounter
+            implements LongUpDownCounter, LongUpDownCounter.BoundLongUpDownCounter, Noop {
+        @Override
+        public void add(long increment, Labels labels) {
+        }
+
+        @Override
+        public void add(long increment) {
+        }
+
+        @Override
+        public BoundLongUpDownCounter bind(Labels labels) {
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+        }
+    }
+
+    private static final class NoopDoubleUpDownCounter
+            implements DoubleUpDownCounter, DoubleUpDownCounter.BoundDoubleUpDownCounter, Noop {
+        @Override
+        public void add(double increment, Labels labels) {
+        }
+
+        @Override
+        public void add(double increment) {
+        }
+
+        @Override
+        public BoundDoubleUpDownCounter bind(Labels labels) {
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+        }
+    }
+
+    private static final class NoopLongValueRecorder
+            implements LongValueRecorder, LongValueRecorder.BoundLongValueRecorder, Noop {
+        @Override
+        public void record(long value, Labels labels) {
+        }
+
+        @Override
+        public void record(long value) {
+        }
+
+        @Override
+        public BoundLongValueRecorder bind(Labels labels) {
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+        }
+    }
+
+    private static final class NoopDoubleValueRecorder
+            implements DoubleValueRecorder, DoubleValueRecorder.BoundDoubleValueRecorder, Noop {
+        @Override
+        public void record(double value, Labels labels) {
+        }
+
+        @Override
+        public void record(double value) {
+        }
+
+        @Override
+        public BoundDoubleValueRecorder bind(Labels labels) {
+            return this;
+        }
+
+        @Override
+        public void unbind() {
+        }
+    }
+
+    private static final class NoopLongObserver
+            implements LongSumObserver, LongUpDownSumObserver, LongValueObserver, Noop {
+        @Override
+        public void setCallback(Callback<AsynchronousInstrument.LongResult> callback) {
+        }
+    }
+
+    private static final class NoopDoubleObserver
+            implements DoubleSumObserver, DoubleUpDownSumObserver, DoubleValueObserver, Noop {
+        @Override
+        public void setCallback(Callback<AsynchronousInstrument.DoubleResult> callback) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+/**
+ * Holds the last value reported by an observer callback for one series. Registries read the cached value, so
+ * callbacks only run once per collection cycle no matter how many registries are scraped.
+ */
+abstract class ObservedValue {
+    private volatile double value;
+
+    void set(double value) {
+        this.value = value;
+    }
+
+    double get() {
+        return value;
+    }
+
+    /**
+     * The value of a sum observer series, exposed to Micrometer as a {@link FunctionCounter}.
+     */
+    static final class SumValue extends ObservedValue {
+
+        static SumValue register(Meter.Id id) {
+            SumValue value = new SumValue();
+            FunctionCounter.builder(id.getName(), value, SumValue::get)
+                    .description(id.getDescription())
+                    .baseUnit(id.getBaseUnit())
+                    .tags(id.getTagsAsIterable())
+                    .register(OpenTelemetryMeterRegistry.INSTANCE);
+            return value;
+        }
+    }
+
+    /**
+     * The value of an up down sum or value observer series, exposed to Micrometer as a {@link Gauge}.
+     */
+    static final class GaugeValue extends ObservedValue {
+
+        static GaugeValue register(Meter.Id id) {
+            GaugeValue value = new GaugeValue();
+            value.set(Double.NaN);
+            Gauge.builder(id.getName(), value, GaugeValue::get)
+                    .description(id.getDescription())
+                    .baseUnit(id.getBaseUnit())
+                    .tags(id.getTagsAsIterable())
+                    .strongReference(true)
+                    .register(OpenTelemetryMeterRegistry.INSTANCE);
+            return value;
+        }
+    }
+}
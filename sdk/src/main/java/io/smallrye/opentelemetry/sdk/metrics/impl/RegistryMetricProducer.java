@@ -0,0 +1,176 @@
+package io.smallrye.opentelemetry.sdk.metrics.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.Exemplar;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.ExemplarReservoir;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.smallrye.opentelemetry.sdk.metrics.export.SeriesVisitor;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+/**
+ * Produces {@link MetricData} by reading the accumulators of the series of an {@link OpenTelemetryMeterRegistry}
+ * directly, without going through Micrometer meters. Points are cumulative since the creation of their series, except
+ * for counters built with delta temporality, whose points hold the increments since the previous collection.
+ * <p>
+ * Collecting a delta series consumes its increments, so the metrics of a registry with delta counters should be
+ * handed to a single push exporter. The {@link SeriesVisitor}s used by pull exporters are not affected: they always
+ * read the cumulative value of a series.
+ * <p>
+ * A metric belongs to the instrumentation library of its first series, and the metrics of a library are returned next
+ * to each other.
+ */
+public final class RegistryMetricProducer implements MetricProducer {
+    private final OpenTelemetryMeterRegistry registry;
+    private final Clock clock;
+    private long lastCollectionNanos;
+
+    public RegistryMetricProducer(OpenTelemetryMeterRegistry registry, Clock clock) {
+        this.registry = registry;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized Collection<MetricData> collectAllMetrics() {
+        long epochNanos = clock.now();
+        long intervalStartNanos = lastCollectionNanos;
+        lastCollectionNanos = epochNanos;
+        List<MetricData.Builder> builders = new ArrayList<>();
+        List<MetricData.AggregationTemporality> temporalities = new ArrayList<>();
+        visit(new SeriesVisitor() {
+            private MetricData.Builder builder;
+
+            @Override
+            public void visitMetric(Series<?> first, MetricData.Type type) {
+                Meter.Id id = first.getId();
+                builder = MetricData.builder(first.getInstrumentationLibraryInfo(), id.getName(), id.getDescription(),
+                        id.getBaseUnit(), type);
+                builders.add(builder);
+                temporalities.add(null);
+            }
+
+            @Override
+            public void visitValue(Series<?> series, double value) {
+                Object accumulator = series.getAccumulator();
+                boolean delta = accumulator instanceof DeltaSum;
+                // The temporality of a metric is the one of its first series, like its type
+                int last = temporalities.size() - 1;
+                MetricData.AggregationTemporality temporality = temporalities.get(last);
+                if (temporality == null) {
+                    temporality = delta ? MetricData.AggregationTemporality.DELTA
+                            : MetricData.AggregationTemporality.CUMULATIVE;
+                    temporalities.set(last, temporality);
+                } else if (delta != (temporality == MetricData.AggregationTemporality.DELTA)) {
+                    return;
+                }
+
+                if (delta) {
+                    builder.addPoint(series.getLabels(), Math.max(series.getStartEpochNanos(), intervalStartNanos),
+                            ((DeltaSum) accumulator).collect(), exemplars(series));
+                } else {
+                    builder.addPoint(series.getLabels(), series.getStartEpochNanos(), value, exemplars(series));
+                }
+            }
+
+            @Override
+            public void visitHistogram(Series<?> series, Histogram histogram) {
+                builder.addPoint(series.getLabels(), series.getStartEpochNanos(), histogram.snapshot(),
+                        exemplars(series));
+            }
+        });
+
+        Map<InstrumentationLibraryInfo, List<MetricData>> byLibrary = new LinkedHashMap<>();
+        for (int i = 0; i < builders.size(); i++) {
+            MetricData.AggregationTemporality temporality = temporalities.get(i);
+            MetricData metric = builders.get(i).build(
+                    temporality != null ? temporality : MetricData.AggregationTemporality.CUMULATIVE, epochNanos);
+            byLibrary.computeIfAbsent(metric.getInstrumentationLibraryInfo(), library -> new ArrayList<>()).add(metric);
+        }
+        List<MetricData> metrics = new ArrayList<>(builders.size());
+        byLibrary.values().forEach(metrics::addAll);
+        return metrics;
+    }
+
+    /**
+     * Streams the series of the registry to a visitor, one metric name at a time. The type of a metric is the type of
+     * its first series; series of another type registered under the same name through Micrometer are skipped.
+     */
+    public void visit(SeriesVisitor visitor) {
+        for (Set<Series<?>> named : registry.getSeriesByName().values()) {
+            MetricData.Type metricType = null;
+            for (Series<?> series : named) {
+                Object accumulator = series.getAccumulator();
+                MetricData.Type type = typeOf(accumulator);
+                if (type == null) {
+                    continue;
+                }
+                if (metricType == null) {
+                    metricType = type;
+                    visitor.visitMetric(series, type);
+                } else if (type != metricType) {
+                    // A Micrometer meter of another type was registered with the same name
+                    continue;
+                }
+
+                if (type == MetricData.Type.HISTOGRAM) {
+                    visitor.visitHistogram(series, (Histogram) accumulator);
+                } else {
+                    visitor.visitValue(series, valueOf(accumulator));
+                }
+            }
+        }
+    }
+
+    private static List<Exemplar> exemplars(Series<?> series) {
+        ExemplarReservoir reservoir = series.getExemplars();
+        return reservoir != null ? reservoir.collect() : Collections.emptyList();
+    }
+
+    static MetricData.Type typeOf(Object accumulator) {
+        if (accumulator instanceof LongSum || accumulator instanceof DoubleSum
+                || accumulator instanceof ObservedValue.SumValue) {
+            return MetricData.Type.MONOTONIC_SUM;
+        }
+        if (accumulator instanceof LongUpDownSum || accumulator instanceof DoubleUpDownSum) {
+            return MetricData.Type.NON_MONOTONIC_SUM;
+        }
+        if (accumulator instanceof Histogram) {
+            return MetricData.Type.HISTOGRAM;
+        }
+        if (accumulator instanceof ObservedValue) {
+            return MetricData.Type.GAUGE;
+        }
+        return null;
+    }
+
+    static double valueOf(Object accumulator) {
+        if (accumulator instanceof LongSum) {
+            return ((LongSum) accumulator).sum();
+        }
+        if (accumulator instanceof DoubleSum) {
+            return ((DoubleSum) accumulator).sum();
+        }
+        if (accumulator instanceof LongUpDownSum) {
+            return ((LongUpDownSum) accumulator).sum();
+        }
+        if (accumulator instanceof DoubleUpDownSum) {
+            return ((DoubleUpDownSum) accumulator).sum();
+        }
+        if (accumulator instanceof ObservedValue) {
+            return ((ObservedValue) accumulator).get();
+        }
+        throw new IllegalArgumentException("Unsupported accumulator: " + accumulator.getClass().getName());
+    }
+}
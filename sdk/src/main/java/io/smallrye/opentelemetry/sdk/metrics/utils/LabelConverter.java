@@ -1,20 +1,135 @@
 package io.smallrye.opentelemetry.sdk.metrics.utils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.common.LabelsBuilder;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
 
 public class LabelConverter {
+    // Must be a power of two
+    private static final int CACHE_SIZE = 1024;
+
+    /**
+     * Direct-mapped cache of converted labels. A slot holds the most recently converted {@link Labels} whose hash maps
+     * to it, so the cache is bounded and a colliding conversion simply evicts the previous entry.
+     */
+    private static final AtomicReferenceArray<Entry> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
     private LabelConverter() {
         // Prevent direct instantiation
     }
 
     public static Tags toTags(Labels labels) {
-        List<Tag> tags = new ArrayList<>(labels.size());
-        labels.forEach((k, v) -> tags.add(Tag.of(k, v)));
-        return Tags.of(tags);
+        if (labels.isEmpty()) {
+            return Tags.empty();
+        }
+
+        int index = index(labels.hashCode());
+        Entry entry = CACHE.get(index);
+        if (entry != null && entry.labels.equals(labels)) {
+            return entry.tags;
+        }
+
+        Tags tags = convert(labels);
+        CACHE.lazySet(index, new Entry(labels, tags));
+        return tags;
+    }
+
+    /**
+     * Converts the labels and appends the instrument level tags. No merge is performed when either side is empty.
+     */
+    public static Tags toTags(Labels labels, Iterable<Tag> instrumentTags) {
+        Tags tags = toTags(labels);
+        if (!instrumentTags.iterator().hasNext()) {
+            return tags;
+        }
+        if (labels.isEmpty()) {
+            return Tags.of(instrumentTags);
+        }
+        return tags.and(instrumentTags);
+    }
+
+    /**
+     * Returns the labels whose key is in {@code labelKeys}, or the given labels themselves when they are all kept.
+     *
+     * @param labelKeys the label keys to keep, or {@code null} to keep all of them
+     */
+    public static Labels filter(Labels labels, Set<String> labelKeys) {
+        if (labelKeys == null || labels.isEmpty()) {
+            return labels;
+        }
+        int[] kept = new int[1];
+        labels.forEach((key, value) -> {
+            if (labelKeys.contains(key)) {
+                kept[0]++;
+            }
+        });
+        if (kept[0] == labels.size()) {
+            return labels;
+        }
+        LabelsBuilder builder = Labels.builder();
+        labels.forEach((key, value) -> {
+            if (labelKeys.contains(key)) {
+                builder.put(key, value);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Converts tags back to labels, for exporters that need the OpenTelemetry representation of a series. The tags of
+     * the instrumentation library are skipped, as these exporters report the library separately.
+     */
+    public static Labels toLabels(Iterable<Tag> tags) {
+        LabelsBuilder builder = Labels.builder();
+        for (Tag tag : tags) {
+            String key = tag.getKey();
+            if (!key.equals(OpenTelemetryMeter.LIBRARY_NAME_TAG) && !key.equals(OpenTelemetryMeter.LIBRARY_VERSION_TAG)) {
+                builder.put(key, tag.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static Tags convert(Labels labels) {
+        TagCollector collector = new TagCollector(labels.size());
+        labels.forEach(collector);
+        if (collector.tags.length == 1) {
+            return Tags.of(collector.tags[0]);
+        }
+        return Tags.of(collector.tags);
+    }
+
+    private static int index(int hash) {
+        return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    }
+
+    private static final class Entry {
+        final Labels labels;
+        final Tags tags;
+
+        Entry(Labels labels, Tags tags) {
+            this.labels = labels;
+            this.tags = tags;
+        }
+    }
+
+    private static final class TagCollector implements BiConsumer<String, String> {
+        final Tag[] tags;
+        int index;
+
+        TagCollector(int size) {
+            this.tags = new Tag[size];
+        }
+
+        @Override
+        public void accept(String key, String value) {
+            tags[index++] = Tag.of(key, value);
+        }
     }
 }
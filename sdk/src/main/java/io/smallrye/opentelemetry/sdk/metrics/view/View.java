@@ -0,0 +1,177 @@
+package io.smallrye.opentelemetry.sdk.metrics.view;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+
+/**
+ * Changes how the instruments it selects are reported, registered with
+ * {@link OpenTelemetryMeterRegistry#registerView(View)}.
+ * <p>
+ * A view selects instruments by name pattern and instrumentation library, and can rename them, keep only an
+ * allow-list of label keys, report counters with another temporality, or drop the instruments entirely. Views are
+ * resolved once when an instrument is built. Label keys outside of the allow-list are removed from the labels of a
+ * measurement before its series is looked up, and the label sets that only differ by those keys share a single
+ * series; instruments cache the label sets recently used with them, so repeated measurements with the same labels
+ * skip the removal. Dropped instruments do nothing at all.
+ * <p>
+ * Asynchronous instruments can only be dropped: the other settings of the views selecting them are ignored.
+ * <p>
+ * Instances are immutable.
+ */
+public final class View {
+    private final Pattern instrumentNamePattern;
+    private final String instrumentationLibraryName;
+    private final String name;
+    private final String description;
+    private final Set<String> labelKeys;
+    private final MetricData.AggregationTemporality temporality;
+    private final boolean dropped;
+
+    private View(Builder builder) {
+        this.instrumentNamePattern = builder.instrumentNamePattern;
+        this.instrumentationLibraryName = builder.instrumentationLibraryName;
+        this.name = builder.name;
+        this.description = builder.description;
+        this.labelKeys = builder.labelKeys;
+        this.temporality = builder.temporality;
+        this.dropped = builder.dropped;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns whether this view applies to an instrument of the given instrumentation library.
+     */
+    public boolean matches(InstrumentationLibraryInfo library, String instrumentName) {
+        return (instrumentationLibraryName == null || instrumentationLibraryName.equals(library.getName()))
+                && (instrumentNamePattern == null || instrumentNamePattern.matcher(instrumentName).matches());
+    }
+
+    /**
+     * Returns the name the instrument is reported with, which is its own name unless this view renames it.
+     */
+    public String resolveName(String instrumentName) {
+        return name != null ? name : instrumentName;
+    }
+
+    public String resolveDescription(String instrumentDescription) {
+        return description != null ? description : instrumentDescription;
+    }
+
+    /**
+     * Returns the temporality counters are reported with, which is the one set on their builder unless this view
+     * changes it.
+     */
+    public MetricData.AggregationTemporality resolveTemporality(MetricData.AggregationTemporality temporality) {
+        return this.temporality != null ? this.temporality : temporality;
+    }
+
+    /**
+     * Returns the label keys kept, or {@code null} if all are kept.
+     */
+    public Set<String> getLabelKeys() {
+        return labelKeys;
+    }
+
+    public boolean isDropped() {
+        return dropped;
+    }
+
+    @Override
+    public String toString() {
+        return "View{instrumentNamePattern=" + instrumentNamePattern + ", instrumentationLibraryName="
+                + instrumentationLibraryName + ", name=" + name + ", labelKeys=" + labelKeys + ", temporality="
+                + temporality + ", dropped=" + dropped + "}";
+    }
+
+    public static final class Builder {
+        private Pattern instrumentNamePattern;
+        private String instrumentationLibraryName;
+        private String name;
+        private String description;
+        private Set<String> labelKeys;
+        private MetricData.AggregationTemporality temporality;
+        private boolean dropped;
+
+        private Builder() {
+        }
+
+        /**
+         * Selects the instruments whose whole name matches the pattern. Without a pattern, instruments of any name
+         * are selected.
+         */
+        public Builder setInstrumentNamePattern(Pattern instrumentNamePattern) {
+            this.instrumentNamePattern = Objects.requireNonNull(instrumentNamePattern);
+            return this;
+        }
+
+        /**
+         * Selects the instruments with exactly the given name.
+         */
+        public Builder setInstrumentName(String instrumentName) {
+            return setInstrumentNamePattern(Pattern.compile(Pattern.quote(instrumentName)));
+        }
+
+        /**
+         * Selects the instruments of the meters of an instrumentation library. Without a library name, instruments of
+         * any library are selected.
+         */
+        public Builder setInstrumentationLibraryName(String instrumentationLibraryName) {
+            this.instrumentationLibraryName = Objects.requireNonNull(instrumentationLibraryName);
+            return this;
+        }
+
+        /**
+         * Reports the selected instruments under another name. Instruments renamed to the same name and with the
+         * same labels share their series.
+         */
+        public Builder setName(String name) {
+            this.name = Objects.requireNonNull(name);
+            return this;
+        }
+
+        public Builder setDescription(String description) {
+            this.description = Objects.requireNonNull(description);
+            return this;
+        }
+
+        /**
+         * Keeps only the given label keys. The overflow label of the cardinality limiter is always kept.
+         */
+        public Builder setLabelKeys(String... labelKeys) {
+            this.labelKeys = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(labelKeys)));
+            return this;
+        }
+
+        /**
+         * Reports the selected counters with the given temporality. Other instruments are always cumulative.
+         */
+        public Builder setAggregationTemporality(MetricData.AggregationTemporality temporality) {
+            this.temporality = Objects.requireNonNull(temporality);
+            return this;
+        }
+
+        /**
+         * Drops the selected instruments: they are built as instruments that ignore all measurements and have no
+         * series. The callbacks of dropped asynchronous instruments are never invoked.
+         */
+        public Builder setDropped(boolean dropped) {
+            this.dropped = dropped;
+            return this;
+        }
+
+        public View build() {
+            return new View(this);
+        }
+    }
+}
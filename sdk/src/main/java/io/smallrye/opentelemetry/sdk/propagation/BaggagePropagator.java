@@ -0,0 +1,196 @@
+package io.smallrye.opentelemetry.sdk.propagation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.api.baggage.BaggageEntryMetadata;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+/**
+ * Propagates baggage in the {@code baggage} header of the <a href="https://www.w3.org/TR/baggage/">W3C Baggage</a>
+ * specification.
+ * <p>
+ * The header is parsed where it is: only the keys, values and properties of its members are copied out of it, and
+ * values are only decoded when they contain percent-encoded octets. Members that are not valid are left out.
+ */
+public final class BaggagePropagator implements TextMapPropagator {
+    static final String BAGGAGE = "baggage";
+
+    private static final BaggagePropagator INSTANCE = new BaggagePropagator();
+    private static final Collection<String> FIELDS = Collections.singletonList(BAGGAGE);
+    private static final int MAX_MEMBERS = 180;
+
+    private BaggagePropagator() {
+    }
+
+    public static BaggagePropagator getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Collection<String> fields() {
+        return FIELDS;
+    }
+
+    @Override
+    public <C> void inject(Context context, C carrier, Setter<C> setter) {
+        if (context == null || setter == null) {
+            return;
+        }
+        Baggage baggage = Baggage.fromContext(context);
+        if (baggage.isEmpty()) {
+            return;
+        }
+        StringBuilder header = new StringBuilder(baggage.size() * 32);
+        baggage.forEach((key, value, metadata) -> {
+            if (header.length() > 0) {
+                header.append(',');
+            }
+            header.append(key).append('=');
+            encode(value, header);
+            String properties = metadata != null ? metadata.getValue() : null;
+            if (properties != null && !properties.isEmpty()) {
+                header.append(';').append(properties);
+            }
+        });
+        setter.set(carrier, BAGGAGE, header.toString());
+    }
+
+    @Override
+    public <C> Context extract(Context context, C carrier, Getter<C> getter) {
+        if (context == null) {
+            return Context.root();
+        }
+        if (getter == null) {
+            return context;
+        }
+        String header = getter.get(carrier, BAGGAGE);
+        if (header == null || header.isEmpty()) {
+            return context;
+        }
+        Baggage baggage = parse(header);
+        return baggage != null ? context.with(baggage) : context;
+    }
+
+    /**
+     * Parses a header, returning {@code null} if it has no valid member.
+     */
+    static Baggage parse(String header) {
+        BaggageBuilder builder = null;
+        int members = 0;
+        int length = header.length();
+        int start = 0;
+        while (start < length && members < MAX_MEMBERS) {
+            int end = header.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int properties = header.indexOf(';', start);
+            int valueEnd = properties >= 0 && properties < end ? properties : end;
+            int equals = header.indexOf('=', start);
+            if (equals >= 0 && equals < valueEnd) {
+                int keyFrom = TraceContextPropagator.skipSpaces(header, start, equals);
+                int keyTo = TraceContextPropagator.trimSpaces(header, keyFrom, equals);
+                int valueFrom = TraceContextPropagator.skipSpaces(header, equals + 1, valueEnd);
+                int valueTo = TraceContextPropagator.trimSpaces(header, valueFrom, valueEnd);
+                String value = keyFrom < keyTo && isToken(header, keyFrom, keyTo) ? decode(header, valueFrom, valueTo)
+                        : null;
+                if (value != null) {
+                    BaggageEntryMetadata metadata = BaggageEntryMetadata.empty();
+                    if (valueEnd < end) {
+                        int propertiesFrom = TraceContextPropagator.skipSpaces(header, valueEnd + 1, end);
+                        int propertiesTo = TraceContextPropagator.trimSpaces(header, propertiesFrom, end);
+                        if (propertiesFrom < propertiesTo) {
+                            metadata = BaggageEntryMetadata.create(header.substring(propertiesFrom, propertiesTo));
+                        }
+                    }
+                    if (builder == null) {
+                        builder = Baggage.builder().setNoParent();
+                    }
+                    builder.put(header.substring(keyFrom, keyTo), value, metadata);
+                    members++;
+                }
+            }
+            start = end + 1;
+        }
+        return builder != null ? builder.build() : null;
+    }
+
+    /**
+     * Tells whether the characters form an RFC 7230 token.
+     */
+    private static boolean isToken(CharSequence chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = chars.charAt(i);
+            if (c <= ' ' || c >= 127 || "\"(),/:;<=>?@[\\]{}".indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the percent-encoded UTF-8 octets of a value, copying it only if it contains some. Returns {@code null}
+     * if an escape is not valid.
+     */
+    private static String decode(String header, int from, int to) {
+        int percent = header.indexOf('%', from);
+        if (percent < 0 || percent >= to) {
+            return header.substring(from, to);
+        }
+        byte[] bytes = new byte[to - from];
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            char c = header.charAt(i);
+            if (c == '%') {
+                int high = i + 2 < to ? Hex.value(header.charAt(i + 1)) : -1;
+                int low = high >= 0 ? Hex.value(header.charAt(i + 2)) : -1;
+                if (low < 0) {
+                    return null;
+                }
+                bytes[length++] = (byte) (high << 4 | low);
+                i += 2;
+            } else {
+                bytes[length++] = (byte) c;
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends a value, percent-encoding the characters that are not baggage octets.
+     */
+    private static void encode(String value, StringBuilder dest) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isBaggageOctet(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            dest.append(value);
+            return;
+        }
+        dest.append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            if (b >= 0 && isBaggageOctet((char) b)) {
+                dest.append((char) b);
+            } else {
+                dest.append('%');
+                Hex.appendUpper(b & 0xff, dest);
+            }
+        }
+    }
+
+    private static boolean isBaggageOctet(char c) {
+        return c > ' ' && c < 127 && c != '"' && c != ',' && c != ';' && c != '\\' && c != '%';
+    }
+
+    @Override
+    public String toString() {
+        return "BaggagePropagator";
+    }
+}
@@ -0,0 +1,63 @@
+package io.smallrye.opentelemetry.sdk.propagation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+/**
+ * Runs several propagators in turn, each injecting or extracting its own fields. The fields are collected once, when
+ * the composite is created.
+ */
+public final class CompositePropagator implements TextMapPropagator {
+    private static final CompositePropagator W3C = of(TraceContextPropagator.getInstance(),
+            BaggagePropagator.getInstance());
+
+    private final TextMapPropagator[] propagators;
+    private final Collection<String> fields;
+
+    private CompositePropagator(TextMapPropagator[] propagators) {
+        this.propagators = propagators;
+        Set<String> all = new LinkedHashSet<>();
+        for (TextMapPropagator propagator : propagators) {
+            all.addAll(propagator.fields());
+        }
+        this.fields = Collections.unmodifiableList(new ArrayList<>(all));
+    }
+
+    public static CompositePropagator of(TextMapPropagator... propagators) {
+        return new CompositePropagator(propagators.clone());
+    }
+
+    /**
+     * Returns the propagator of the W3C {@code traceparent}, {@code tracestate} and {@code baggage} headers.
+     */
+    public static CompositePropagator w3c() {
+        return W3C;
+    }
+
+    @Override
+    public Collection<String> fields() {
+        return fields;
+    }
+
+    @Override
+    public <C> void inject(Context context, C carrier, Setter<C> setter) {
+        for (TextMapPropagator propagator : propagators) {
+            propagator.inject(context, carrier, setter);
+        }
+    }
+
+    @Override
+    public <C> Context extract(Context context, C carrier, Getter<C> getter) {
+        Context extracted = context;
+        for (TextMapPropagator propagator : propagators) {
+            extracted = propagator.extract(extracted, carrier, getter);
+        }
+        return extracted;
+    }
+}
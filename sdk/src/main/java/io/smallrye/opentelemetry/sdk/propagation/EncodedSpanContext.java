@@ -0,0 +1,159 @@
+package io.smallrye.opentelemetry.sdk.propagation;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+
+/**
+ * A {@link SpanContext} that keeps its {@code traceparent} and {@code tracestate} header values, so that they are
+ * formatted at most once however many requests the context is injected into.
+ * <p>
+ * A context extracted from a canonical {@code traceparent} header keeps the header itself, and only cuts the trace and
+ * span ids out of it when they are asked for. Contexts are equal to the other contexts of this class with the same
+ * ids, flags, state and origin; like the contexts of the API, they are never equal to contexts of another class.
+ */
+public final class EncodedSpanContext implements SpanContext {
+    static final int TRACE_ID_OFFSET = 3;
+    static final int SPAN_ID_OFFSET = 36;
+    static final int TRACE_FLAGS_OFFSET = 53;
+    static final int TRACEPARENT_LENGTH = 55;
+
+    private final byte traceFlags;
+    private final TraceState traceState;
+    private final boolean remote;
+    private final boolean valid;
+    // Computed on first use: the fields are immutable, so racing threads compute equal values
+    private String traceId;
+    private String spanId;
+    private String traceparent;
+    private String tracestate;
+
+    private EncodedSpanContext(String traceId, String spanId, String traceparent, byte traceFlags,
+            TraceState traceState, boolean remote, boolean valid) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.traceparent = traceparent;
+        this.traceFlags = traceFlags;
+        this.traceState = traceState;
+        this.remote = remote;
+        this.valid = valid;
+    }
+
+    public static EncodedSpanContext create(String traceId, String spanId, byte traceFlags, TraceState traceState) {
+        return create(traceId, spanId, traceFlags, traceState, false);
+    }
+
+    public static EncodedSpanContext createFromRemoteParent(String traceId, String spanId, byte traceFlags,
+            TraceState traceState) {
+        return create(traceId, spanId, traceFlags, traceState, true);
+    }
+
+    private static EncodedSpanContext create(String traceId, String spanId, byte traceFlags, TraceState traceState,
+            boolean remote) {
+        boolean valid = traceId.length() == 32 && Hex.isValidId(traceId, 0, 32)
+                && spanId.length() == 16 && Hex.isValidId(spanId, 0, 16);
+        return new EncodedSpanContext(traceId, spanId, null, traceFlags, traceState, remote, valid);
+    }
+
+    /**
+     * Creates a remote context from a validated, canonical {@code traceparent} header value.
+     */
+    static EncodedSpanContext fromTraceparent(String traceparent, byte traceFlags, TraceState traceState) {
+        return new EncodedSpanContext(null, null, traceparent, traceFlags, traceState, true, true);
+    }
+
+    @Override
+    public String getTraceIdAsHexString() {
+        String id = traceId;
+        if (id == null) {
+            id = traceparent.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + 32);
+            traceId = id;
+        }
+        return id;
+    }
+
+    @Override
+    public String getSpanIdAsHexString() {
+        String id = spanId;
+        if (id == null) {
+            id = traceparent.substring(SPAN_ID_OFFSET, SPAN_ID_OFFSET + 16);
+            spanId = id;
+        }
+        return id;
+    }
+
+    @Override
+    public byte getTraceFlags() {
+        return traceFlags;
+    }
+
+    @Override
+    public TraceState getTraceState() {
+        return traceState;
+    }
+
+    @Override
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public boolean isRemote() {
+        return remote;
+    }
+
+    /**
+     * Returns the value of the {@code traceparent} header carrying this context.
+     */
+    public String getTraceparent() {
+        String header = traceparent;
+        if (header == null) {
+            header = TraceContextPropagator.formatTraceparent(this);
+            traceparent = header;
+        }
+        return header;
+    }
+
+    /**
+     * Returns the value of the {@code tracestate} header carrying the state of this context.
+     */
+    public String getTracestate() {
+        String header = tracestate;
+        if (header == null) {
+            header = TraceContextPropagator.formatTracestate(traceState);
+            tracestate = header;
+        }
+        return header;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof EncodedSpanContext)) {
+            return false;
+        }
+        EncodedSpanContext that = (EncodedSpanContext) o;
+        return getTraceIdAsHexString().equals(that.getTraceIdAsHexString())
+                && getSpanIdAsHexString().equals(that.getSpanIdAsHexString())
+                && traceFlags == that.traceFlags
+                && traceState.equals(that.traceState)
+                && remote == that.remote;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h = h * 1000003 ^ getTraceIdAsHexString().hashCode();
+        h = h * 1000003 ^ getSpanIdAsHexString().hashCode();
+        h = h * 1000003 ^ traceFlags;
+        h = h * 1000003 ^ traceState.hashCode();
+        return h * 1000003 ^ (remote ? 1231 : 1237);
+    }
+
+    @Override
+    public String toString() {
+        return "SpanContext{traceId=" + getTraceIdAsHexString() + ", spanId=" + getSpanIdAsHexString()
+                + ", traceFlags=" + traceFlags + ", traceState=" + traceState + ", remote=" + remote + "}";
+    }
+}
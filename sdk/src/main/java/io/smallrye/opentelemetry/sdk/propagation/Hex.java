@@ -0,0 +1,75 @@
+package io.smallrye.opentelemetry.sdk.propagation;
+
+import java.util.Arrays;
+
+/**
+ * Table-driven hexadecimal encoding and decoding, reading characters in place.
+ */
+final class Hex {
+    private static final char[] LOWER_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char[] UPPER_DIGITS = "0123456789ABCDEF".toCharArray();
+    // Values of the lowercase digits, which are the only ones W3C identifiers may use
+    private static final byte[] LOWER_VALUES = new byte[128];
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(LOWER_VALUES, (byte) -1);
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            LOWER_VALUES[LOWER_DIGITS[i]] = (byte) i;
+            VALUES[LOWER_DIGITS[i]] = (byte) i;
+            VALUES[UPPER_DIGITS[i]] = (byte) i;
+        }
+    }
+
+    private Hex() {
+        // Prevent direct instantiation
+    }
+
+    /**
+     * Returns the value of a lowercase digit, or {@code -1}.
+     */
+    static int lowerValue(char c) {
+        return c < 128 ? LOWER_VALUES[c] : -1;
+    }
+
+    /**
+     * Returns the value of a digit of either case, or {@code -1}.
+     */
+    static int value(char c) {
+        return c < 128 ? VALUES[c] : -1;
+    }
+
+    /**
+     * Returns the byte encoded by two lowercase digits, or {@code -1}.
+     */
+    static int lowerByte(CharSequence chars, int index) {
+        int high = lowerValue(chars.charAt(index));
+        int low = lowerValue(chars.charAt(index + 1));
+        return high < 0 || low < 0 ? -1 : high << 4 | low;
+    }
+
+    /**
+     * Tells whether the characters are lowercase digits, not all zero.
+     */
+    static boolean isValidId(CharSequence chars, int from, int to) {
+        boolean zero = true;
+        for (int i = from; i < to; i++) {
+            int value = lowerValue(chars.charAt(i));
+            if (value < 0) {
+                return false;
+            }
+            zero &= value == 0;
+        }
+        return !zero;
+    }
+
+    static void appendLower(int b, char[] dest, int offset) {
+        dest[offset] = LOWER_DIGITS[b >>> 4 & 0xf];
+        dest[offset + 1] = LOWER_DIGITS[b & 0xf];
+    }
+
+    static void appendUpper(int b, StringBuilder dest) {
+        dest.append(UPPER_DIGITS[b >>> 4 & 0xf]).append(UPPER_DIGITS[b & 0xf]);
+    }
+}
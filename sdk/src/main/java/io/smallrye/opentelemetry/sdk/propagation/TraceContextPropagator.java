@@ -0,0 +1,201 @@
+package io.smallrye.opentelemetry.sdk.propagation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+/**
+ * Propagates span contexts in the {@code traceparent} and {@code tracestate} headers of the
+ * <a href="https://www.w3.org/TR/trace-context/">W3C Trace Context</a> specification.
+ * <p>
+ * Headers are validated where they are, without splitting or copying them, and a valid {@code traceparent} header
+ * becomes an {@link EncodedSpanContext} that keeps it: the ids are only copied out of the header when they are read,
+ * and injecting the context again, as dropped spans do, sends the header it came with. Other contexts of this SDK are
+ * {@link EncodedSpanContext}s too, which format their headers once.
+ */
+public final class TraceContextPropagator implements TextMapPropagator {
+    static final String TRACE_PARENT = "traceparent";
+    static final String TRACE_STATE = "tracestate";
+
+    private static final TraceContextPropagator INSTANCE = new TraceContextPropagator();
+    private static final Collection<String> FIELDS = Collections
+            .unmodifiableList(Arrays.asList(TRACE_PARENT, TRACE_STATE));
+    private static final int MAX_TRACESTATE_MEMBERS = 32;
+
+    private TraceContextPropagator() {
+    }
+
+    public static TraceContextPropagator getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Collection<String> fields() {
+        return FIELDS;
+    }
+
+    @Override
+    public <C> void inject(Context context, C carrier, Setter<C> setter) {
+        if (context == null || setter == null) {
+            return;
+        }
+        SpanContext spanContext = Span.fromContext(context).getSpanContext();
+        if (!spanContext.isValid()) {
+            return;
+        }
+        if (spanContext instanceof EncodedSpanContext) {
+            EncodedSpanContext encoded = (EncodedSpanContext) spanContext;
+            setter.set(carrier, TRACE_PARENT, encoded.getTraceparent());
+            if (!spanContext.getTraceState().isEmpty()) {
+                setter.set(carrier, TRACE_STATE, encoded.getTracestate());
+            }
+        } else {
+            setter.set(carrier, TRACE_PARENT, formatTraceparent(spanContext));
+            if (!spanContext.getTraceState().isEmpty()) {
+                setter.set(carrier, TRACE_STATE, formatTracestate(spanContext.getTraceState()));
+            }
+        }
+    }
+
+    @Override
+    public <C> Context extract(Context context, C carrier, Getter<C> getter) {
+        if (context == null) {
+            return Context.root();
+        }
+        if (getter == null) {
+            return context;
+        }
+        String traceparent = getter.get(carrier, TRACE_PARENT);
+        if (traceparent == null) {
+            return context;
+        }
+        SpanContext spanContext = parse(traceparent, getter.get(carrier, TRACE_STATE));
+        return spanContext != null ? context.with(Span.wrap(spanContext)) : context;
+    }
+
+    /**
+     * Parses the headers, returning {@code null} if the {@code traceparent} header is not valid. An invalid
+     * {@code tracestate} header is ignored.
+     */
+    static SpanContext parse(String traceparent, String tracestate) {
+        int length = traceparent.length();
+        if (length < EncodedSpanContext.TRACEPARENT_LENGTH) {
+            return null;
+        }
+        int version = Hex.lowerByte(traceparent, 0);
+        if (version < 0 || version == 0xff) {
+            return null;
+        }
+        // Later versions may append fields, which are ignored
+        if (version == 0 ? length != EncodedSpanContext.TRACEPARENT_LENGTH
+                : length > EncodedSpanContext.TRACEPARENT_LENGTH
+                        && traceparent.charAt(EncodedSpanContext.TRACEPARENT_LENGTH) != '-') {
+            return null;
+        }
+        if (traceparent.charAt(EncodedSpanContext.TRACE_ID_OFFSET - 1) != '-'
+                || traceparent.charAt(EncodedSpanContext.SPAN_ID_OFFSET - 1) != '-'
+                || traceparent.charAt(EncodedSpanContext.TRACE_FLAGS_OFFSET - 1) != '-'
+                || !Hex.isValidId(traceparent, EncodedSpanContext.TRACE_ID_OFFSET,
+                        EncodedSpanContext.SPAN_ID_OFFSET - 1)
+                || !Hex.isValidId(traceparent, EncodedSpanContext.SPAN_ID_OFFSET,
+                        EncodedSpanContext.TRACE_FLAGS_OFFSET - 1)) {
+            return null;
+        }
+        int traceFlags = Hex.lowerByte(traceparent, EncodedSpanContext.TRACE_FLAGS_OFFSET);
+        if (traceFlags < 0) {
+            return null;
+        }
+        TraceState traceState = parseTracestate(tracestate);
+        if (version == 0) {
+            return EncodedSpanContext.fromTraceparent(traceparent, (byte) traceFlags, traceState);
+        }
+        return EncodedSpanContext.createFromRemoteParent(
+                traceparent.substring(EncodedSpanContext.TRACE_ID_OFFSET, EncodedSpanContext.SPAN_ID_OFFSET - 1),
+                traceparent.substring(EncodedSpanContext.SPAN_ID_OFFSET, EncodedSpanContext.TRACE_FLAGS_OFFSET - 1),
+                (byte) traceFlags, traceState);
+    }
+
+    /**
+     * Parses the list members from the last to the first, as the builder puts each member it is given first. Members
+     * whose key or value is not valid are left out by the builder.
+     */
+    static TraceState parseTracestate(String tracestate) {
+        if (tracestate == null || tracestate.isEmpty()) {
+            return TraceState.getDefault();
+        }
+        TraceStateBuilder builder = null;
+        int members = 0;
+        int end = tracestate.length();
+        while (end >= 0) {
+            int start = tracestate.lastIndexOf(',', end - 1) + 1;
+            int from = skipSpaces(tracestate, start, end);
+            int to = trimSpaces(tracestate, from, end);
+            if (from < to) {
+                int equals = tracestate.indexOf('=', from);
+                if (equals < 0 || equals >= to || ++members > MAX_TRACESTATE_MEMBERS) {
+                    return TraceState.getDefault();
+                }
+                if (builder == null) {
+                    builder = TraceState.builder();
+                }
+                builder.set(tracestate.substring(from, equals), tracestate.substring(equals + 1, to));
+            }
+            end = start - 1;
+        }
+        return builder != null ? builder.build() : TraceState.getDefault();
+    }
+
+    static String formatTraceparent(SpanContext spanContext) {
+        char[] chars = new char[EncodedSpanContext.TRACEPARENT_LENGTH];
+        chars[0] = '0';
+        chars[1] = '0';
+        chars[EncodedSpanContext.TRACE_ID_OFFSET - 1] = '-';
+        spanContext.getTraceIdAsHexString().getChars(0, 32, chars, EncodedSpanContext.TRACE_ID_OFFSET);
+        chars[EncodedSpanContext.SPAN_ID_OFFSET - 1] = '-';
+        spanContext.getSpanIdAsHexString().getChars(0, 16, chars, EncodedSpanContext.SPAN_ID_OFFSET);
+        chars[EncodedSpanContext.TRACE_FLAGS_OFFSET - 1] = '-';
+        Hex.appendLower(spanContext.getTraceFlags(), chars, EncodedSpanContext.TRACE_FLAGS_OFFSET);
+        return new String(chars);
+    }
+
+    static String formatTracestate(TraceState traceState) {
+        StringBuilder builder = new StringBuilder(traceState.size() * 32);
+        traceState.forEach((key, value) -> {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.toString();
+    }
+
+    static int skipSpaces(CharSequence chars, int from, int to) {
+        while (from < to && isSpace(chars.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    static int trimSpaces(CharSequence chars, int from, int to) {
+        while (to > from && isSpace(chars.charAt(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    @Override
+    public String toString() {
+        return "TraceContextPropagator";
+    }
+}
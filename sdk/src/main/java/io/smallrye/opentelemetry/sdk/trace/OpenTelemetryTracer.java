@@ -0,0 +1,31 @@
+package io.smallrye.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.smallrye.opentelemetry.sdk.trace.impl.SpanBuilderImpl;
+
+/**
+ * The tracer of one instrumentation library, whose spans report the library they come from.
+ */
+public final class OpenTelemetryTracer implements Tracer {
+    private final OpenTelemetryTracerProvider provider;
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+
+    OpenTelemetryTracer(OpenTelemetryTracerProvider provider, InstrumentationLibraryInfo instrumentationLibraryInfo) {
+        this.provider = provider;
+        this.instrumentationLibraryInfo = instrumentationLibraryInfo;
+    }
+
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return instrumentationLibraryInfo;
+    }
+
+    @Override
+    public SpanBuilder spanBuilder(String spanName) {
+        if (provider.isShutdown()) {
+            return Tracer.getDefault().spanBuilder(spanName);
+        }
+        return new SpanBuilderImpl(provider, instrumentationLibraryInfo, spanName);
+    }
+}
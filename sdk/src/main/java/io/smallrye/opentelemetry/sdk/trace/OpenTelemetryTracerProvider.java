@@ -0,0 +1,126 @@
+package io.smallrye.opentelemetry.sdk.trace;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.internal.SystemClock;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.TracerSdkManagement;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import io.smallrye.opentelemetry.sdk.trace.samplers.HeadSampler;
+
+/**
+ * Holds the state shared by the tracers of an application: the active {@link TraceConfig}, with its sampler and
+ * limits, and the {@link SpanProcessor}s receiving the spans. Span processors and exporters written for the upstream
+ * SDK can be added as they are.
+ */
+public class OpenTelemetryTracerProvider implements TracerProvider, TracerSdkManagement {
+
+    public static final OpenTelemetryTracerProvider INSTANCE = new OpenTelemetryTracerProvider();
+
+    private final Clock clock;
+    private final IdGenerator idGenerator;
+    private final Resource resource;
+    private final ConcurrentMap<InstrumentationLibraryInfo, OpenTelemetryTracer> tracers = new ConcurrentHashMap<>();
+    private final List<SpanProcessor> spanProcessors = new CopyOnWriteArrayList<>();
+    private volatile SpanProcessor activeSpanProcessor = SpanProcessor.composite();
+    private volatile TraceConfig activeTraceConfig = TraceConfig.getDefault().toBuilder()
+            .setSampler(HeadSampler.parentBased(HeadSampler.alwaysOn()))
+            .build();
+    private volatile boolean shutdown;
+
+    public OpenTelemetryTracerProvider() {
+        this(SystemClock.getInstance(), IdGenerator.random(), Resource.getDefault());
+    }
+
+    public OpenTelemetryTracerProvider(Clock clock, IdGenerator idGenerator, Resource resource) {
+        this.clock = Objects.requireNonNull(clock);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.resource = Objects.requireNonNull(resource);
+    }
+
+    @Override
+    public OpenTelemetryTracer get(String instrumentationName) {
+        return get(instrumentationName, null);
+    }
+
+    /**
+     * Returns the tracer of an instrumentation library, creating it on first use.
+     */
+    @Override
+    public OpenTelemetryTracer get(String instrumentationName, String instrumentationVersion) {
+        InstrumentationLibraryInfo info = InstrumentationLibraryInfo.create(instrumentationName,
+                instrumentationVersion);
+        OpenTelemetryTracer tracer = tracers.get(info);
+        if (tracer == null) {
+            tracer = tracers.computeIfAbsent(info, key -> new OpenTelemetryTracer(this, key));
+        }
+        return tracer;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    /**
+     * Returns the processor receiving the spans started from now on, which combines all added processors.
+     */
+    public SpanProcessor getActiveSpanProcessor() {
+        return activeSpanProcessor;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public TraceConfig getActiveTraceConfig() {
+        return activeTraceConfig;
+    }
+
+    @Override
+    public void updateActiveTraceConfig(TraceConfig traceConfig) {
+        activeTraceConfig = Objects.requireNonNull(traceConfig);
+    }
+
+    @Override
+    public synchronized void addSpanProcessor(SpanProcessor spanProcessor) {
+        spanProcessors.add(Objects.requireNonNull(spanProcessor));
+        activeSpanProcessor = SpanProcessor.composite(spanProcessors);
+    }
+
+    /**
+     * Shuts the span processors down. Tracers only return non-recording spans afterwards.
+     */
+    @Override
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        activeSpanProcessor.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return activeSpanProcessor.forceFlush();
+    }
+}
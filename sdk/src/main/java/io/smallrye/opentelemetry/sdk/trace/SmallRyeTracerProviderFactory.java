@@ -0,0 +1,28 @@
+package io.smallrye.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.spi.trace.TracerProviderFactory;
+
+/**
+ * Registers {@link OpenTelemetryTracerProvider#INSTANCE} as the global tracer provider. The upstream SDK registers its
+ * own factory too, and the API picks the first one found on the class path, unless the
+ * {@code io.opentelemetry.spi.trace.TracerProviderFactory} system property names the factory to use.
+ */
+public class SmallRyeTracerProviderFactory implements TracerProvider, TracerProviderFactory {
+
+    @Override
+    public Tracer get(String instrumentationName) {
+        return get(instrumentationName, null);
+    }
+
+    @Override
+    public Tracer get(String instrumentationName, String instrumentationVersion) {
+        return OpenTelemetryTracerProvider.INSTANCE.get(instrumentationName, instrumentationVersion);
+    }
+
+    @Override
+    public TracerProvider create() {
+        return this;
+    }
+}
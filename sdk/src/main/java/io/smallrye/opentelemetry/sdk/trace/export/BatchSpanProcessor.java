@@ -0,0 +1,345 @@
+package io.smallrye.opentelemetry.sdk.trace.export;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.AsynchronousInstrument;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.PeriodicMetricExporter;
+import io.smallrye.opentelemetry.sdk.trace.impl.MpscArrayQueue;
+
+/**
+ * Hands sampled spans to a {@link SpanExporter} in batches, from a dedicated thread.
+ * <p>
+ * Ended spans are queued in a bounded {@link MpscArrayQueue}, so the threads ending spans never lock, never wait for
+ * the exporter and never allocate. When the queue is full, the span that was just ended is dropped. The export thread
+ * takes the snapshot of each span, and exports a batch when it is full or when the schedule delay has elapsed since
+ * the previous export. It is only woken early when a full batch is waiting.
+ * <p>
+ * {@link #forceFlush()} exports the spans queued when it is called, but not the ones queued after, so it finishes
+ * within the export timeout for each batch even while spans keep ending. The processor reports its queue size and the
+ * number of exported and dropped spans as metrics of the {@value PeriodicMetricExporter#INSTRUMENTATION_NAME}
+ * instrumentation library, labeled with {@value PeriodicMetricExporter#INSTANCE_LABEL} to tell processors apart. They
+ * are removed from the registry on shutdown.
+ */
+public final class BatchSpanProcessor implements SpanProcessor {
+    private static final Logger LOGGER = Logger.getLogger(BatchSpanProcessor.class.getName());
+    private static final AtomicIntegerFieldUpdater<BatchSpanProcessor> PARKED = AtomicIntegerFieldUpdater
+            .newUpdater(BatchSpanProcessor.class, "parked");
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final SpanExporter exporter;
+    private final int maxExportBatchSize;
+    private final long scheduleDelayNanos;
+    private final Duration exportTimeout;
+    private final MpscArrayQueue<ReadableSpan> queue;
+    private final ConcurrentLinkedQueue<CompletableResultCode> flushRequests = new ConcurrentLinkedQueue<>();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final String instance;
+    private final List<AsynchronousInstrument<?>> observers = new ArrayList<>(3);
+    private final Thread worker;
+    // Only used by the worker thread
+    private List<SpanData> batch;
+    private final Consumer<ReadableSpan> addToBatch = span -> batch.add(span.toSpanData());
+    // The queue size that completes the current batch while the worker is parked, or 0 when it is not
+    private volatile int parked;
+    private volatile boolean shutdown;
+    private volatile boolean stopped;
+
+    private BatchSpanProcessor(Builder builder) {
+        this.exporter = builder.exporter;
+        this.maxExportBatchSize = builder.maxExportBatchSize;
+        this.scheduleDelayNanos = builder.scheduleDelay.toNanos();
+        this.exportTimeout = builder.exportTimeout;
+        this.queue = new MpscArrayQueue<>(builder.maxQueueSize);
+        this.batch = new ArrayList<>(maxExportBatchSize);
+
+        this.instance = "spans-" + INSTANCES.incrementAndGet();
+        Labels labels = Labels.of(PeriodicMetricExporter.INSTANCE_LABEL, instance);
+        Meter meter = OpenTelemetryMeterRegistry.INSTANCE.meter(PeriodicMetricExporter.INSTRUMENTATION_NAME, null);
+        observers.add(meter.longUpDownSumObserverBuilder("otel.sdk.export.spans.queue.size")
+                .setDescription("Spans waiting to be exported")
+                .setCallback(result -> result.observe(queue.size(), labels))
+                .build());
+        observers.add(meter.longSumObserverBuilder("otel.sdk.export.spans.exported")
+                .setDescription("Spans exported successfully")
+                .setCallback(result -> result.observe(exportedSpans.sum(), labels))
+                .build());
+        observers.add(meter.longSumObserverBuilder("otel.sdk.export.spans.dropped")
+                .setDescription("Spans dropped because the queue was full or their export failed")
+                .setCallback(result -> result.observe(droppedSpans.sum(), labels))
+                .build());
+
+        this.worker = new DaemonThreadFactory("otel-span-processor").newThread(this::run);
+        this.worker.start();
+    }
+
+    public static Builder builder(SpanExporter exporter) {
+        return new Builder(exporter);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (shutdown || !span.getSpanContext().isSampled()) {
+            return;
+        }
+        if (!queue.offer(span)) {
+            droppedSpans.increment();
+            return;
+        }
+        int wakeUpSize = parked;
+        if (wakeUpSize != 0 && queue.size() >= wakeUpSize && PARKED.compareAndSet(this, wakeUpSize, 0)) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    /**
+     * Returns the number of spans exported successfully.
+     */
+    public long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans dropped, because the queue was full or because their export failed.
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Exports the spans queued so far.
+     */
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (stopped) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        flushRequests.add(result);
+        LockSupport.unpark(worker);
+        return result;
+    }
+
+    /**
+     * Stops accepting spans, exports the spans still queued, shuts the exporter down and removes the metrics of this
+     * processor from the registry.
+     */
+    @Override
+    public CompletableResultCode shutdown() {
+        if (shutdown) {
+            return CompletableResultCode.ofSuccess();
+        }
+        shutdown = true;
+        CompletableResultCode result = new CompletableResultCode();
+        CompletableResultCode flushed = forceFlush();
+        flushed.whenComplete(() -> {
+            stopped = true;
+            LockSupport.unpark(worker);
+            for (AsynchronousInstrument<?> observer : observers) {
+                OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().unregister(observer);
+            }
+            OpenTelemetryMeterRegistry.INSTANCE.removeSeries(PeriodicMetricExporter.INSTANCE_LABEL, instance);
+            CompletableResultCode exporterShutdown = exporter.shutdown();
+            exporterShutdown.whenComplete(() -> {
+                if (flushed.isSuccess() && exporterShutdown.isSuccess()) {
+                    result.succeed();
+                } else {
+                    result.fail();
+                }
+            });
+        });
+        return result;
+    }
+
+    private void run() {
+        long deadline = System.nanoTime() + scheduleDelayNanos;
+        while (!stopped) {
+            if (!flushRequests.isEmpty()) {
+                flush();
+                deadline = System.nanoTime() + scheduleDelayNanos;
+                continue;
+            }
+            queue.drain(addToBatch, maxExportBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxExportBatchSize || remaining <= 0) {
+                export();
+                deadline = System.nanoTime() + scheduleDelayNanos;
+                continue;
+            }
+            // The spans drained already count toward the batch
+            int wakeUpSize = maxExportBatchSize - batch.size();
+            parked = wakeUpSize;
+            // Spans queued before the size was published did not wake the worker up
+            if (queue.size() < wakeUpSize && flushRequests.isEmpty()) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            parked = 0;
+        }
+        // Spans ended while shutting down may still be queued, but nothing exports them anymore
+        droppedSpans.add(queue.size());
+        for (CompletableResultCode request; (request = flushRequests.poll()) != null;) {
+            request.succeed();
+        }
+    }
+
+    private void flush() {
+        List<CompletableResultCode> requests = new ArrayList<>();
+        for (CompletableResultCode request; (request = flushRequests.poll()) != null;) {
+            requests.add(request);
+        }
+        // Only the spans queued so far are flushed, so that the flush ends even if spans keep ending
+        int pending = queue.size();
+        boolean success = true;
+        int drained;
+        do {
+            drained = queue.drain(addToBatch, Math.min(pending, maxExportBatchSize - batch.size()));
+            pending -= drained;
+            success &= export();
+        } while (pending > 0 && drained > 0);
+        for (CompletableResultCode request : requests) {
+            if (success) {
+                request.succeed();
+            } else {
+                request.fail();
+            }
+        }
+    }
+
+    /**
+     * Exports the current batch, waits for the export to complete and starts a new batch. The batch is not reused,
+     * as an exporter that timed out may still read it.
+     *
+     * @return {@code true} if the export succeeded
+     */
+    private boolean export() {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        List<SpanData> exported = batch;
+        batch = new ArrayList<>(maxExportBatchSize);
+        boolean success = false;
+        try {
+            CompletableResultCode result = exporter.export(exported).join(exportTimeout.toNanos(),
+                    TimeUnit.NANOSECONDS);
+            if (!result.isDone()) {
+                LOGGER.log(Level.WARNING, "Export to {0} timed out after {1}", new Object[] { exporter, exportTimeout });
+            } else if (!result.isSuccess()) {
+                LOGGER.log(Level.WARNING, "Export to {0} failed", exporter);
+            } else {
+                success = true;
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Export to " + exporter + " failed", e);
+        }
+        if (success) {
+            exportedSpans.add(exported.size());
+        } else {
+            droppedSpans.add(exported.size());
+        }
+        return success;
+    }
+
+    public static final class Builder {
+        private final SpanExporter exporter;
+        private Duration scheduleDelay = Duration.ofSeconds(5);
+        private Duration exportTimeout = Duration.ofSeconds(30);
+        private int maxQueueSize = 2048;
+        private int maxExportBatchSize = 512;
+
+        private Builder(SpanExporter exporter) {
+            this.exporter = Objects.requireNonNull(exporter);
+        }
+
+        /**
+         * Sets the longest time a span waits in the queue while the batch is not full.
+         */
+        public Builder setScheduleDelay(Duration scheduleDelay) {
+            this.scheduleDelay = positive(scheduleDelay, "Schedule delay");
+            return this;
+        }
+
+        public Builder setExportTimeout(Duration exportTimeout) {
+            this.exportTimeout = positive(exportTimeout, "Export timeout");
+            return this;
+        }
+
+        /**
+         * Sets the number of spans the queue holds, rounded up to a power of two. Spans ended while the queue is full
+         * are dropped.
+         */
+        public Builder setMaxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 1) {
+                throw new IllegalArgumentException("Queue size must be positive: " + maxQueueSize);
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public Builder setMaxExportBatchSize(int maxExportBatchSize) {
+            if (maxExportBatchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be positive: " + maxExportBatchSize);
+            }
+            this.maxExportBatchSize = maxExportBatchSize;
+            return this;
+        }
+
+        /**
+         * Starts the export thread.
+         */
+        public BatchSpanProcessor build() {
+            if (maxExportBatchSize > maxQueueSize) {
+                throw new IllegalStateException(
+                        "Batch size " + maxExportBatchSize + " is larger than the queue size " + maxQueueSize);
+            }
+            return new BatchSpanProcessor(this);
+        }
+
+        private static Duration positive(Duration duration, String name) {
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
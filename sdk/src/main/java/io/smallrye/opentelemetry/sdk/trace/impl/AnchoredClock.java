@@ -0,0 +1,34 @@
+package io.smallrye.opentelemetry.sdk.trace.impl;
+
+import io.opentelemetry.sdk.common.Clock;
+
+/**
+ * A clock that reads the wall clock once, when it is created, and derives later timestamps from the monotonic
+ * {@link Clock#nanoTime()}.
+ * <p>
+ * A root span creates the anchor and the spans started under it in this process share it, so a trace reads the wall
+ * clock once, and the timestamps of its spans are consistent with each other even if the wall clock is adjusted
+ * meanwhile.
+ */
+public final class AnchoredClock {
+    private final Clock clock;
+    private final long epochNanos;
+    private final long nanoTime;
+
+    private AnchoredClock(Clock clock, long epochNanos, long nanoTime) {
+        this.clock = clock;
+        this.epochNanos = epochNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    public static AnchoredClock create(Clock clock) {
+        return new AnchoredClock(clock, clock.now(), clock.nanoTime());
+    }
+
+    /**
+     * Returns the current time in nanoseconds since the epoch.
+     */
+    public long now() {
+        return epochNanos + (clock.nanoTime() - nanoTime);
+    }
+}
@@ -0,0 +1,114 @@
+package io.smallrye.opentelemetry.sdk.trace.impl;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A bounded, append-only sequence of entries that concurrent writers fill without locking.
+ * <p>
+ * A writer reserves an entry with an atomic increment, then publishes its fields with ordered stores. Entries live in
+ * chunks of doubling size, allocated on first use, so the log never copies or blocks while growing, and a span with a
+ * couple of attributes only pays for the first, small chunk. The directory of the larger chunks is only allocated
+ * when the first chunk overflows, and a log that stays empty allocates nothing. Readers skip the entries that were
+ * reserved but not published yet: the field published last tells whether an entry is complete.
+ */
+final class AppendLog {
+    private static final int FIRST_CHUNK_BITS = 3;
+    private static final int MAX_CHUNKS = 32 - FIRST_CHUNK_BITS;
+    private static final AtomicIntegerFieldUpdater<AppendLog> RESERVED = AtomicIntegerFieldUpdater
+            .newUpdater(AppendLog.class, "reserved");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AppendLog, AtomicReferenceArray> FIRST = AtomicReferenceFieldUpdater
+            .newUpdater(AppendLog.class, AtomicReferenceArray.class, "first");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AppendLog, AtomicReferenceArray> MORE = AtomicReferenceFieldUpdater
+            .newUpdater(AppendLog.class, AtomicReferenceArray.class, "more");
+
+    private final int capacity;
+    private final int width;
+    private volatile AtomicReferenceArray<Object> first;
+    private volatile AtomicReferenceArray<AtomicReferenceArray<Object>> more;
+    private volatile int reserved;
+
+    /**
+     * @param capacity the maximum number of entries
+     * @param width the number of fields of each entry
+     */
+    AppendLog(int capacity, int width) {
+        this.capacity = capacity;
+        this.width = width;
+    }
+
+    /**
+     * Reserves the next entry, or returns {@code -1} when the log is full. Reservations are counted either way, so
+     * that the number of entries that were dropped is known.
+     */
+    int reserve() {
+        int entry = RESERVED.getAndIncrement(this);
+        return entry >= 0 && entry < capacity ? entry : -1;
+    }
+
+    void set(int entry, int field, Object value) {
+        chunk(entry, true).lazySet(offset(entry) * width + field, value);
+    }
+
+    /**
+     * Returns a field of an entry, or {@code null} if it was not published yet.
+     */
+    Object get(int entry, int field) {
+        AtomicReferenceArray<Object> chunk = chunk(entry, false);
+        return chunk != null ? chunk.get(offset(entry) * width + field) : null;
+    }
+
+    /**
+     * Returns the number of entries that can be read, which may include entries not published yet.
+     */
+    int size() {
+        int total = reserved;
+        return total >= 0 ? Math.min(total, capacity) : capacity;
+    }
+
+    /**
+     * Returns the number of entries appended so far, including the ones dropped because the log was full.
+     */
+    int totalAppended() {
+        int total = reserved;
+        return total >= 0 ? total : Integer.MAX_VALUE;
+    }
+
+    private AtomicReferenceArray<Object> chunk(int entry, boolean create) {
+        int chunkIndex = chunkIndex(entry);
+        if (chunkIndex == 0) {
+            AtomicReferenceArray<Object> chunk = first;
+            if (chunk == null && create) {
+                FIRST.compareAndSet(this, null, new AtomicReferenceArray<>((1 << FIRST_CHUNK_BITS) * width));
+                chunk = first;
+            }
+            return chunk;
+        }
+        AtomicReferenceArray<AtomicReferenceArray<Object>> chunks = more;
+        if (chunks == null) {
+            if (!create) {
+                return null;
+            }
+            MORE.compareAndSet(this, null, new AtomicReferenceArray<>(MAX_CHUNKS - 1));
+            chunks = more;
+        }
+        AtomicReferenceArray<Object> chunk = chunks.get(chunkIndex - 1);
+        if (chunk == null && create) {
+            int length = (1 << (chunkIndex + FIRST_CHUNK_BITS)) * width;
+            chunks.compareAndSet(chunkIndex - 1, null, new AtomicReferenceArray<>(length));
+            chunk = chunks.get(chunkIndex - 1);
+        }
+        return chunk;
+    }
+
+    private static int chunkIndex(int entry) {
+        return 31 - Integer.numberOfLeadingZeros((entry >>> FIRST_CHUNK_BITS) + 1);
+    }
+
+    private static int offset(int entry) {
+        return entry - (((1 << chunkIndex(entry)) - 1) << FIRST_CHUNK_BITS);
+    }
+}
@@ -0,0 +1,125 @@
+package io.smallrye.opentelemetry.sdk.trace.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue for many producers and a single consumer, backed by a ring buffer.
+ * <p>
+ * Producers claim a slot with a compare-and-set of the producer index, then publish the element with an ordered
+ * store, so offering never locks and never allocates. Producers only read the consumer index when the ring looks full
+ * from their cached view of it. The consumer owns the consumer index and clears each slot it takes; a claimed slot
+ * that is still empty belongs to a producer between its claim and its store, which the consumer waits for.
+ * <p>
+ * The two indices live in one array, a cache line and more apart, so that producers and the consumer do not keep
+ * invalidating each other's line.
+ */
+public final class MpscArrayQueue<E> {
+    private static final int PRODUCER_INDEX = 8;
+    private static final int PRODUCER_LIMIT = PRODUCER_INDEX + 1;
+    private static final int CONSUMER_INDEX = PRODUCER_INDEX + 16;
+    private static final int INDICES_LENGTH = CONSUMER_INDEX + 8;
+
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray indices = new AtomicLongArray(INDICES_LENGTH);
+    private final int mask;
+
+    /**
+     * @param capacity the maximum number of elements, rounded up to a power of two
+     */
+    public MpscArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int length = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+        this.indices.lazySet(PRODUCER_LIMIT, length);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an element, unless the queue is full.
+     *
+     * @return {@code false} if the queue is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long limit = indices.get(PRODUCER_LIMIT);
+        long index;
+        do {
+            index = indices.get(PRODUCER_INDEX);
+            if (index >= limit) {
+                limit = indices.get(CONSUMER_INDEX) + capacity();
+                if (index >= limit) {
+                    return false;
+                }
+                indices.lazySet(PRODUCER_LIMIT, limit);
+            }
+        } while (!indices.compareAndSet(PRODUCER_INDEX, index, index + 1));
+        buffer.lazySet((int) index & mask, element);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element, waiting for it to be published if it was claimed already. Only one thread may
+     * consume.
+     *
+     * @return the oldest element, or {@code null} if the queue is empty
+     */
+    public E poll() {
+        long index = indices.get(CONSUMER_INDEX);
+        int offset = (int) index & mask;
+        E element = buffer.get(offset);
+        if (element == null) {
+            if (index == indices.get(PRODUCER_INDEX)) {
+                return null;
+            }
+            do {
+                Thread.yield();
+                element = buffer.get(offset);
+            } while (element == null);
+        }
+        buffer.lazySet(offset, null);
+        indices.lazySet(CONSUMER_INDEX, index + 1);
+        return element;
+    }
+
+    /**
+     * Removes up to {@code limit} elements, handing each to the consumer. Only one thread may consume.
+     *
+     * @return the number of elements removed
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns the number of elements in the queue, including the ones claimed but not published yet.
+     */
+    public int size() {
+        // Read the consumer index first, so that the size is never negative
+        long consumerIndex = indices.get(CONSUMER_INDEX);
+        long producerIndex = indices.get(PRODUCER_INDEX);
+        return (int) Math.min(producerIndex - consumerIndex, capacity());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
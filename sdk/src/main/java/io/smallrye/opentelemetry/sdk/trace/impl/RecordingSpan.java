@@ -0,0 +1,404 @@
+package io.smallrye.opentelemetry.sdk.trace.impl;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributeType;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.attributes.SemanticAttributes;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * A span that records its attributes and events.
+ * <p>
+ * Recording does not lock: attributes and events are appended to {@link AppendLog}s, sized by the limits of the
+ * {@link TraceConfig}, and the other mutable state is held in single volatile fields. A span used by one thread, as
+ * most are, therefore records with plain stores and an atomic increment per attribute or event, while a span shared
+ * between threads stays consistent. Setting an attribute that is already present replaces its value in place, after a
+ * linear scan that is cheaper than hashing for the handful of attributes spans usually have.
+ * <p>
+ * The attributes given to the span builder are kept as they were built, rather than copied into the log, and are
+ * handed to exporters as they are when the span records no other attribute. Values set later for the same keys take
+ * precedence over them, and are kept in a log of their own, so that they neither count toward the attribute limit
+ * again nor get dropped when the builder already reached it.
+ */
+public final class RecordingSpan implements ReadWriteSpan {
+    private static final int KEY = 0;
+    private static final int VALUE = 1;
+    private static final AtomicLongFieldUpdater<RecordingSpan> END_EPOCH_NANOS = AtomicLongFieldUpdater
+            .newUpdater(RecordingSpan.class, "endEpochNanos");
+
+    private final SpanContext context;
+    private final SpanContext parentSpanContext;
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+    private final Kind kind;
+    private final AnchoredClock clock;
+    private final Resource resource;
+    private final TraceConfig traceConfig;
+    private final SpanProcessor spanProcessor;
+    private final List<SpanData.Link> links;
+    private final int totalRecordedLinks;
+    private final long startEpochNanos;
+    private final Attributes initialAttributes;
+    private final AppendLog attributes;
+    private final AppendLog overrides;
+    private final AppendLog events;
+    private volatile String name;
+    private volatile SpanData.Status status;
+    private volatile long endEpochNanos;
+
+    RecordingSpan(SpanContext context, String name, InstrumentationLibraryInfo instrumentationLibraryInfo, Kind kind,
+            SpanContext parentSpanContext, AnchoredClock clock, Resource resource, TraceConfig traceConfig,
+            SpanProcessor spanProcessor, List<SpanData.Link> links, int totalRecordedLinks, long startEpochNanos,
+            Attributes initialAttributes) {
+        this.context = context;
+        this.name = name;
+        this.instrumentationLibraryInfo = instrumentationLibraryInfo;
+        this.kind = kind;
+        this.parentSpanContext = parentSpanContext;
+        this.clock = clock;
+        this.resource = resource;
+        this.traceConfig = traceConfig;
+        this.spanProcessor = spanProcessor;
+        this.links = links;
+        this.totalRecordedLinks = totalRecordedLinks;
+        this.startEpochNanos = startEpochNanos;
+        this.initialAttributes = initialAttributes;
+        this.attributes = new AppendLog(traceConfig.getMaxNumberOfAttributes() - initialAttributes.size(), 2);
+        this.overrides = initialAttributes.isEmpty() ? null : new AppendLog(initialAttributes.size(), 2);
+        this.events = new AppendLog(traceConfig.getMaxNumberOfEvents(), 1);
+    }
+
+    /**
+     * Returns the clock of the trace of this span, which spans started under it share.
+     */
+    AnchoredClock getClock() {
+        return clock;
+    }
+
+    @Override
+    public SpanContext getSpanContext() {
+        return context;
+    }
+
+    public SpanContext getParentSpanContext() {
+        return parentSpanContext;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return instrumentationLibraryInfo;
+    }
+
+    @Override
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    @Override
+    public boolean hasEnded() {
+        return endEpochNanos != 0;
+    }
+
+    @Override
+    public long getLatencyNanos() {
+        long end = endEpochNanos;
+        return (end != 0 ? end : clock.now()) - startEpochNanos;
+    }
+
+    @Override
+    public boolean isRecording() {
+        return !hasEnded();
+    }
+
+    @Override
+    public ReadWriteSpan setAttribute(String key, String value) {
+        return setAttribute(AttributeKey.stringKey(key), value);
+    }
+
+    @Override
+    public ReadWriteSpan setAttribute(String key, long value) {
+        return setAttribute(AttributeKey.longKey(key), value);
+    }
+
+    @Override
+    public ReadWriteSpan setAttribute(String key, double value) {
+        return setAttribute(AttributeKey.doubleKey(key), value);
+    }
+
+    @Override
+    public ReadWriteSpan setAttribute(String key, boolean value) {
+        return setAttribute(AttributeKey.booleanKey(key), value);
+    }
+
+    @Override
+    public <T> ReadWriteSpan setAttribute(AttributeKey<T> key, T value) {
+        if (key == null || key.getKey() == null || key.getKey().isEmpty() || value == null || hasEnded()) {
+            return this;
+        }
+        Object limited = truncate(key, value, traceConfig.getMaxLengthOfAttributeValues());
+        put(overrides != null && initialAttributes.get(key) != null ? overrides : attributes, key, limited);
+        return this;
+    }
+
+    private static void put(AppendLog log, AttributeKey<?> key, Object value) {
+        int size = log.size();
+        for (int i = 0; i < size; i++) {
+            Object existing = log.get(i, KEY);
+            if (key == existing || key.equals(existing)) {
+                log.set(i, VALUE, value);
+                return;
+            }
+        }
+        int entry = log.reserve();
+        if (entry >= 0) {
+            // The key is published last, as it marks the entry as complete
+            log.set(entry, VALUE, value);
+            log.set(entry, KEY, key);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void setUntypedAttribute(AttributeKey<?> key, Object value) {
+        setAttribute((AttributeKey) key, value);
+    }
+
+    @Override
+    public ReadWriteSpan addEvent(String name) {
+        return addEvent(name, Attributes.empty(), clock.now());
+    }
+
+    @Override
+    public ReadWriteSpan addEvent(String name, long timestamp, TimeUnit unit) {
+        return addEvent(name, Attributes.empty(), unit.toNanos(timestamp));
+    }
+
+    @Override
+    public ReadWriteSpan addEvent(String name, Attributes attributes) {
+        return addEvent(name, attributes, clock.now());
+    }
+
+    @Override
+    public ReadWriteSpan addEvent(String name, Attributes attributes, long timestamp, TimeUnit unit) {
+        return addEvent(name, attributes, unit.toNanos(timestamp));
+    }
+
+    private ReadWriteSpan addEvent(String name, Attributes eventAttributes, long epochNanos) {
+        if (name == null || hasEnded()) {
+            return this;
+        }
+        int entry = events.reserve();
+        if (entry >= 0) {
+            Attributes attributes = eventAttributes != null ? eventAttributes : Attributes.empty();
+            events.set(entry, 0, SpanData.Event.create(epochNanos, name,
+                    limit(attributes, traceConfig.getMaxNumberOfAttributesPerEvent()), attributes.size()));
+        }
+        return this;
+    }
+
+    @Override
+    public ReadWriteSpan setStatus(StatusCode statusCode) {
+        return setStatus(statusCode, null);
+    }
+
+    @Override
+    public ReadWriteSpan setStatus(StatusCode statusCode, String description) {
+        if (statusCode != null && !hasEnded()) {
+            status = SpanData.Status.create(statusCode, description);
+        }
+        return this;
+    }
+
+    @Override
+    public ReadWriteSpan recordException(Throwable exception) {
+        return recordException(exception, Attributes.empty());
+    }
+
+    @Override
+    public ReadWriteSpan recordException(Throwable exception, Attributes additionalAttributes) {
+        if (exception == null) {
+            return this;
+        }
+        AttributesBuilder builder = Attributes.builder()
+                .put(SemanticAttributes.EXCEPTION_TYPE, exception.getClass().getCanonicalName());
+        if (exception.getMessage() != null) {
+            builder.put(SemanticAttributes.EXCEPTION_MESSAGE, exception.getMessage());
+        }
+        StringWriter stackTrace = new StringWriter();
+        exception.printStackTrace(new PrintWriter(stackTrace));
+        builder.put(SemanticAttributes.EXCEPTION_STACKTRACE, stackTrace.toString());
+        if (additionalAttributes != null) {
+            builder.putAll(additionalAttributes);
+        }
+        return addEvent(SemanticAttributes.EXCEPTION_EVENT_NAME, builder.build(), clock.now());
+    }
+
+    @Override
+    public ReadWriteSpan updateName(String name) {
+        if (name != null && !hasEnded()) {
+            this.name = name;
+        }
+        return this;
+    }
+
+    @Override
+    public void end() {
+        endInternal(clock.now());
+    }
+
+    @Override
+    public void end(long timestamp, TimeUnit unit) {
+        endInternal(unit.toNanos(timestamp));
+    }
+
+    private void endInternal(long epochNanos) {
+        // Only the first call ends the span and reaches the processor
+        if (END_EPOCH_NANOS.compareAndSet(this, 0, Math.max(epochNanos, 1)) && spanProcessor.isEndRequired()) {
+            spanProcessor.onEnd(this);
+        }
+    }
+
+    @Override
+    public SpanData toSpanData() {
+        long end = endEpochNanos;
+        SpanData.Status currentStatus = status;
+        return new SpanDataImpl(this, name, readAttributes(), readEvents(), links,
+                currentStatus != null ? currentStatus : SpanData.Status.unset(), end, end != 0,
+                events.totalAppended(), totalRecordedLinks, initialAttributes.size() + attributes.totalAppended());
+    }
+
+    private Attributes readAttributes() {
+        if (attributes.size() == 0 && (overrides == null || overrides.size() == 0)) {
+            return initialAttributes;
+        }
+        AttributesBuilder builder = Attributes.builder().putAll(initialAttributes);
+        if (overrides != null) {
+            putAll(builder, overrides);
+        }
+        putAll(builder, attributes);
+        return builder.build();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void putAll(AttributesBuilder builder, AppendLog log) {
+        int size = log.size();
+        for (int i = 0; i < size; i++) {
+            AttributeKey key = (AttributeKey) log.get(i, KEY);
+            if (key != null) {
+                builder.put(key, log.get(i, VALUE));
+            }
+        }
+    }
+
+    private List<SpanData.Event> readEvents() {
+        int size = events.size();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<SpanData.Event> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SpanData.Event event = (SpanData.Event) events.get(i, 0);
+            if (event != null) {
+                list.add(event);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns at most {@code max} of the given attributes.
+     */
+    static Attributes limit(Attributes attributes, int max) {
+        if (attributes.size() <= max) {
+            return attributes;
+        }
+        AttributesBuilder builder = Attributes.builder();
+        int[] count = { 0 };
+        attributes.forEach((key, value) -> {
+            if (count[0]++ < max) {
+                putUnchecked(builder, key, value);
+            }
+        });
+        return builder.build();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void putUnchecked(AttributesBuilder builder, AttributeKey key, Object value) {
+        builder.put(key, value);
+    }
+
+    /**
+     * Truncates string values, and the elements of string arrays, to the maximum length of attribute values.
+     */
+    static Object truncate(AttributeKey<?> key, Object value, int maxLength) {
+        if (maxLength == TraceConfig.UNLIMITED_ATTRIBUTE_LENGTH) {
+            return value;
+        }
+        if (key.getType() == AttributeType.STRING) {
+            String string = (String) value;
+            return string.length() > maxLength ? string.substring(0, maxLength) : string;
+        }
+        if (key.getType() == AttributeType.STRING_ARRAY) {
+            List<?> strings = (List<?>) value;
+            List<String> truncated = null;
+            for (int i = 0; i < strings.size(); i++) {
+                String string = (String) strings.get(i);
+                if (string != null && string.length() > maxLength) {
+                    if (truncated == null) {
+                        truncated = new ArrayList<>();
+                        for (int j = 0; j < i; j++) {
+                            truncated.add((String) strings.get(j));
+                        }
+                    }
+                    string = string.substring(0, maxLength);
+                }
+                if (truncated != null) {
+                    truncated.add(string);
+                }
+            }
+            return truncated != null ? Collections.unmodifiableList(truncated) : value;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordingSpan{name=" + name + ", context=" + context + ", kind=" + kind + "}";
+    }
+
+    /**
+     * Returns the span of the given context when it is a recording span of this SDK started in this process.
+     */
+    static RecordingSpan localParent(Span parent) {
+        return parent instanceof RecordingSpan && !parent.getSpanContext().isRemote() ? (RecordingSpan) parent
+                : null;
+    }
+}
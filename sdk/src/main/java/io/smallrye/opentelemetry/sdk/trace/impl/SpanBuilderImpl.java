@@ -0,0 +1,210 @@
+package io.smallrye.opentelemetry.sdk.trace.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.config.TraceConfig;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import io.smallrye.opentelemetry.sdk.propagation.EncodedSpanContext;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+import io.smallrye.opentelemetry.sdk.trace.samplers.HeadSampler;
+
+public final class SpanBuilderImpl implements SpanBuilder {
+    private final OpenTelemetryTracerProvider provider;
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+    private final String name;
+    private Context parent;
+    private boolean noParent;
+    private Span.Kind kind = Span.Kind.INTERNAL;
+    private AttributesBuilder attributes;
+    private List<SpanData.Link> links;
+    private int totalRecordedLinks;
+    private long startEpochNanos;
+
+    public SpanBuilderImpl(OpenTelemetryTracerProvider provider, InstrumentationLibraryInfo instrumentationLibraryInfo,
+            String name) {
+        this.provider = provider;
+        this.instrumentationLibraryInfo = instrumentationLibraryInfo;
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    @Override
+    public SpanBuilder setParent(Context context) {
+        this.parent = Objects.requireNonNull(context, "context");
+        this.noParent = false;
+        return this;
+    }
+
+    @Override
+    public SpanBuilder setNoParent() {
+        this.parent = null;
+        this.noParent = true;
+        return this;
+    }
+
+    @Override
+    public SpanBuilder addLink(SpanContext spanContext) {
+        return addLink(spanContext, Attributes.empty());
+    }
+
+    @Override
+    public SpanBuilder addLink(SpanContext spanContext, Attributes attributes) {
+        Objects.requireNonNull(spanContext, "spanContext");
+        Attributes linkAttributes = attributes != null ? attributes : Attributes.empty();
+        TraceConfig traceConfig = provider.getActiveTraceConfig();
+        totalRecordedLinks++;
+        if (links == null) {
+            links = new ArrayList<>();
+        }
+        if (links.size() < traceConfig.getMaxNumberOfLinks()) {
+            links.add(SpanData.Link.create(spanContext,
+                    RecordingSpan.limit(linkAttributes, traceConfig.getMaxNumberOfAttributesPerLink()),
+                    linkAttributes.size()));
+        }
+        return this;
+    }
+
+    @Override
+    public SpanBuilder setAttribute(String key, String value) {
+        return setAttribute(AttributeKey.stringKey(key), value);
+    }
+
+    @Override
+    public SpanBuilder setAttribute(String key, long value) {
+        return setAttribute(AttributeKey.longKey(key), value);
+    }
+
+    @Override
+    public SpanBuilder setAttribute(String key, double value) {
+        return setAttribute(AttributeKey.doubleKey(key), value);
+    }
+
+    @Override
+    public SpanBuilder setAttribute(String key, boolean value) {
+        return setAttribute(AttributeKey.booleanKey(key), value);
+    }
+
+    @Override
+    public <T> SpanBuilder setAttribute(AttributeKey<T> key, T value) {
+        if (key == null || key.getKey() == null || key.getKey().isEmpty() || value == null) {
+            return this;
+        }
+        if (attributes == null) {
+            attributes = Attributes.builder();
+        }
+        attributes.put(key, value);
+        return this;
+    }
+
+    @Override
+    public SpanBuilder setSpanKind(Span.Kind spanKind) {
+        this.kind = Objects.requireNonNull(spanKind, "spanKind");
+        return this;
+    }
+
+    @Override
+    public SpanBuilder setStartTimestamp(long startTimestamp, TimeUnit unit) {
+        if (startTimestamp >= 0 && unit != null) {
+            this.startEpochNanos = unit.toNanos(startTimestamp);
+        }
+        return this;
+    }
+
+    @Override
+    public Span startSpan() {
+        Context parentContext = noParent ? Context.root() : parent != null ? parent : Context.current();
+        Span parentSpan = Span.fromContext(parentContext);
+        SpanContext parentSpanContext = parentSpan.getSpanContext();
+
+        IdGenerator idGenerator = provider.getIdGenerator();
+        String traceId = parentSpanContext.isValid() ? parentSpanContext.getTraceIdAsHexString()
+                : idGenerator.generateTraceId();
+
+        // Head samplers decide before the attributes and links are collected
+        TraceConfig traceConfig = provider.getActiveTraceConfig();
+        Sampler sampler = traceConfig.getSampler();
+        boolean headSampler = sampler instanceof HeadSampler;
+        Attributes spanAttributes = headSampler ? Attributes.empty() : builtAttributes();
+        List<SpanData.Link> spanLinks = headSampler ? Collections.emptyList() : builtLinks();
+        SamplingResult samplingResult = sampler.shouldSample(parentContext, traceId, name, kind, spanAttributes,
+                spanLinks);
+        SamplingResult.Decision decision = samplingResult.getDecision();
+        TraceState traceState = samplingResult.getUpdatedTraceState(parentSpanContext.getTraceState());
+        if (decision == SamplingResult.Decision.DROP) {
+            // A parent that does not record stands for its dropped children, unless the sampler changed the state
+            if (parentSpanContext.isValid() && !parentSpan.isRecording() && !parentSpanContext.isSampled()
+                    && traceState == parentSpanContext.getTraceState()) {
+                return parentSpan;
+            }
+            return Span.wrap(EncodedSpanContext.create(traceId, idGenerator.generateSpanId(), TraceFlags.getDefault(),
+                    traceState));
+        }
+        if (headSampler) {
+            spanAttributes = builtAttributes();
+            spanLinks = builtLinks();
+        }
+        return startRecordingSpan(parentContext, parentSpan, traceId, traceConfig, spanAttributes, spanLinks,
+                samplingResult, traceState);
+    }
+
+    // Kept apart from the sampling decision, so that the path of dropped spans stays small enough to be inlined
+    private Span startRecordingSpan(Context parentContext, Span parentSpan, String traceId, TraceConfig traceConfig,
+            Attributes spanAttributes, List<SpanData.Link> spanLinks, SamplingResult samplingResult,
+            TraceState traceState) {
+        SamplingResult.Decision decision = samplingResult.getDecision();
+        SpanContext parentSpanContext = parentSpan.getSpanContext();
+        IdGenerator idGenerator = provider.getIdGenerator();
+        byte traceFlags = decision == SamplingResult.Decision.RECORD_AND_SAMPLE ? TraceFlags.getSampled()
+                : TraceFlags.getDefault();
+        SpanContext spanContext = EncodedSpanContext.create(traceId, idGenerator.generateSpanId(), traceFlags,
+                traceState);
+
+        // Spans started under a local span share its clock anchor, other spans read the wall clock once
+        RecordingSpan localParent = RecordingSpan.localParent(parentSpan);
+        AnchoredClock clock = localParent != null ? localParent.getClock() : AnchoredClock.create(provider.getClock());
+        SpanProcessor spanProcessor = provider.getActiveSpanProcessor();
+        // The built attributes are kept as they are, unless they need to be merged, limited or truncated
+        Attributes samplerAttributes = samplingResult.getAttributes();
+        boolean keepAttributes = samplerAttributes.isEmpty()
+                && spanAttributes.size() <= traceConfig.getMaxNumberOfAttributes()
+                && traceConfig.getMaxLengthOfAttributeValues() == TraceConfig.UNLIMITED_ATTRIBUTE_LENGTH;
+        RecordingSpan span = new RecordingSpan(spanContext, name, instrumentationLibraryInfo, kind,
+                parentSpanContext, clock, provider.getResource(), traceConfig, spanProcessor, spanLinks,
+                totalRecordedLinks, startEpochNanos != 0 ? startEpochNanos : clock.now(),
+                keepAttributes ? spanAttributes : Attributes.empty());
+        if (!keepAttributes) {
+            spanAttributes.forEach(span::setUntypedAttribute);
+            samplerAttributes.forEach(span::setUntypedAttribute);
+        }
+
+        if (spanProcessor.isStartRequired()) {
+            spanProcessor.onStart(parentContext, span);
+        }
+        return span;
+    }
+
+    private Attributes builtAttributes() {
+        return attributes != null ? attributes.build() : Attributes.empty();
+    }
+
+    private List<SpanData.Link> builtLinks() {
+        return links != null ? Collections.unmodifiableList(links) : Collections.emptyList();
+    }
+}
@@ -0,0 +1,155 @@
+package io.smallrye.opentelemetry.sdk.trace.impl;
+
+import java.util.List;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * An immutable copy of the state of a {@link RecordingSpan}, handed to span exporters.
+ */
+final class SpanDataImpl implements SpanData {
+    private final SpanContext context;
+    private final SpanContext parentSpanContext;
+    private final Resource resource;
+    private final InstrumentationLibraryInfo instrumentationLibraryInfo;
+    private final String name;
+    private final Span.Kind kind;
+    private final long startEpochNanos;
+    private final Attributes attributes;
+    private final List<Event> events;
+    private final List<Link> links;
+    private final Status status;
+    private final long endEpochNanos;
+    private final boolean ended;
+    private final int totalRecordedEvents;
+    private final int totalRecordedLinks;
+    private final int totalAttributeCount;
+
+    SpanDataImpl(RecordingSpan span, String name, Attributes attributes, List<Event> events, List<Link> links,
+            Status status, long endEpochNanos, boolean ended, int totalRecordedEvents, int totalRecordedLinks,
+            int totalAttributeCount) {
+        this.context = span.getSpanContext();
+        this.parentSpanContext = span.getParentSpanContext();
+        this.resource = span.getResource();
+        this.instrumentationLibraryInfo = span.getInstrumentationLibraryInfo();
+        this.kind = span.getKind();
+        this.startEpochNanos = span.getStartEpochNanos();
+        this.name = name;
+        this.attributes = attributes;
+        this.events = events;
+        this.links = links;
+        this.status = status;
+        this.endEpochNanos = endEpochNanos;
+        this.ended = ended;
+        this.totalRecordedEvents = totalRecordedEvents;
+        this.totalRecordedLinks = totalRecordedLinks;
+        this.totalAttributeCount = totalAttributeCount;
+    }
+
+    @Override
+    public String getTraceId() {
+        return context.getTraceIdAsHexString();
+    }
+
+    @Override
+    public String getSpanId() {
+        return context.getSpanIdAsHexString();
+    }
+
+    @Override
+    public boolean isSampled() {
+        return context.isSampled();
+    }
+
+    @Override
+    public TraceState getTraceState() {
+        return context.getTraceState();
+    }
+
+    @Override
+    public SpanContext getParentSpanContext() {
+        return parentSpanContext;
+    }
+
+    @Override
+    public Resource getResource() {
+        return resource;
+    }
+
+    @Override
+    public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+        return instrumentationLibraryInfo;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Span.Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    @Override
+    public List<Link> getLinks() {
+        return links;
+    }
+
+    @Override
+    public Status getStatus() {
+        return status;
+    }
+
+    @Override
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    @Override
+    public boolean hasEnded() {
+        return ended;
+    }
+
+    @Override
+    public int getTotalRecordedEvents() {
+        return totalRecordedEvents;
+    }
+
+    @Override
+    public int getTotalRecordedLinks() {
+        return totalRecordedLinks;
+    }
+
+    @Override
+    public int getTotalAttributeCount() {
+        return totalAttributeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "SpanData{traceId=" + getTraceId() + ", spanId=" + getSpanId() + ", name=" + name + ", kind=" + kind
+                + ", attributes=" + attributes + ", status=" + status + "}";
+    }
+}
@@ -0,0 +1,38 @@
+package io.smallrye.opentelemetry.sdk.trace.samplers;
+
+import java.util.List;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+enum ConstantSampler implements HeadSampler {
+    ALWAYS_ON(SamplingResult.Decision.RECORD_AND_SAMPLE, "AlwaysOnSampler"),
+    ALWAYS_OFF(SamplingResult.Decision.DROP, "AlwaysOffSampler");
+
+    private final SamplingResult result;
+    private final String description;
+
+    ConstantSampler(SamplingResult.Decision decision, String description) {
+        this.result = SamplingResult.create(decision);
+        this.description = description;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, Span.Kind spanKind,
+            Attributes attributes, List<SpanData.Link> parentLinks) {
+        return result;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
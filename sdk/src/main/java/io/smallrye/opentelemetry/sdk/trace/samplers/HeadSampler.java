@@ -0,0 +1,61 @@
+package io.smallrye.opentelemetry.sdk.trace.samplers;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * A {@link Sampler} that decides from the parent context and the trace id only, without allocating.
+ * <p>
+ * The span builder asks a head sampler for its decision before it collects the attributes and links of the span, and
+ * passes empty ones. A span that is dropped therefore costs no span, attribute or link object: when its parent is a
+ * span that does not record either, typically one propagated from another process, the parent span is returned as
+ * it is.
+ * <p>
+ * The samplers returned by the static methods are head samplers, and may be used wherever the upstream samplers are.
+ */
+public interface HeadSampler extends Sampler {
+
+    static HeadSampler alwaysOn() {
+        return ConstantSampler.ALWAYS_ON;
+    }
+
+    static HeadSampler alwaysOff() {
+        return ConstantSampler.ALWAYS_OFF;
+    }
+
+    /**
+     * Returns a sampler that follows the decision of the parent span, and asks the given sampler for root spans.
+     */
+    static HeadSampler parentBased(HeadSampler root) {
+        return new ParentBasedSampler(root);
+    }
+
+    /**
+     * Returns a sampler that samples the given ratio of traces, consistently with the upstream
+     * {@link Sampler#traceIdRatioBased(double)} sampler.
+     */
+    static HeadSampler traceIdRatioBased(double ratio) {
+        return new TraceIdRatioSampler(ratio);
+    }
+
+    /**
+     * Returns a sampler that samples at most the given number of spans per second on average, allowing bursts of up to
+     * one second worth of spans. It is usually the root sampler of a {@link #parentBased(HeadSampler)} sampler, so that
+     * it limits the number of traces rather than of spans.
+     */
+    static HeadSampler rateLimiting(double spansPerSecond) {
+        return rateLimiting(spansPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Returns a rate limiting sampler reading the time from the given source of nanoseconds, such as a fake clock in
+     * tests.
+     *
+     * @see #rateLimiting(double)
+     */
+    static HeadSampler rateLimiting(double spansPerSecond, LongSupplier nanoTime) {
+        return new RateLimitingSampler(spansPerSecond, Objects.requireNonNull(nanoTime));
+    }
+}
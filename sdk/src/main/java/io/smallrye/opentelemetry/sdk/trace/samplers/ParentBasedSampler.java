@@ -0,0 +1,42 @@
+package io.smallrye.opentelemetry.sdk.trace.samplers;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+final class ParentBasedSampler implements HeadSampler {
+    private static final SamplingResult SAMPLE = SamplingResult.create(SamplingResult.Decision.RECORD_AND_SAMPLE);
+    private static final SamplingResult DROP = SamplingResult.create(SamplingResult.Decision.DROP);
+
+    private final HeadSampler root;
+
+    ParentBasedSampler(HeadSampler root) {
+        this.root = Objects.requireNonNull(root);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, Span.Kind spanKind,
+            Attributes attributes, List<SpanData.Link> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (!parent.isValid()) {
+            return root.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        }
+        return parent.isSampled() ? SAMPLE : DROP;
+    }
+
+    @Override
+    public String getDescription() {
+        return "ParentBased{root:" + root.getDescription() + "}";
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
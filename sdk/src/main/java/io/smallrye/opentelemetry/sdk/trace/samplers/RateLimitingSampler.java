@@ -0,0 +1,74 @@
+package io.smallrye.opentelemetry.sdk.trace.samplers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Samples at most a number of spans per second, with a token bucket holding one second worth of spans, or one span
+ * for rates under one per second.
+ * <p>
+ * The bucket is kept as a single timestamp, the time at which it will be full again: taking a token moves it one
+ * token interval later, and the bucket is empty when that time is further ahead than the capacity of the bucket.
+ * Taking a token is therefore a single compare-and-set, and a sampler shared by all threads does not lock.
+ */
+final class RateLimitingSampler implements HeadSampler {
+    private static final SamplingResult SAMPLE = SamplingResult.create(SamplingResult.Decision.RECORD_AND_SAMPLE);
+    private static final SamplingResult DROP = SamplingResult.create(SamplingResult.Decision.DROP);
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double spansPerSecond;
+    private final long tokenNanos;
+    private final long capacityNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong fullAt;
+
+    RateLimitingSampler(double spansPerSecond, LongSupplier nanoTime) {
+        if (!(spansPerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive: " + spansPerSecond);
+        }
+        this.spansPerSecond = spansPerSecond;
+        this.tokenNanos = Math.max(1, (long) (ONE_SECOND / spansPerSecond));
+        this.capacityNanos = Math.max(ONE_SECOND, tokenNanos);
+        this.nanoTime = nanoTime;
+        this.fullAt = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, Span.Kind spanKind,
+            Attributes attributes, List<SpanData.Link> parentLinks) {
+        return tryAcquire() ? SAMPLE : DROP;
+    }
+
+    boolean tryAcquire() {
+        long now = nanoTime.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            // A bucket that filled up in the past is full now
+            long next = (current - now > 0 ? current : now) + tokenNanos;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("RateLimitingSampler{%.2f}", spansPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
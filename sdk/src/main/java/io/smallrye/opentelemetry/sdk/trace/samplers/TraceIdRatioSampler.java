@@ -0,0 +1,60 @@
+package io.smallrye.opentelemetry.sdk.trace.samplers;
+
+import java.util.List;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Samples the traces whose random part of the id, its last 16 hexadecimal digits, falls under a bound. The bound and
+ * the comparison are those of the upstream sampler, so that the services of a trace agree on the decision, but the
+ * digits are decoded in place.
+ */
+final class TraceIdRatioSampler implements HeadSampler {
+    private static final SamplingResult SAMPLE = SamplingResult.create(SamplingResult.Decision.RECORD_AND_SAMPLE);
+    private static final SamplingResult DROP = SamplingResult.create(SamplingResult.Decision.DROP);
+
+    private final double ratio;
+    private final long idUpperBound;
+
+    TraceIdRatioSampler(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Ratio must be between 0 and 1: " + ratio);
+        }
+        this.ratio = ratio;
+        if (ratio == 0) {
+            this.idUpperBound = Long.MIN_VALUE;
+        } else if (ratio == 1) {
+            this.idUpperBound = Long.MAX_VALUE;
+        } else {
+            this.idUpperBound = (long) (ratio * Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, Span.Kind spanKind,
+            Attributes attributes, List<SpanData.Link> parentLinks) {
+        return Math.abs(randomPart(traceId)) < idUpperBound ? SAMPLE : DROP;
+    }
+
+    private static long randomPart(String traceId) {
+        long value = 0;
+        for (int i = traceId.length() - 16; i < traceId.length(); i++) {
+            value = value << 4 | Character.digit(traceId.charAt(i), 16);
+        }
+        return value;
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format("TraceIdRatioBased{%.6f}", ratio);
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
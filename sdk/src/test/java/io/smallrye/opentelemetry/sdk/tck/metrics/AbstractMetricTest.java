@@ -1,10 +1,16 @@
 package io.smallrye.opentelemetry.sdk.tck.metrics;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
 import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
 
 public abstract class AbstractMetricTest {
@@ -21,4 +27,14 @@ public abstract class AbstractMetricTest {
     void clearMetrics() {
         collector.clear();
     }
+
+    /**
+     * Returns the tags of a meter without the tags of its instrumentation library.
+     */
+    static List<Tag> labelTags(Meter meter) {
+        return meter.getId().getTags().stream()
+                .filter(tag -> !tag.getKey().equals(OpenTelemetryMeter.LIBRARY_NAME_TAG)
+                        && !tag.getKey().equals(OpenTelemetryMeter.LIBRARY_VERSION_TAG))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,82 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.BatchRecorder;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.LongValueRecorder;
+import io.opentelemetry.api.metrics.Meter;
+
+class BatchRecorderTest extends AbstractMetricTest {
+
+    @Test
+    void testRecordAppliesAllMeasurements() {
+        Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        LongCounter requests = meter.longCounterBuilder("batch-requests").build();
+        DoubleCounter bytes = meter.doubleCounterBuilder("batch-bytes").build();
+        LongUpDownCounter active = meter.longUpDownCounterBuilder("batch-active").build();
+        LongValueRecorder latency = meter.longValueRecorderBuilder("batch-latency").build();
+
+        BatchRecorder recorder = meter.newBatchRecorder("method", "GET");
+        recorder.put(requests, 1)
+                .put(bytes, 512.5)
+                .put(active, -1)
+                .put(latency, 20)
+                .put(requests, 2);
+
+        // Nothing is applied until record() is called
+        assertThat(collector.find("batch-requests").counter()).isNull();
+
+        recorder.record();
+
+        assertThat(collector.find("batch-requests").tag("method", "GET").functionCounter().count()).isEqualTo(3);
+        assertThat(collector.find("batch-bytes").tag("method", "GET").functionCounter().count()).isEqualTo(512.5);
+        assertThat(collector.find("batch-active").tag("method", "GET").gauge().value()).isEqualTo(-1);
+        assertThat(collector.find("batch-latency").tag("method", "GET").meter().getId().getType())
+                .isEqualTo(io.micrometer.core.instrument.Meter.Type.DISTRIBUTION_SUMMARY);
+    }
+
+    @Test
+    void testRecorderIsReusable() {
+        Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        LongCounter counter = meter.longCounterBuilder("batch-reuse").build();
+
+        BatchRecorder recorder = meter.newBatchRecorder("route", "/");
+        for (int i = 0; i < 20; i++) {
+            recorder.put(counter, 1);
+        }
+        recorder.record();
+        recorder.record();
+        recorder.put(counter, 5).record();
+
+        assertThat(collector.find("batch-reuse").tag("route", "/").functionCounter().count()).isEqualTo(25);
+    }
+
+    @Test
+    void testSharesSeriesWithInstrument() {
+        Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        LongCounter counter = meter.longCounterBuilder("batch-shared").build();
+
+        counter.add(4, Labels.of("key", "value"));
+        meter.newBatchRecorder("key", "value").put(counter, 6).record();
+
+        assertThat(collector.find("batch-shared").meters()).hasSize(1);
+        assertThat(collector.find("batch-shared").functionCounter().count()).isEqualTo(10);
+    }
+
+    @Test
+    void testNegativeCounterValue() {
+        Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        LongCounter counter = meter.longCounterBuilder("batch-negative").build();
+
+        assertThatThrownBy(() -> meter.newBatchRecorder().put(counter, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
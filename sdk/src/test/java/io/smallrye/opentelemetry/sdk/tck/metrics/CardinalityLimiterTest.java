@@ -0,0 +1,93 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.impl.CardinalityLimiter;
+
+class CardinalityLimiterTest extends AbstractMetricTest {
+
+    @Test
+    void testInstrumentLimit() {
+        OpenTelemetryMeter meter = (OpenTelemetryMeter) OpenTelemetry.getGlobalMeter("cardinality-instrument");
+        meter.getCardinalityLimiter().setMaxSeriesPerInstrument(3);
+
+        LongCounter counter = meter.longCounterBuilder("cardinality-instrument-counter").build();
+        for (int i = 0; i < 10; i++) {
+            counter.add(1, Labels.of("user", "user-" + i));
+        }
+
+        assertThat(collector.find("cardinality-instrument-counter").meters()).hasSize(4);
+        assertThat(collector.find("cardinality-instrument-counter").tag("user", "user-2").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(collector.find("cardinality-instrument-counter").tag(CardinalityLimiter.OVERFLOW_LABEL, "true")
+                .functionCounter().count()).isEqualTo(7);
+        assertThat(collector.find(CardinalityLimiter.FOLDED_MEASUREMENTS_METRIC)
+                .tag("instrument", "cardinality-instrument-counter").functionCounter().count()).isEqualTo(7);
+
+        // Folded measurements are counted, not the label sets they were made with
+        counter.add(1, Labels.of("user", "user-9"));
+        assertThat(collector.find(CardinalityLimiter.FOLDED_MEASUREMENTS_METRIC)
+                .tag("instrument", "cardinality-instrument-counter").functionCounter().count()).isEqualTo(8);
+
+        // Label sets created before the limit was reached keep their series
+        counter.add(5, Labels.of("user", "user-0"));
+        assertThat(collector.find("cardinality-instrument-counter").tag("user", "user-0").functionCounter().count())
+                .isEqualTo(6);
+    }
+
+    @Test
+    void testMeterLimit() {
+        OpenTelemetryMeter meter = (OpenTelemetryMeter) OpenTelemetry.getGlobalMeter("cardinality-meter");
+        meter.getCardinalityLimiter().setMaxSeries(4);
+
+        LongCounter first = meter.longCounterBuilder("cardinality-meter-first").build();
+        DoubleCounter second = meter.doubleCounterBuilder("cardinality-meter-second").build();
+        for (int i = 0; i < 3; i++) {
+            first.add(1, Labels.of("key", "value-" + i));
+        }
+        for (int i = 0; i < 3; i++) {
+            second.add(1, Labels.of("key", "value-" + i));
+        }
+
+        assertThat(collector.find("cardinality-meter-first").meters()).hasSize(3);
+        assertThat(collector.find("cardinality-meter-second").tag("key", "value-0").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(collector.find("cardinality-meter-second").tag(CardinalityLimiter.OVERFLOW_LABEL, "true")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testUnboundSeriesCountTowardLimit() {
+        OpenTelemetryMeter meter = (OpenTelemetryMeter) OpenTelemetry.getGlobalMeter("cardinality-unbind");
+        meter.getCardinalityLimiter().setMaxSeriesPerInstrument(3);
+
+        LongCounter counter = meter.longCounterBuilder("cardinality-unbind-counter").build();
+        for (int i = 0; i < 10; i++) {
+            LongCounter.BoundLongCounter bound = counter.bind(Labels.of("user", "user-" + i));
+            bound.add(1);
+            bound.unbind();
+        }
+
+        // Unbinding keeps the series in the registry, so it keeps counting until it is evicted
+        assertThat(meter.getCardinalityLimiter().getSeriesCount()).isEqualTo(4);
+        assertThat(collector.find("cardinality-unbind-counter").meters()).hasSize(4);
+        assertThat(collector.find("cardinality-unbind-counter").tag("user", "user-2").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(collector.find("cardinality-unbind-counter").tag(CardinalityLimiter.OVERFLOW_LABEL, "true")
+                .functionCounter().count()).isEqualTo(7);
+
+        // Binding a label set again finds its series
+        LongCounter.BoundLongCounter bound = counter.bind(Labels.of("user", "user-0"));
+        bound.add(2);
+        bound.unbind();
+        assertThat(collector.find("cardinality-unbind-counter").tag("user", "user-0").functionCounter().count())
+                .isEqualTo(3);
+    }
+}
@@ -4,8 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +20,7 @@ import io.micrometer.core.instrument.Statistic;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Labels;
 import io.opentelemetry.api.metrics.DoubleCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
 import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
 
 class DoubleCounterTest extends AbstractMetricTest {
@@ -148,6 +153,124 @@ class DoubleCounterTest extends AbstractMetricTest {
         verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 3.1);
     }
 
+    @Test
+    void testBindMultipleTimes() {
+        final String counterName = "my-counter-binding-multiple";
+        final String counterDescription = "Description of my-counter-binding-multiple";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        DoubleCounter doubleCounter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        DoubleCounter.BoundDoubleCounter first = doubleCounter.bind(Labels.of(labelKey, labelValue));
+        DoubleCounter.BoundDoubleCounter second = doubleCounter.bind(Labels.of(labelKey, labelValue));
+        assertThat(first).isSameAs(second);
+
+        first.add(1.5);
+        first.unbind();
+        second.add(2.5);
+        second.unbind();
+
+        DoubleCounter.BoundDoubleCounter third = doubleCounter.bind(Labels.of(labelKey, labelValue));
+        third.add(3.0);
+        third.unbind();
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 7.0);
+    }
+
+    @Test
+    void testConcurrentIncrements() throws Exception {
+        final String counterName = "my-counter-concurrent";
+        final String counterDescription = "Description of my-counter-concurrent";
+
+        DoubleCounter doubleCounter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        doubleCounter.add(0.5, Labels.empty());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 0.5 * 8 * 1000);
+    }
+
+    @Test
+    void testSameNameSharesMeter() {
+        final String counterName = "my-counter-same-name";
+        final String counterDescription = "Description of my-counter-same-name";
+
+        DoubleCounter first = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+        DoubleCounter second = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        first.add(0.5, Labels.empty());
+        second.add(0.5, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 0.5 * 2.0);
+    }
+
+    @Test
+    void testMeterRemovedFromRegistry() {
+        final String counterName = "my-counter-removed";
+        final String counterDescription = "Description of my-counter-removed";
+
+        DoubleCounter doubleCounter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        doubleCounter.add(1.2, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        OpenTelemetryMeterRegistry.INSTANCE.remove(meters.get(0));
+        assertThat(collector.getMeters()).isEmpty();
+
+        doubleCounter.add(3.4, Labels.empty());
+
+        meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 3.4);
+    }
+
     @Test
     void testMicrometerMixWithNoLabels() {
         final String otelCounterName = "otel-counter-no-labels";
@@ -161,7 +284,7 @@ class DoubleCounterTest extends AbstractMetricTest {
                 .setDescription(otelCounterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(micrometerCounterName)
                 .description(micrometerCounterDescription)
                 .baseUnit("1")
@@ -202,7 +325,7 @@ class DoubleCounterTest extends AbstractMetricTest {
                 .setDescription(otelCounterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(micrometerCounterName)
                 .description(micrometerCounterDescription)
                 .baseUnit("1")
@@ -240,10 +363,11 @@ class DoubleCounterTest extends AbstractMetricTest {
                 .setDescription(counterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(counterName)
                 .description(counterDescription)
                 .baseUnit("1")
+                .tag(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry.sdk")
                 .register(OpenTelemetryMeterRegistry.INSTANCE);
 
         // Operate on counters
@@ -271,10 +395,11 @@ class DoubleCounterTest extends AbstractMetricTest {
                 .setDescription(counterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(counterName)
                 .description(counterDescription)
                 .baseUnit("1")
+                .tag(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry.sdk")
                 .tag(labelKey, labelValue)
                 .register(OpenTelemetryMeterRegistry.INSTANCE);
 
@@ -300,12 +425,12 @@ class DoubleCounterTest extends AbstractMetricTest {
         assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
 
         if (numTags == 0) {
-            assertThat(meterToVerify.getId().getTags().size()).isZero();
+            assertThat(labelTags(meterToVerify).size()).isZero();
         } else {
-            assertThat(meterToVerify.getId().getTags().size()).isEqualTo(numTags);
-            assertThat(meterToVerify.getId().getTags().get(0)).isNotNull();
-            assertThat(meterToVerify.getId().getTags().get(0).getKey()).isEqualTo(labelKey);
-            assertThat(meterToVerify.getId().getTags().get(0).getValue()).isEqualTo(labelValue);
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0)).isNotNull();
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
         }
 
         Iterator<Measurement> iterator = meterToVerify.measure().iterator();
@@ -0,0 +1,179 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+class DoubleUpDownCounterTest extends AbstractMetricTest {
+
+    @Test
+    void testWithNoLabels() {
+        final String counterName = "double-updown-no-labels";
+        final String counterDescription = "Description of double-updown-no-labels";
+
+        DoubleUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        counter.add(2.5, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 2.5);
+    }
+
+    @Test
+    void testWithUnit() {
+        final String counterName = "double-updown-unit";
+        final String counterDescription = "Description of double-updown-unit";
+
+        DoubleUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .setUnit("2")
+                .build();
+
+        counter.add(3.75, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "2", 0, null, null, 3.75);
+    }
+
+    @Test
+    void testIncrementAndDecrementWithLabels() {
+        final String counterName = "double-updown-labels";
+        final String counterDescription = "Description of double-updown-labels";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        DoubleUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        counter.add(2.5, Labels.of(labelKey, labelValue));
+        counter.add(-1.25, Labels.of(labelKey, labelValue));
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 2.5 + -1.25);
+
+        counter.add(-1.25, Labels.of(labelKey, labelValue));
+        counter.add(-1.25, Labels.of(labelKey, labelValue));
+        counter.add(-1.25, Labels.of(labelKey, labelValue));
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 2.5 + 4 * -1.25);
+    }
+
+    @Test
+    void testBind() {
+        final String counterName = "double-updown-binding";
+        final String counterDescription = "Description of double-updown-binding";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        DoubleUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        DoubleUpDownCounter.BoundDoubleUpDownCounter boundCounter = counter.bind(Labels.of(labelKey, labelValue));
+        boundCounter.add(2.5);
+        boundCounter.add(0.5);
+        boundCounter.unbind();
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 2.5 + 0.5);
+    }
+
+    @Test
+    void testMicrometerGaugeRegisteredFirst() {
+        AtomicInteger queued = new AtomicInteger(5);
+        Gauge.builder("double-updown-micrometer-gauge", queued, AtomicInteger::get)
+                .register(OpenTelemetryMeterRegistry.INSTANCE);
+
+        DoubleUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownCounterBuilder("double-updown-micrometer-gauge")
+                .build();
+        counter.add(3.5, Labels.empty());
+
+        // Micrometer registries keep the gauge registered first, the counter is still exported
+        assertThat(collector.get("double-updown-micrometer-gauge").gauge().value()).isEqualTo(5);
+        assertThat(exportedValue("double-updown-micrometer-gauge")).isEqualTo(3.5);
+    }
+
+    @Test
+    void testMicrometerMeterOfOtherTypeRegisteredFirst() {
+        Counter.builder("double-updown-micrometer-counter").register(OpenTelemetryMeterRegistry.INSTANCE).increment();
+
+        DoubleUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownCounterBuilder("double-updown-micrometer-counter")
+                .build();
+        counter.add(3.5, Labels.empty());
+
+        assertThat(collector.get("double-updown-micrometer-counter").counter().count()).isEqualTo(1);
+        assertThat(exportedValue("double-updown-micrometer-counter")).isEqualTo(3.5);
+    }
+
+    private static double exportedValue(String name) {
+        return OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics().stream()
+                .filter(metric -> metric.getName().equals(name))
+                .findFirst()
+                .map(metric -> metric.getValue(0))
+                .orElseThrow(AssertionError::new);
+    }
+
+    private void verifyMeter(Meter meterToVerify, String name, String description,
+            String baseUnit, int numTags, String labelKey, String labelValue,
+            double value) {
+        assertThat(meterToVerify).isNotNull();
+        assertThat(meterToVerify.getId()).isNotNull();
+        assertThat(meterToVerify.getId().getName()).isEqualTo(name);
+        assertThat(meterToVerify.getId().getDescription()).isEqualTo(description);
+        assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
+        assertThat(meterToVerify.getId().getType()).isEqualTo(Meter.Type.GAUGE);
+
+        if (numTags == 0) {
+            assertThat(labelTags(meterToVerify).size()).isZero();
+        } else {
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0)).isNotNull();
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
+        }
+
+        Iterator<Measurement> iterator = meterToVerify.measure().iterator();
+        assertThat(iterator.hasNext()).isTrue();
+
+        Measurement measure = iterator.next();
+        assertThat(measure.getStatistic()).isEqualTo(Statistic.VALUE);
+        assertThat(measure.getValue()).isEqualTo(value);
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+
+class DoubleValueRecorderTest extends AbstractMetricTest {
+
+    @Test
+    void testWithNoLabels() {
+        final String recorderName = "double-recorder-no-labels";
+        final String recorderDescription = "Description of double-recorder-no-labels";
+
+        DoubleValueRecorder recorder = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueRecorderBuilder(recorderName)
+                .setDescription(recorderDescription)
+                .build();
+
+        recorder.record(2.5, Labels.empty());
+        recorder.record(1.5, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), recorderName, recorderDescription, "1", 0, null, null, 2, 2.5 + 1.5, 2.5);
+    }
+
+    @Test
+    void testWithUnitAndLabels() {
+        final String recorderName = "double-recorder-labels";
+        final String recorderDescription = "Description of double-recorder-labels";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        DoubleValueRecorder recorder = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueRecorderBuilder(recorderName)
+                .setDescription(recorderDescription)
+                .setUnit("ms")
+                .build();
+
+        recorder.record(4.0, Labels.of(labelKey, labelValue));
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), recorderName, recorderDescription, "ms", 1, labelKey, labelValue, 1, 4.0, 4.0);
+    }
+
+    @Test
+    void testBind() {
+        final String recorderName = "double-recorder-binding";
+        final String recorderDescription = "Description of double-recorder-binding";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        DoubleValueRecorder recorder = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueRecorderBuilder(recorderName)
+                .setDescription(recorderDescription)
+                .build();
+
+        DoubleValueRecorder.BoundDoubleValueRecorder boundRecorder = recorder.bind(Labels.of(labelKey, labelValue));
+        boundRecorder.record(2.5);
+        boundRecorder.record(4.0);
+        boundRecorder.unbind();
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), recorderName, recorderDescription, "1", 1, labelKey, labelValue, 2, 2.5 + 4.0, 4.0);
+    }
+
+    private void verifyMeter(Meter meterToVerify, String name, String description,
+            String baseUnit, int numTags, String labelKey, String labelValue,
+            long count, double total, double max) {
+        assertThat(meterToVerify).isNotNull();
+        assertThat(meterToVerify.getId()).isNotNull();
+        assertThat(meterToVerify.getId().getName()).isEqualTo(name);
+        assertThat(meterToVerify.getId().getDescription()).isEqualTo(description);
+        assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
+        assertThat(meterToVerify.getId().getType()).isEqualTo(Meter.Type.DISTRIBUTION_SUMMARY);
+
+        if (numTags == 0) {
+            assertThat(labelTags(meterToVerify).size()).isZero();
+        } else {
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0)).isNotNull();
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
+        }
+
+        for (Measurement measure : meterToVerify.measure()) {
+            if (measure.getStatistic() == Statistic.COUNT) {
+                assertThat(measure.getValue()).isEqualTo(count);
+            } else if (measure.getStatistic() == Statistic.TOTAL) {
+                assertThat(measure.getValue()).isEqualTo(total);
+            } else {
+                assertThat(measure.getStatistic()).isEqualTo(Statistic.MAX);
+                assertThat(measure.getValue()).isCloseTo(max, within(max / 8));
+            }
+        }
+    }
+}
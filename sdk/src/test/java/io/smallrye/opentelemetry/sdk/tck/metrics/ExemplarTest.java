@@ -0,0 +1,128 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.Exemplar;
+import io.smallrye.opentelemetry.sdk.metrics.exemplar.ExemplarReservoir;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+
+class ExemplarTest extends AbstractMetricTest {
+    private final Meter meter = OpenTelemetryMeterRegistry.INSTANCE.meter("exemplar-test", null);
+
+    @Test
+    void testCounterExemplars() {
+        LongCounter counter = meter.longCounterBuilder("exemplar.counter").build();
+        counter.add(1, Labels.of("span", "none"));
+        SpanContext unsampled = spanContext(TraceFlags.getDefault());
+        try (Scope ignored = Context.current().with(Span.wrap(unsampled)).makeCurrent()) {
+            counter.add(2, Labels.of("span", "unsampled"));
+        }
+        SpanContext sampled = spanContext(TraceFlags.getSampled());
+        try (Scope ignored = Context.current().with(Span.wrap(sampled)).makeCurrent()) {
+            counter.add(3, Labels.of("span", "sampled"));
+            counter.bind(Labels.of("span", "sampled")).add(4);
+        }
+
+        MetricData data = find("exemplar.counter");
+        for (int i = 0; i < data.getPointCount(); i++) {
+            List<Exemplar> exemplars = data.getExemplars(i);
+            if ("sampled".equals(data.getLabels(i).get("span"))) {
+                assertThat(data.getValue(i)).isEqualTo(7);
+                assertThat(exemplars).extracting(Exemplar::getValue).containsExactlyInAnyOrder(3.0, 4.0);
+                assertThat(exemplars).allSatisfy(exemplar -> {
+                    assertThat(exemplar.getTraceId()).isEqualTo(sampled.getTraceIdAsHexString());
+                    assertThat(exemplar.getSpanId()).isEqualTo(sampled.getSpanIdAsHexString());
+                    assertThat(exemplar.getEpochNanos()).isPositive();
+                });
+            } else {
+                assertThat(exemplars).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void testHistogramExemplars() {
+        DoubleValueRecorder recorder = meter.doubleValueRecorderBuilder("exemplar.recorder").build();
+        SpanContext first = spanContext(TraceFlags.getSampled());
+        try (Scope ignored = Context.current().with(Span.wrap(first)).makeCurrent()) {
+            recorder.record(1.5);
+            recorder.record(0);
+        }
+        SpanContext second = spanContext(TraceFlags.getSampled());
+        try (Scope ignored = Context.current().with(Span.wrap(second)).makeCurrent()) {
+            recorder.record(100);
+        }
+
+        MetricData data = find("exemplar.recorder");
+        assertThat(data.getExemplars(0)).extracting(Exemplar::getValue).containsExactlyInAnyOrder(1.5, 100.0);
+        assertThat(data.getExemplars(0)).filteredOn(exemplar -> exemplar.getValue() == 100)
+                .extracting(Exemplar::getSpanContext)
+                .containsExactly(second);
+    }
+
+    @Test
+    void testFixedSizeReservoir() {
+        ExemplarReservoir reservoir = ExemplarReservoir.fixedSize(4, Duration.ofHours(1));
+        SpanContext spanContext = spanContext(TraceFlags.getSampled());
+        assertThat(reservoir.collect()).isEmpty();
+        assertThat(reservoir.latest()).isNull();
+
+        for (int i = 0; i < 1000; i++) {
+            reservoir.offer(i, spanContext);
+        }
+        List<Exemplar> exemplars = reservoir.collect();
+        assertThat(exemplars).hasSize(4);
+        assertThat(exemplars).extracting(Exemplar::getValue)
+                .allSatisfy(value -> assertThat(value).isBetween(0.0, 999.0));
+        // The first values are replaced as the sample spreads over all measurements
+        assertThat(exemplars).extracting(Exemplar::getValue).isNotEqualTo(Arrays.asList(0.0, 1.0, 2.0, 3.0));
+    }
+
+    @Test
+    void testHistogramBucketReservoir() {
+        ExemplarReservoir reservoir = ExemplarReservoir.histogramBuckets();
+        SpanContext spanContext = spanContext(TraceFlags.getSampled());
+        reservoir.offer(1.5, spanContext);
+        reservoir.offer(-1, spanContext);
+        reservoir.offer(1.0, spanContext);
+
+        assertThat(reservoir.latestInBucket(Histogram.bucketIndex(1.0)).getValue()).isEqualTo(1.0);
+        // 1.5 shares a slot with 1.0 and was replaced by it
+        assertThat(reservoir.latestInBucket(Histogram.bucketIndex(1.5))).isNull();
+        assertThat(reservoir.collect()).hasSize(1);
+    }
+
+    private static SpanContext spanContext(byte traceFlags) {
+        IdGenerator idGenerator = IdGenerator.random();
+        return SpanContext.create(idGenerator.generateTraceId(), idGenerator.generateSpanId(), traceFlags,
+                TraceState.getDefault());
+    }
+
+    private static MetricData find(String name) {
+        Collection<MetricData> metrics = OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics();
+        return metrics.stream()
+                .filter(data -> data.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No metric named " + name));
+    }
+}
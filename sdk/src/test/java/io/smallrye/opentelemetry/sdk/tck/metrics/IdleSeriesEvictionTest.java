@@ -0,0 +1,79 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.impl.CollectionScheduler;
+
+class IdleSeriesEvictionTest extends AbstractMetricTest {
+
+    private final CollectionScheduler scheduler = OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler();
+
+    @BeforeEach
+    void enableEviction() {
+        scheduler.setIdleIntervals(1);
+    }
+
+    @AfterEach
+    void disableEviction() {
+        scheduler.setIdleIntervals(0);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testIdleSeriesAreEvicted() {
+        OpenTelemetryMeter meter = (OpenTelemetryMeter) OpenTelemetry.getGlobalMeter("eviction");
+        LongCounter counter = meter.longCounterBuilder("eviction-counter").build();
+
+        counter.add(1, Labels.of("tenant", "a"));
+        counter.add(1, Labels.of("tenant", "b"));
+        scheduler.collect();
+        assertThat(collector.find("eviction-counter").meters()).hasSize(2);
+        assertThat(meter.getCardinalityLimiter().getSeriesCount()).isEqualTo(2);
+
+        counter.add(1, Labels.of("tenant", "a"));
+        scheduler.collect();
+
+        assertThat(collector.find("eviction-counter").tag("tenant", "a").functionCounter().count()).isEqualTo(2);
+        assertThat(collector.find("eviction-counter").tag("tenant", "b").meters()).isEmpty();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.find("eviction-counter").tag("tenant", "b").meters())
+                .isEmpty();
+        assertThat(meter.getCardinalityLimiter().getSeriesCount()).isEqualTo(1);
+
+        // An evicted series starts over when it is updated again
+        counter.add(5, Labels.of("tenant", "b"));
+        assertThat(collector.find("eviction-counter").tag("tenant", "b").functionCounter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void testBoundSeriesIsKeptByInstrument() {
+        OpenTelemetryMeter meter = (OpenTelemetryMeter) OpenTelemetry.getGlobalMeter("eviction-bound");
+        LongCounter counter = meter.longCounterBuilder("eviction-bound-counter").build();
+
+        LongCounter.BoundLongCounter bound = counter.bind(Labels.of("tenant", "a"));
+        bound.add(3);
+        scheduler.collect();
+        scheduler.collect();
+
+        // The idle meter is removed, but the bound instrument resolves a new series on its next update
+        assertThat(collector.find("eviction-bound-counter").meters()).isEmpty();
+        assertThat(meter.getCardinalityLimiter().getSeriesCount()).isEqualTo(1);
+
+        bound.add(4);
+        assertThat(collector.find("eviction-bound-counter").functionCounter().count()).isEqualTo(4);
+        bound.unbind();
+
+        // Once unbound, the label set stops counting toward the limit when its series is evicted
+        scheduler.collect();
+        scheduler.collect();
+        assertThat(meter.getCardinalityLimiter().getSeriesCount()).isZero();
+    }
+}
@@ -4,8 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +20,7 @@ import io.micrometer.core.instrument.Statistic;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Labels;
 import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
 import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
 
 class LongCounterTest extends AbstractMetricTest {
@@ -148,6 +153,124 @@ class LongCounterTest extends AbstractMetricTest {
         verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 98.0);
     }
 
+    @Test
+    void testBindMultipleTimes() {
+        final String counterName = "long-counter-binding-multiple";
+        final String counterDescription = "Description of long-counter-binding-multiple";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        LongCounter longCounter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        LongCounter.BoundLongCounter first = longCounter.bind(Labels.of(labelKey, labelValue));
+        LongCounter.BoundLongCounter second = longCounter.bind(Labels.of(labelKey, labelValue));
+        assertThat(first).isSameAs(second);
+
+        first.add(7);
+        first.unbind();
+        second.add(8);
+        second.unbind();
+
+        LongCounter.BoundLongCounter third = longCounter.bind(Labels.of(labelKey, labelValue));
+        third.add(9);
+        third.unbind();
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 24.0);
+    }
+
+    @Test
+    void testConcurrentIncrements() throws Exception {
+        final String counterName = "long-counter-concurrent";
+        final String counterDescription = "Description of long-counter-concurrent";
+
+        LongCounter longCounter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        longCounter.add(3, Labels.empty());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 3.0 * 8 * 1000);
+    }
+
+    @Test
+    void testSameNameSharesMeter() {
+        final String counterName = "long-counter-same-name";
+        final String counterDescription = "Description of long-counter-same-name";
+
+        LongCounter first = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+        LongCounter second = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        first.add(3, Labels.empty());
+        second.add(3, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 3 * 2.0);
+    }
+
+    @Test
+    void testMeterRemovedFromRegistry() {
+        final String counterName = "long-counter-removed";
+        final String counterDescription = "Description of long-counter-removed";
+
+        LongCounter longCounter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        longCounter.add(4, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        OpenTelemetryMeterRegistry.INSTANCE.remove(meters.get(0));
+        assertThat(collector.getMeters()).isEmpty();
+
+        longCounter.add(5, Labels.empty());
+
+        meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 5.0);
+    }
+
     @Test
     void testMicrometerMixWithNoLabels() {
         final String otelCounterName = "otel-long-no-labels";
@@ -161,7 +284,7 @@ class LongCounterTest extends AbstractMetricTest {
                 .setDescription(otelCounterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(micrometerCounterName)
                 .description(micrometerCounterDescription)
                 .baseUnit("1")
@@ -202,7 +325,7 @@ class LongCounterTest extends AbstractMetricTest {
                 .setDescription(otelCounterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(micrometerCounterName)
                 .description(micrometerCounterDescription)
                 .baseUnit("1")
@@ -240,10 +363,11 @@ class LongCounterTest extends AbstractMetricTest {
                 .setDescription(counterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(counterName)
                 .description(counterDescription)
                 .baseUnit("1")
+                .tag(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry.sdk")
                 .register(OpenTelemetryMeterRegistry.INSTANCE);
 
         // Operate on counters
@@ -271,10 +395,11 @@ class LongCounterTest extends AbstractMetricTest {
                 .setDescription(counterDescription)
                 .build();
 
-        // Create Micrometer Counter
+        // Create Micrometer Counter, tagged with the library of the OTeL Counter to share its series
         Counter micrometerCounter = Counter.builder(counterName)
                 .description(counterDescription)
                 .baseUnit("1")
+                .tag(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry.sdk")
                 .tag(labelKey, labelValue)
                 .register(OpenTelemetryMeterRegistry.INSTANCE);
 
@@ -290,6 +415,20 @@ class LongCounterTest extends AbstractMetricTest {
         verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 2.0);
     }
 
+    @Test
+    void testNameUsedByOtherInstrumentKind() {
+        io.opentelemetry.api.metrics.Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        meter.doubleValueRecorderBuilder("long-counter-conflict").build().record(2.5);
+        LongCounter longCounter = meter.longCounterBuilder("long-counter-conflict").build();
+
+        // The conflict is detected when the counter is built, so measurements do not fail
+        longCounter.add(1);
+        longCounter.bind(Labels.of("key", "value")).add(1);
+
+        assertThat(collector.find("long-counter-conflict").meters()).hasSize(1);
+        assertThat(collector.find("long-counter-conflict").functionCounter()).isNull();
+    }
+
     private void verifyMeter(Meter meterToVerify, String name, String description,
             String baseUnit, int numTags, String labelKey, String labelValue,
             double value) {
@@ -300,12 +439,12 @@ class LongCounterTest extends AbstractMetricTest {
         assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
 
         if (numTags == 0) {
-            assertThat(meterToVerify.getId().getTags().size()).isZero();
+            assertThat(labelTags(meterToVerify).size()).isZero();
         } else {
-            assertThat(meterToVerify.getId().getTags().size()).isEqualTo(numTags);
-            assertThat(meterToVerify.getId().getTags().get(0)).isNotNull();
-            assertThat(meterToVerify.getId().getTags().get(0).getKey()).isEqualTo(labelKey);
-            assertThat(meterToVerify.getId().getTags().get(0).getValue()).isEqualTo(labelValue);
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0)).isNotNull();
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
         }
 
         Iterator<Measurement> iterator = meterToVerify.measure().iterator();
@@ -0,0 +1,179 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+class LongUpDownCounterTest extends AbstractMetricTest {
+
+    @Test
+    void testWithNoLabels() {
+        final String counterName = "long-updown-no-labels";
+        final String counterDescription = "Description of long-updown-no-labels";
+
+        LongUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        counter.add(6, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 0, null, null, 6);
+    }
+
+    @Test
+    void testWithUnit() {
+        final String counterName = "long-updown-unit";
+        final String counterDescription = "Description of long-updown-unit";
+
+        LongUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .setUnit("2")
+                .build();
+
+        counter.add(23, Labels.empty());
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "2", 0, null, null, 23);
+    }
+
+    @Test
+    void testIncrementAndDecrementWithLabels() {
+        final String counterName = "long-updown-labels";
+        final String counterDescription = "Description of long-updown-labels";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        LongUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        counter.add(6, Labels.of(labelKey, labelValue));
+        counter.add(-2, Labels.of(labelKey, labelValue));
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 6 + -2);
+
+        counter.add(-2, Labels.of(labelKey, labelValue));
+        counter.add(-2, Labels.of(labelKey, labelValue));
+        counter.add(-2, Labels.of(labelKey, labelValue));
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 6 + 4 * -2);
+    }
+
+    @Test
+    void testBind() {
+        final String counterName = "long-updown-binding";
+        final String counterDescription = "Description of long-updown-binding";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        LongUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownCounterBuilder(counterName)
+                .setDescription(counterDescription)
+                .build();
+
+        LongUpDownCounter.BoundLongUpDownCounter boundCounter = counter.bind(Labels.of(labelKey, labelValue));
+        boundCounter.add(6);
+        boundCounter.add(3);
+        boundCounter.unbind();
+
+        List<Meter> meters = collector.getMeters();
+        assertThat(meters).isNotNull();
+        assertThat(meters.size()).isEqualTo(1);
+
+        verifyMeter(meters.get(0), counterName, counterDescription, "1", 1, labelKey, labelValue, 6 + 3);
+    }
+
+    @Test
+    void testMicrometerGaugeRegisteredFirst() {
+        AtomicInteger queued = new AtomicInteger(5);
+        Gauge.builder("long-updown-micrometer-gauge", queued, AtomicInteger::get)
+                .register(OpenTelemetryMeterRegistry.INSTANCE);
+
+        LongUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownCounterBuilder("long-updown-micrometer-gauge")
+                .build();
+        counter.add(3, Labels.empty());
+
+        // Micrometer registries keep the gauge registered first, the counter is still exported
+        assertThat(collector.get("long-updown-micrometer-gauge").gauge().value()).isEqualTo(5);
+        assertThat(exportedValue("long-updown-micrometer-gauge")).isEqualTo(3.0);
+    }
+
+    @Test
+    void testMicrometerMeterOfOtherTypeRegisteredFirst() {
+        Counter.builder("long-updown-micrometer-counter").register(OpenTelemetryMeterRegistry.INSTANCE).increment();
+
+        LongUpDownCounter counter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownCounterBuilder("long-updown-micrometer-counter")
+                .build();
+        counter.add(3, Labels.empty());
+
+        assertThat(collector.get("long-updown-micrometer-counter").counter().count()).isEqualTo(1);
+        assertThat(exportedValue("long-updown-micrometer-counter")).isEqualTo(3.0);
+    }
+
+    private static double exportedValue(String name) {
+        return OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics().stream()
+                .filter(metric -> metric.getName().equals(name))
+                .findFirst()
+                .map(metric -> metric.getValue(0))
+                .orElseThrow(AssertionError::new);
+    }
+
+    private void verifyMeter(Meter meterToVerify, String name, String description,
+            String baseUnit, int numTags, String labelKey, String labelValue,
+            double value) {
+        assertThat(meterToVerify).isNotNull();
+        assertThat(meterToVerify.getId()).isNotNull();
+        assertThat(meterToVerify.getId().getName()).isEqualTo(name);
+        assertThat(meterToVerify.getId().getDescription()).isEqualTo(description);
+        assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
+        assertThat(meterToVerify.getId().getType()).isEqualTo(Meter.Type.GAUGE);
+
+        if (numTags == 0) {
+            assertThat(labelTags(meterToVerify).size()).isZero();
+        } else {
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0)).isNotNull();
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
+        }
+
+        Iterator<Measurement> iterator = meterToVerify.measure().iterator();
+        assertThat(iterator.hasNext()).isTrue();
+
+        Measurement measure = iterator.next();
+        assertThat(measure.getStatistic()).isEqualTo(Statistic.VALUE);
+        assertThat(measure.getValue()).isEqualTo(value);
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
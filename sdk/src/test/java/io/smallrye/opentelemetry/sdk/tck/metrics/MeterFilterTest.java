@@ -0,0 +1,160 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongValueRecorder;
+import io.opentelemetry.api.metrics.Meter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+
+class MeterFilterTest extends AbstractMetricTest {
+
+    @Test
+    void testDeniedInstrumentsAreNoop() {
+        OpenTelemetryMeterRegistry.INSTANCE.config().meterFilter(MeterFilter.denyNameStartsWith("filter-denied"));
+
+        Meter meter = OpenTelemetry.getGlobalMeter("filter-test");
+        LongCounter counter = meter.longCounterBuilder("filter-denied-counter").build();
+        LongCounter other = meter.longCounterBuilder("filter-denied-other").build();
+        LongValueRecorder recorder = meter.longValueRecorderBuilder("filter-denied-recorder").build();
+        counter.add(1, Labels.of("key", "value"));
+        counter.bind(Labels.empty()).add(1);
+        recorder.record(3);
+
+        // Denied instruments share a stateless instance and have no series
+        assertThat(counter).isSameAs(other);
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName()).doesNotContainKeys("filter-denied-counter",
+                "filter-denied-recorder");
+        assertThat(collector.find("filter-denied-counter").meter()).isNull();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.isEnabled(counterId("filter-denied-counter"))).isFalse();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.isEnabled(counterId("filter-accepted-counter"))).isTrue();
+
+        // Increments are still validated
+        DoubleCounter doubleCounter = meter.doubleCounterBuilder("filter-denied-double").build();
+        assertThatThrownBy(() -> counter.add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> counter.bind(Labels.empty()).add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> doubleCounter.add(-1, Labels.empty())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSeriesDeniedByTag() {
+        OpenTelemetryMeterRegistry.INSTANCE.config().meterFilter(MeterFilter.deny(
+                id -> id.getName().equals("filter-tag-counter") && "secret".equals(id.getTag("user"))));
+
+        LongCounter counter = OpenTelemetry.getGlobalMeter("filter-test").longCounterBuilder("filter-tag-counter")
+                .build();
+        counter.add(1, Labels.of("user", "secret"));
+        counter.add(2, Labels.of("user", "public"));
+
+        assertThat(collector.find("filter-tag-counter").meters()).hasSize(1);
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName().get("filter-tag-counter")).hasSize(1);
+        MetricData data = OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics().stream()
+                .filter(metric -> metric.getName().equals("filter-tag-counter"))
+                .findFirst()
+                .get();
+        assertThat(data.getPointCount()).isEqualTo(1);
+        assertThat(data.getLabels(0).get("user")).isEqualTo("public");
+    }
+
+    @Test
+    void testMappedSeriesAreRemoved() {
+        OpenTelemetryMeterRegistry.INSTANCE.config().meterFilter(new MeterFilter() {
+            @Override
+            public io.micrometer.core.instrument.Meter.Id map(io.micrometer.core.instrument.Meter.Id id) {
+                return id.getName().startsWith("filter-mapped") ? id.withTag(Tag.of("mapped", "true")) : id;
+            }
+        });
+
+        LongCounter counter = OpenTelemetry.getGlobalMeter("filter-test").longCounterBuilder("filter-mapped-counter")
+                .build();
+        counter.add(1, Labels.of("key", "removed"));
+        counter.add(1, Labels.of("key", "evicted"));
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName().get("filter-mapped-counter")).hasSize(2);
+
+        io.micrometer.core.instrument.Meter removed = OpenTelemetryMeterRegistry.INSTANCE.get("filter-mapped-counter")
+                .tags("key", "removed", "mapped", "true").meter();
+        OpenTelemetryMeterRegistry.INSTANCE.remove(removed);
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName().get("filter-mapped-counter")).hasSize(1);
+
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.removeSeries("key", "evicted")).isEqualTo(1);
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName()).doesNotContainKey("filter-mapped-counter");
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.find("filter-mapped-counter").meters()).isEmpty();
+    }
+
+    @Test
+    void testFilterAddedAfterBuild() {
+        Meter meter = OpenTelemetry.getGlobalMeter("filter-test");
+        LongCounter counter = meter.longCounterBuilder("filter-late-counter").build();
+        LongCounter.BoundLongCounter bound = counter.bind(Labels.of("key", "value"));
+        counter.add(1, Labels.of("key", "value"));
+        assertThat(collector.get("filter-late-counter").functionCounter().count()).isEqualTo(1);
+
+        OpenTelemetryMeterRegistry.INSTANCE.config().meterFilter(MeterFilter.denyNameStartsWith("filter-late"));
+        counter.add(1, Labels.of("key", "value"));
+        counter.add(1, Labels.of("key", "other"));
+        bound.add(1);
+
+        // The series created before the filter remains, but nothing is recorded anymore
+        assertThat(collector.get("filter-late-counter").functionCounter().count()).isEqualTo(1);
+        assertThat(collector.find("filter-late-counter").meters()).hasSize(1);
+    }
+
+    @Test
+    void testDeniedObserversAreNoop() {
+        OpenTelemetryMeterRegistry.INSTANCE.config().meterFilter(MeterFilter.denyNameStartsWith("filter-denied"));
+
+        Meter meter = OpenTelemetry.getGlobalMeter("filter-test");
+        AtomicInteger callbacks = new AtomicInteger();
+        meter.longSumObserverBuilder("filter-denied-sum")
+                .setCallback(result -> {
+                    callbacks.incrementAndGet();
+                    result.observe(1, Labels.empty());
+                })
+                .build();
+        meter.doubleValueObserverBuilder("filter-denied-value")
+                .setCallback(result -> callbacks.incrementAndGet())
+                .build();
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        // Denied observers are never registered, so their callback is never invoked
+        assertThat(callbacks).hasValue(0);
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName()).doesNotContainKey("filter-denied-sum");
+    }
+
+    @Test
+    void testFilterAddedAfterObserverBuild() {
+        AtomicInteger callbacks = new AtomicInteger();
+        OpenTelemetry.getGlobalMeter("filter-test").longSumObserverBuilder("filter-observer-late-sum")
+                .setCallback(result -> {
+                    callbacks.incrementAndGet();
+                    result.observe(callbacks.get(), Labels.empty());
+                })
+                .build();
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        assertThat(callbacks).hasValue(1);
+
+        OpenTelemetryMeterRegistry.INSTANCE.config().meterFilter(MeterFilter.denyNameStartsWith("filter-observer-late"));
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        // The callback is skipped once a filter denies the observer
+        assertThat(callbacks).hasValue(1);
+        assertThat(collector.get("filter-observer-late-sum").functionCounter().count()).isEqualTo(1);
+    }
+
+    private static io.micrometer.core.instrument.Meter.Id counterId(String name) {
+        return new io.micrometer.core.instrument.Meter.Id(name, Tags.empty(), "1", null,
+                io.micrometer.core.instrument.Meter.Type.COUNTER);
+    }
+}
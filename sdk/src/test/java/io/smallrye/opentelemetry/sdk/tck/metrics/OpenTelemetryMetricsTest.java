@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.Tag;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
 
 class OpenTelemetryMetricsTest {
 
@@ -40,4 +43,41 @@ class OpenTelemetryMetricsTest {
                 .isNotNull()
                 .isNotEqualTo(Meter.getDefault());
     }
+
+    @Test
+    void testMeterPerInstrumentationLibrary() {
+        MeterProvider meterProvider = OpenTelemetry.getGlobalMeterProvider();
+
+        Meter meter = meterProvider.get("io.smallrye.opentelemetry", "0.1.0");
+        assertThat(meterProvider.get("io.smallrye.opentelemetry", "0.1.0")).isSameAs(meter);
+        assertThat(meterProvider.get("io.smallrye.opentelemetry", "0.2.0")).isNotSameAs(meter);
+        assertThat(meterProvider.get("io.smallrye.opentelemetry.other")).isNotSameAs(meter);
+
+        assertThat(meter).isInstanceOf(OpenTelemetryMeter.class);
+        assertThat(((OpenTelemetryMeter) meter).getInstrumentationLibraryInfo().getName())
+                .isEqualTo("io.smallrye.opentelemetry");
+        assertThat(((OpenTelemetryMeter) meter).getInstrumentationLibraryInfo().getVersion())
+                .isEqualTo("0.1.0");
+    }
+
+    @Test
+    void testLibraryTags() {
+        OpenTelemetryMeterRegistry registry = new OpenTelemetryMeterRegistry();
+        assertThat(registry.meter("io.smallrye.opentelemetry", "0.1.0").getLibraryTags())
+                .containsExactly(Tag.of(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry"),
+                        Tag.of(OpenTelemetryMeter.LIBRARY_VERSION_TAG, "0.1.0"));
+        assertThat(registry.meter("io.smallrye.opentelemetry", null).getLibraryTags())
+                .containsExactly(Tag.of(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry"));
+    }
+
+    @Test
+    void testLibraryTagsDisabled() {
+        System.setProperty(OpenTelemetryMeterRegistry.LIBRARY_TAGS_PROPERTY, "false");
+        try {
+            OpenTelemetryMeterRegistry registry = new OpenTelemetryMeterRegistry();
+            assertThat(registry.meter("io.smallrye.opentelemetry", "0.1.0").getLibraryTags()).isEmpty();
+        } finally {
+            System.clearProperty(OpenTelemetryMeterRegistry.LIBRARY_TAGS_PROPERTY);
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.Series;
+import io.smallrye.opentelemetry.sdk.metrics.SeriesEncoding;
+
+class SeriesEncodingTest extends AbstractMetricTest {
+
+    @Test
+    void testEncodedOncePerSeries() {
+        AtomicInteger encoded = new AtomicInteger();
+        SeriesEncoding<String> tenant = SeriesEncoding.of(series -> {
+            encoded.incrementAndGet();
+            return "tenant=" + series.getLabels().get("tenant");
+        });
+        SeriesEncoding<Integer> length = SeriesEncoding.of(series -> series.getId().getName().length());
+
+        LongCounter counter = OpenTelemetry.getGlobalMeter("encoding").longCounterBuilder("encoding-counter").build();
+        counter.add(1, Labels.of("tenant", "a"));
+        Series<?> series = OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName().get("encoding-counter").iterator()
+                .next();
+
+        assertThat(series.getEncoded(tenant)).isEqualTo("tenant=a");
+        assertThat(series.getEncoded(length)).isEqualTo("encoding-counter".length());
+        counter.add(1, Labels.of("tenant", "a"));
+        assertThat(series.getEncoded(tenant)).isSameAs(series.getEncoded(tenant));
+        assertThat(encoded).hasValue(1);
+    }
+}
@@ -0,0 +1,116 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+class SumObserverTest extends AbstractMetricTest {
+
+    @AfterEach
+    void stopScheduler() {
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().shutdown();
+    }
+
+    @Test
+    void testLongSumObserver() {
+        final String observerName = "long-sum-observer";
+        final String observerDescription = "Description of long-sum-observer";
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longSumObserverBuilder(observerName)
+                .setDescription(observerDescription)
+                .setCallback(result -> result.observe(12, Labels.empty()))
+                .build();
+
+        assertThat(collector.find(observerName).meters()).isEmpty();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        assertThat(collector.find(observerName).meters()).hasSize(1);
+        verifyMeter(collector.find(observerName).meter(), observerName, observerDescription, "1", 0, null, null, 12);
+    }
+
+    @Test
+    void testDoubleSumObserverWithLabels() {
+        final String observerName = "double-sum-observer-labels";
+        final String observerDescription = "Description of double-sum-observer-labels";
+        final String labelKey = "myKey";
+        final String labelValue = "myValue";
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleSumObserverBuilder(observerName)
+                .setDescription(observerDescription)
+                .setUnit("ms")
+                .setCallback(result -> result.observe(4.5, Labels.of(labelKey, labelValue)))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        assertThat(collector.find(observerName).meters()).hasSize(1);
+        verifyMeter(collector.find(observerName).meter(), observerName, observerDescription, "ms", 1, labelKey,
+                labelValue, 4.5);
+    }
+
+    @Test
+    void testCallbackRunsOncePerCycle() {
+        final String observerName = "long-sum-observer-cycle";
+        final AtomicInteger invocations = new AtomicInteger();
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longSumObserverBuilder(observerName)
+                .setCallback(result -> result.observe(invocations.incrementAndGet() * 10L, Labels.empty()))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        Meter meter = collector.find(observerName).meter();
+
+        // Reading the registry does not invoke the callback
+        meter.measure();
+        meter.measure();
+        assertThat(invocations.get()).isEqualTo(1);
+        verifyMeter(meter, observerName, null, "1", 0, null, null, 10);
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        assertThat(invocations.get()).isEqualTo(2);
+        verifyMeter(meter, observerName, null, "1", 0, null, null, 20);
+    }
+
+    private void verifyMeter(Meter meterToVerify, String name, String description,
+            String baseUnit, int numTags, String labelKey, String labelValue,
+            double value) {
+        assertThat(meterToVerify).isNotNull();
+        assertThat(meterToVerify.getId()).isNotNull();
+        assertThat(meterToVerify.getId().getName()).isEqualTo(name);
+        assertThat(meterToVerify.getId().getDescription()).isEqualTo(description);
+        assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
+        assertThat(meterToVerify.getId().getType()).isEqualTo(Meter.Type.COUNTER);
+
+        if (numTags == 0) {
+            assertThat(labelTags(meterToVerify).size()).isZero();
+        } else {
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
+        }
+
+        Iterator<Measurement> iterator = meterToVerify.measure().iterator();
+        assertThat(iterator.hasNext()).isTrue();
+
+        Measurement measure = iterator.next();
+        assertThat(measure.getStatistic()).isEqualTo(Statistic.COUNT);
+        assertThat(measure.getValue()).isEqualTo(value);
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+
+class UpDownSumObserverTest extends AbstractMetricTest {
+
+    @AfterEach
+    void stopScheduler() {
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().shutdown();
+    }
+
+    @Test
+    void testLongUpDownSumObserver() {
+        final String observerName = "long-updown-sum-observer";
+        final String observerDescription = "Description of long-updown-sum-observer";
+        final AtomicLong active = new AtomicLong(5);
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longUpDownSumObserverBuilder(observerName)
+                .setDescription(observerDescription)
+                .setCallback(result -> result.observe(active.get(), Labels.empty()))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        verifyMeter(collector.find(observerName).meter(), observerName, observerDescription, "1", 0, null, null, 5);
+
+        active.set(-3);
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        verifyMeter(collector.find(observerName).meter(), observerName, observerDescription, "1", 0, null, null, -3);
+    }
+
+    @Test
+    void testDoubleUpDownSumObserverWithLabels() {
+        final String observerName = "double-updown-sum-observer-labels";
+        final String observerDescription = "Description of double-updown-sum-observer-labels";
+        final String labelKey = "myKey";
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleUpDownSumObserverBuilder(observerName)
+                .setDescription(observerDescription)
+                .setCallback(result -> {
+                    result.observe(1.5, Labels.of(labelKey, "a"));
+                    result.observe(-2.5, Labels.of(labelKey, "b"));
+                })
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        assertThat(collector.find(observerName).meters()).hasSize(2);
+        verifyMeter(collector.find(observerName).tag(labelKey, "a").meter(), observerName, observerDescription, "1",
+                1, labelKey, "a", 1.5);
+        verifyMeter(collector.find(observerName).tag(labelKey, "b").meter(), observerName, observerDescription, "1",
+                1, labelKey, "b", -2.5);
+    }
+
+    private void verifyMeter(Meter meterToVerify, String name, String description,
+            String baseUnit, int numTags, String labelKey, String labelValue,
+            double value) {
+        assertThat(meterToVerify).isNotNull();
+        assertThat(meterToVerify.getId()).isNotNull();
+        assertThat(meterToVerify.getId().getName()).isEqualTo(name);
+        assertThat(meterToVerify.getId().getDescription()).isEqualTo(description);
+        assertThat(meterToVerify.getId().getBaseUnit()).isEqualTo(baseUnit);
+        assertThat(meterToVerify.getId().getType()).isEqualTo(Meter.Type.GAUGE);
+
+        if (numTags == 0) {
+            assertThat(labelTags(meterToVerify).size()).isZero();
+        } else {
+            assertThat(labelTags(meterToVerify).size()).isEqualTo(numTags);
+            assertThat(labelTags(meterToVerify).get(0).getKey()).isEqualTo(labelKey);
+            assertThat(labelTags(meterToVerify).get(0).getValue()).isEqualTo(labelValue);
+        }
+
+        Iterator<Measurement> iterator = meterToVerify.measure().iterator();
+        assertThat(iterator.hasNext()).isTrue();
+
+        Measurement measure = iterator.next();
+        assertThat(measure.getStatistic()).isEqualTo(Statistic.VALUE);
+        assertThat(measure.getValue()).isEqualTo(value);
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
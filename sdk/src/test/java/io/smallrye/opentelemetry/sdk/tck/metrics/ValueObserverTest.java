@@ -0,0 +1,111 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Meter;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.impl.CollectionScheduler;
+
+class ValueObserverTest extends AbstractMetricTest {
+
+    @AfterEach
+    void stopScheduler() {
+        CollectionScheduler scheduler = OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler();
+        scheduler.shutdown();
+        scheduler.setCallbackTimeout(CollectionScheduler.DEFAULT_CALLBACK_TIMEOUT);
+    }
+
+    @Test
+    void testLongValueObserver() {
+        final String observerName = "long-value-observer";
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longValueObserverBuilder(observerName)
+                .setDescription("Description of long-value-observer")
+                .setUnit("bytes")
+                .setCallback(result -> result.observe(1024, Labels.of("pool", "heap")))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        Meter meter = collector.find(observerName).tag("pool", "heap").meter();
+        assertThat(meter).isNotNull();
+        assertThat(meter.getId().getType()).isEqualTo(Meter.Type.GAUGE);
+        assertThat(meter.getId().getBaseUnit()).isEqualTo("bytes");
+        assertThat(meter.measure().iterator().next().getValue()).isEqualTo(1024);
+    }
+
+    @Test
+    void testDoubleValueObserver() {
+        final String observerName = "double-value-observer";
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueObserverBuilder(observerName)
+                .setCallback(result -> result.observe(0.75, Labels.empty()))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        Meter meter = collector.find(observerName).meter();
+        assertThat(meter).isNotNull();
+        assertThat(meter.measure().iterator().next().getValue()).isEqualTo(0.75);
+    }
+
+    @Test
+    void testFailingCallbackDoesNotStopTheBatch() {
+        final String observerName = "double-value-observer-after-failure";
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueObserverBuilder("double-value-observer-failing")
+                .setCallback(result -> {
+                    throw new IllegalStateException("Pool is closed");
+                })
+                .build();
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueObserverBuilder(observerName)
+                .setCallback(result -> result.observe(3, Labels.empty()))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        assertThat(collector.find(observerName).meter().measure().iterator().next().getValue()).isEqualTo(3);
+    }
+
+    @Test
+    void testSlowCallbackIsBoundedByTimeout() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        final CollectionScheduler scheduler = OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler();
+        scheduler.setCallbackTimeout(Duration.ofMillis(50));
+
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longValueObserverBuilder("long-value-observer-slow")
+                .setCallback(result -> {
+                    if (invocations.incrementAndGet() > 1) {
+                        return;
+                    }
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                })
+                .build();
+
+        long start = System.nanoTime();
+        scheduler.collect();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+}
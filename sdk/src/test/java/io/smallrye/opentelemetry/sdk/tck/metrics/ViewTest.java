@@ -0,0 +1,173 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.impl.CardinalityLimiter;
+import io.smallrye.opentelemetry.sdk.metrics.view.View;
+
+class ViewTest extends AbstractMetricTest {
+    private final List<View> views = new ArrayList<>();
+
+    @AfterEach
+    void removeViews() {
+        views.forEach(OpenTelemetryMeterRegistry.INSTANCE::removeView);
+    }
+
+    @Test
+    void testRename() {
+        register(View.builder()
+                .setInstrumentName("view-original")
+                .setName("view-renamed")
+                .setDescription("Renamed by a view")
+                .build());
+
+        LongCounter counter = OpenTelemetry.getGlobalMeter("view-test").longCounterBuilder("view-original").build();
+        counter.add(3);
+
+        assertThat(collector.find("view-original").meter()).isNull();
+        assertThat(collector.get("view-renamed").functionCounter().count()).isEqualTo(3);
+        assertThat(collector.get("view-renamed").functionCounter().getId().getDescription())
+                .isEqualTo("Renamed by a view");
+    }
+
+    @Test
+    void testLabelKeys() {
+        register(View.builder()
+                .setInstrumentNamePattern(Pattern.compile("view-labels-.*"))
+                .setLabelKeys("method")
+                .build());
+
+        LongCounter counter = OpenTelemetry.getGlobalMeter("view-test").longCounterBuilder("view-labels-counter")
+                .build();
+        for (int i = 0; i < 10; i++) {
+            counter.add(1, Labels.of("method", "GET", "user", "user-" + i));
+        }
+        counter.add(1, Labels.of("method", "POST"));
+        // Label sets already used are found in the cache of the instrument
+        for (int i = 0; i < 10; i++) {
+            counter.add(1, Labels.of("method", "GET", "user", "user-" + i));
+        }
+
+        // Label sets differing by a dropped key share a series
+        assertThat(collector.find("view-labels-counter").meters()).hasSize(2);
+        assertThat(collector.get("view-labels-counter").tags("method", "GET").functionCounter().count())
+                .isEqualTo(20);
+        assertThat(collector.get("view-labels-counter").tags("method", "GET").functionCounter().getId()
+                .getTag("user")).isNull();
+    }
+
+    @Test
+    void testDroppedLabelsDoNotCountTowardLimit() {
+        register(View.builder()
+                .setInstrumentName("view-limit-counter")
+                .setLabelKeys("method")
+                .build());
+        OpenTelemetryMeter meter = (OpenTelemetryMeter) OpenTelemetry.getGlobalMeter("view-limit");
+        meter.getCardinalityLimiter().setMaxSeriesPerInstrument(2);
+
+        LongCounter counter = meter.longCounterBuilder("view-limit-counter").build();
+        for (int i = 0; i < 10; i++) {
+            counter.add(1, Labels.of("method", "GET", "user", "user-" + i));
+        }
+        counter.add(1, Labels.of("method", "POST", "user", "user-0"));
+
+        assertThat(collector.find("view-limit-counter").tag(CardinalityLimiter.OVERFLOW_LABEL, "true").meters())
+                .isEmpty();
+        assertThat(collector.get("view-limit-counter").tags("method", "GET").functionCounter().count()).isEqualTo(10);
+        assertThat(collector.get("view-limit-counter").tags("method", "POST").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testLibrary() {
+        register(View.builder()
+                .setInstrumentationLibraryName("view-library")
+                .setName("view-library-renamed")
+                .build());
+
+        OpenTelemetry.getGlobalMeter("view-library").longCounterBuilder("view-library-counter").build().add(1);
+        OpenTelemetry.getGlobalMeter("view-other-library").longCounterBuilder("view-library-counter").build().add(2);
+
+        assertThat(collector.get("view-library-renamed").functionCounter().count()).isEqualTo(1);
+        assertThat(collector.get("view-library-counter").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testTemporality() {
+        register(View.builder()
+                .setInstrumentName("view-delta")
+                .setAggregationTemporality(MetricData.AggregationTemporality.DELTA)
+                .build());
+
+        LongCounter counter = OpenTelemetry.getGlobalMeter("view-test").longCounterBuilder("view-delta").build();
+        counter.add(4);
+
+        MetricData data = OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics().stream()
+                .filter(metric -> metric.getName().equals("view-delta"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertThat(data.getTemporality()).isEqualTo(MetricData.AggregationTemporality.DELTA);
+        assertThat(data.getValue(0)).isEqualTo(4);
+    }
+
+    @Test
+    void testDrop() {
+        register(View.builder()
+                .setInstrumentNamePattern(Pattern.compile("view-dropped-.*"))
+                .setDropped(true)
+                .build());
+
+        Meter meter = OpenTelemetry.getGlobalMeter("view-test");
+        LongCounter counter = meter.longCounterBuilder("view-dropped-counter").build();
+        DoubleValueRecorder recorder = meter.doubleValueRecorderBuilder("view-dropped-recorder").build();
+        LongCounter kept = meter.longCounterBuilder("view-kept-counter").build();
+        counter.add(1);
+        counter.bind(Labels.of("key", "value")).add(1);
+        recorder.record(2.5);
+        meter.newBatchRecorder("key", "value").put(counter, 1).put(kept, 1).record();
+        AtomicInteger callbacks = new AtomicInteger();
+        meter.longValueObserverBuilder("view-dropped-observer")
+                .setCallback(result -> {
+                    callbacks.incrementAndGet();
+                    result.observe(1, Labels.empty());
+                })
+                .build();
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+
+        assertThat(callbacks).hasValue(0);
+        assertThat(collector.find("view-dropped-observer").meter()).isNull();
+        assertThat(collector.find("view-dropped-counter").meter()).isNull();
+        assertThat(collector.find("view-dropped-recorder").meter()).isNull();
+        assertThat(collector.get("view-kept-counter").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testFirstViewApplies() {
+        register(View.builder().setInstrumentName("view-first").setName("view-first-renamed").build());
+        register(View.builder().setInstrumentName("view-first").setDropped(true).build());
+
+        OpenTelemetry.getGlobalMeter("view-test").longCounterBuilder("view-first").build().add(1);
+
+        assertThat(collector.get("view-first-renamed").functionCounter().count()).isEqualTo(1);
+    }
+
+    private void register(View view) {
+        OpenTelemetryMeterRegistry.INSTANCE.registerView(view);
+        views.add(view);
+    }
+}
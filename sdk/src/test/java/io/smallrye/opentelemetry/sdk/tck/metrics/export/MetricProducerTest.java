@@ -0,0 +1,177 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleValueRecorder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeter;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.impl.DoubleCounterImpl;
+import io.smallrye.opentelemetry.sdk.metrics.impl.LongCounterImpl;
+import io.smallrye.opentelemetry.sdk.tck.metrics.AbstractMetricTest;
+
+class MetricProducerTest extends AbstractMetricTest {
+
+    @Test
+    void testCollectSums() {
+        Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        LongCounter counter = meter.longCounterBuilder("producer-counter")
+                .setDescription("Description of producer-counter")
+                .setUnit("requests")
+                .build();
+        LongUpDownCounter upDownCounter = meter.longUpDownCounterBuilder("producer-updown").build();
+
+        counter.add(3, Labels.of("method", "GET"));
+        counter.add(4, Labels.of("method", "POST"));
+        counter.add(5, Labels.of("method", "GET"));
+        upDownCounter.add(-2);
+
+        MetricData data = find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-counter");
+        assertThat(data.getType()).isEqualTo(MetricData.Type.MONOTONIC_SUM);
+        assertThat(data.getTemporality()).isEqualTo(MetricData.AggregationTemporality.CUMULATIVE);
+        assertThat(data.getDescription()).isEqualTo("Description of producer-counter");
+        assertThat(data.getUnit()).isEqualTo("requests");
+        assertThat(data.getPointCount()).isEqualTo(2);
+        for (int i = 0; i < data.getPointCount(); i++) {
+            String method = data.getLabels(i).get("method");
+            assertThat(data.getValue(i)).isEqualTo("GET".equals(method) ? 8 : 4);
+            assertThat(data.getStartEpochNanos(i)).isPositive().isLessThanOrEqualTo(data.getEpochNanos());
+            assertThat(data.getHistogram(i)).isNull();
+        }
+
+        MetricData upDown = find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-updown");
+        assertThat(upDown.getType()).isEqualTo(MetricData.Type.NON_MONOTONIC_SUM);
+        assertThat(upDown.getLabels(0)).isEqualTo(Labels.empty());
+        assertThat(upDown.getValue(0)).isEqualTo(-2);
+    }
+
+    @Test
+    void testCollectInstrumentationLibrary() {
+        OpenTelemetry.getGlobalMeter("producer-library", "1.0").longCounterBuilder("producer-library-counter").build()
+                .add(1);
+        OpenTelemetry.getGlobalMeter("producer-other-library").longCounterBuilder("producer-other-counter").build()
+                .add(1);
+
+        MetricData data = find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-library-counter");
+        assertThat(data.getInstrumentationLibraryInfo().getName()).isEqualTo("producer-library");
+        assertThat(data.getInstrumentationLibraryInfo().getVersion()).isEqualTo("1.0");
+        assertThat(find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-other-counter").getInstrumentationLibraryInfo().getName())
+                        .isEqualTo("producer-other-library");
+    }
+
+    @Test
+    void testDeltaSumOfMicrometerCounter() {
+        Counter micrometer = Counter.builder("producer-delta-micrometer")
+                .tag(OpenTelemetryMeter.LIBRARY_NAME_TAG, "io.smallrye.opentelemetry.sdk")
+                .register(OpenTelemetryMeterRegistry.INSTANCE);
+        micrometer.increment(2);
+        LongCounter counter = ((LongCounterImpl.Builder) OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder("producer-delta-micrometer"))
+                        .setAggregationTemporality(MetricData.AggregationTemporality.DELTA)
+                        .build();
+        counter.add(3);
+
+        // The increments go to the Micrometer counter, which only knows its total
+        MetricData data = find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-delta-micrometer");
+        assertThat(data.getTemporality()).isEqualTo(MetricData.AggregationTemporality.CUMULATIVE);
+        assertThat(data.getValue(0)).isEqualTo(5);
+        assertThat(micrometer.count()).isEqualTo(5);
+    }
+
+    @Test
+    void testCollectDeltaSums() {
+        Meter meter = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk");
+        LongCounter counter = ((LongCounterImpl.Builder) meter.longCounterBuilder("producer-delta"))
+                .setAggregationTemporality(MetricData.AggregationTemporality.DELTA)
+                .build();
+        DoubleCounter doubleCounter = ((DoubleCounterImpl.Builder) meter.doubleCounterBuilder("producer-delta-double"))
+                .setAggregationTemporality(MetricData.AggregationTemporality.DELTA)
+                .build();
+
+        counter.add(3, Labels.of("method", "GET"));
+        counter.add(4, Labels.of("method", "GET"));
+        doubleCounter.add(1.5);
+
+        Collection<MetricData> first = OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics();
+        MetricData data = find(first, "producer-delta");
+        assertThat(data.getType()).isEqualTo(MetricData.Type.MONOTONIC_SUM);
+        assertThat(data.getTemporality()).isEqualTo(MetricData.AggregationTemporality.DELTA);
+        assertThat(data.getValue(0)).isEqualTo(7);
+        assertThat(find(first, "producer-delta-double").getValue(0)).isEqualTo(1.5);
+
+        counter.add(5, Labels.of("method", "GET"));
+        doubleCounter.add(2);
+        doubleCounter.add(0.5);
+
+        Collection<MetricData> second = OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics();
+        MetricData next = find(second, "producer-delta");
+        assertThat(next.getValue(0)).isEqualTo(5);
+        // Each interval starts where the previous one ended
+        assertThat(next.getStartEpochNanos(0)).isEqualTo(data.getEpochNanos());
+        assertThat(find(second, "producer-delta-double").getValue(0)).isEqualTo(2.5);
+
+        Collection<MetricData> third = OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics();
+        assertThat(find(third, "producer-delta").getValue(0)).isZero();
+
+        // Micrometer registries still read a cumulative count
+        assertThat(collector.get("producer-delta").functionCounter().count()).isEqualTo(12);
+    }
+
+    @Test
+    void testCollectHistogram() {
+        DoubleValueRecorder recorder = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueRecorderBuilder("producer-recorder")
+                .build();
+
+        recorder.record(1.5);
+        recorder.record(2.5);
+
+        MetricData data = find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-recorder");
+        assertThat(data.getType()).isEqualTo(MetricData.Type.HISTOGRAM);
+        assertThat(data.getPointCount()).isEqualTo(1);
+        assertThat(data.getValue(0)).isEqualTo(4);
+        assertThat(data.getHistogram(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testCollectManyHistograms() {
+        DoubleValueRecorder recorder = OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .doubleValueRecorderBuilder("producer-recorders")
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            recorder.record(i, Labels.of("index", String.valueOf(i)));
+        }
+
+        MetricData data = find(OpenTelemetryMeterRegistry.INSTANCE.metricProducer().collectAllMetrics(),
+                "producer-recorders");
+        assertThat(data.getPointCount()).isEqualTo(10);
+        for (int i = 0; i < data.getPointCount(); i++) {
+            assertThat(data.getHistogram(i).getCount()).isEqualTo(1);
+        }
+    }
+
+    private static MetricData find(Collection<MetricData> metrics, String name) {
+        return metrics.stream()
+                .filter(data -> data.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No metric named " + name));
+    }
+}
@@ -0,0 +1,293 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricData;
+import io.smallrye.opentelemetry.sdk.metrics.export.MetricExporter;
+import io.smallrye.opentelemetry.sdk.metrics.export.PeriodicMetricExporter;
+import io.smallrye.opentelemetry.sdk.tck.metrics.AbstractMetricTest;
+
+class PeriodicMetricExporterTest extends AbstractMetricTest {
+
+    @AfterEach
+    void stopScheduler() {
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().shutdown();
+    }
+
+    @Test
+    void testExportsOnInterval() throws InterruptedException {
+        OpenTelemetry.getGlobalMeter("io.smallrye.opentelemetry.sdk")
+                .longCounterBuilder("periodic-counter")
+                .build()
+                .add(7, Labels.empty());
+
+        RecordingExporter exporter = new RecordingExporter();
+        PeriodicMetricExporter periodic = PeriodicMetricExporter
+                .builder(OpenTelemetryMeterRegistry.INSTANCE.metricProducer())
+                .addExporter(exporter)
+                .setInterval(Duration.ofMillis(20))
+                .build();
+        try {
+            Collection<MetricData> batch = exporter.batches.poll(5, TimeUnit.SECONDS);
+            assertThat(batch).isNotNull();
+            assertThat(batch).anySatisfy(data -> {
+                assertThat(data.getName()).isEqualTo("periodic-counter");
+                assertThat(data.getValue(0)).isEqualTo(7);
+            });
+        } finally {
+            assertThat(periodic.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        }
+        assertThat(exporter.shutdown).isTrue();
+    }
+
+    @Test
+    void testSlowExporterDropsBatches() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingExporter exporter = new BlockingExporter(release);
+        PeriodicMetricExporter periodic = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(exporter)
+                .setInterval(Duration.ofHours(1))
+                .setQueueSize(1)
+                .setDropPolicy(PeriodicMetricExporter.DropPolicy.DROP_NEWEST)
+                .build();
+        try {
+            assertThat(periodic.collect()).isTrue();
+            assertThat(exporter.exporting.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // The exporter is blocked on the first batch: one batch fits in the queue, the next one is dropped
+            assertThat(periodic.collect()).isTrue();
+            assertThat(periodic.collect()).isFalse();
+            assertThat(collector.find("otel.sdk.export.dropped").functionCounter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            assertThat(periodic.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        }
+    }
+
+    @Test
+    void testExportTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingExporter slow = new BlockingExporter(release);
+        RecordingExporter next = new RecordingExporter();
+        PeriodicMetricExporter periodic = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(slow)
+                .addExporter(next)
+                .setInterval(Duration.ofHours(1))
+                .setExportTimeout(Duration.ofMillis(50))
+                .build();
+        try {
+            periodic.collect();
+            // The second exporter is reached once the first one timed out
+            assertThat(next.batches.poll(5, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            release.countDown();
+            periodic.shutdown().join(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testBlockingExporterTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        SynchronousExporter blocking = new SynchronousExporter(release);
+        RecordingExporter next = new RecordingExporter();
+        PeriodicMetricExporter periodic = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(blocking)
+                .addExporter(next)
+                .setInterval(Duration.ofHours(1))
+                .setExportTimeout(Duration.ofMillis(50))
+                .build();
+        try {
+            periodic.collect();
+            assertThat(next.batches.poll(5, TimeUnit.SECONDS)).isNotNull();
+
+            // The blocking exporter still holds the first batch, so it is skipped for the second one
+            periodic.collect();
+            assertThat(next.batches.poll(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(blocking.exported.get()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            periodic.shutdown().join(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testShutdownExportsQueuedBatches() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        SynchronousExporter exporter = new SynchronousExporter(release);
+        PeriodicMetricExporter periodic = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(exporter)
+                .setInterval(Duration.ofHours(1))
+                .setQueueSize(1)
+                .setDropPolicy(PeriodicMetricExporter.DropPolicy.DROP_OLDEST)
+                .build();
+
+        assertThat(periodic.collect()).isTrue();
+        assertThat(exporter.exporting.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(periodic.collect()).isTrue();
+        CompletableResultCode shutdown = periodic.shutdown();
+        // The queue is full, but a batch collected now must not make room by dropping the end of the queue
+        assertThat(periodic.collect()).isFalse();
+        release.countDown();
+
+        assertThat(shutdown.join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(exporter.exported.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testShutdownFailure() {
+        RecordingExporter failing = new RecordingExporter() {
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofFailure();
+            }
+        };
+        RecordingExporter throwing = new RecordingExporter() {
+            @Override
+            public CompletableResultCode shutdown() {
+                throw new IllegalStateException("Already closed");
+            }
+        };
+        RecordingExporter exporter = new RecordingExporter();
+
+        PeriodicMetricExporter periodic = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(failing)
+                .setInterval(Duration.ofHours(1))
+                .build();
+        assertThat(periodic.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isFalse();
+
+        periodic = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(throwing)
+                .addExporter(exporter)
+                .setInterval(Duration.ofHours(1))
+                .build();
+        assertThat(periodic.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isFalse();
+        assertThat(exporter.shutdown).isTrue();
+    }
+
+    @Test
+    void testInstanceMetrics() {
+        PeriodicMetricExporter first = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(new RecordingExporter())
+                .setInterval(Duration.ofHours(1))
+                .build();
+        PeriodicMetricExporter second = PeriodicMetricExporter.builder(Collections::emptyList)
+                .addExporter(new RecordingExporter())
+                .setInterval(Duration.ofHours(1))
+                .build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName().get("otel.sdk.export.queue.size"))
+                .hasSize(2);
+
+        assertThat(first.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(second.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName()).doesNotContainKey("otel.sdk.export.queue.size");
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.find("otel.sdk.export.queue.size").meters()).isEmpty();
+    }
+
+    static class RecordingExporter implements MetricExporter {
+        final BlockingQueue<Collection<MetricData>> batches = new LinkedBlockingQueue<>();
+        volatile boolean shutdown;
+
+        @Override
+        public CompletableResultCode export(Collection<MetricData> metrics) {
+            batches.add(metrics);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    static final class SynchronousExporter implements MetricExporter {
+        final CountDownLatch exporting = new CountDownLatch(1);
+        final AtomicInteger exported = new AtomicInteger();
+        final CountDownLatch release;
+
+        SynchronousExporter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<MetricData> metrics) {
+            exported.incrementAndGet();
+            exporting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableResultCode.ofFailure();
+            }
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    static final class BlockingExporter implements MetricExporter {
+        final CountDownLatch exporting = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        BlockingExporter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<MetricData> metrics) {
+            CompletableResultCode result = new CompletableResultCode();
+            exporting.countDown();
+            new Thread(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                result.succeed();
+            }).start();
+            return result;
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.smallrye.opentelemetry.sdk.tck.metrics.histogram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.opentelemetry.sdk.metrics.histogram.Histogram;
+import io.smallrye.opentelemetry.sdk.metrics.histogram.HistogramSnapshot;
+
+class HistogramTest {
+    private static final double RELATIVE_ERROR = 1.0 / (1 << Histogram.SUB_BUCKET_BITS);
+
+    @Test
+    void testEmpty() {
+        Histogram histogram = new Histogram();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.sum()).isZero();
+        assertThat(histogram.max()).isNaN();
+        assertThat(histogram.snapshot().valueAtPercentile(50)).isNaN();
+    }
+
+    @Test
+    void testBucketBounds() {
+        for (double value : new double[] { 0.001, 0.5, 1, 3, 7.5, 1000, 123456.789 }) {
+            int index = Histogram.bucketIndex(value);
+            assertThat(Histogram.lowerBound(index)).isLessThanOrEqualTo(value);
+            assertThat(Histogram.upperBound(index)).isGreaterThan(value);
+        }
+    }
+
+    @Test
+    void testRecord() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.sum()).isEqualTo(5050);
+        assertThat(histogram.max()).isEqualTo(100);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(100);
+        assertThat(snapshot.valueAtPercentile(50)).isCloseTo(50, within(50 * RELATIVE_ERROR));
+        assertThat(snapshot.valueAtPercentile(99)).isCloseTo(99, within(99 * RELATIVE_ERROR));
+    }
+
+    @Test
+    void testRecordZeroNegativeAndNaN() {
+        Histogram histogram = new Histogram();
+        histogram.record(-4);
+        histogram.record(0);
+        histogram.record(2);
+        histogram.record(Double.NaN);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(3);
+        assertThat(snapshot.getZeroCount()).isEqualTo(1);
+        assertThat(snapshot.getSum()).isEqualTo(-2);
+        assertThat(snapshot.getNegativeCount(Histogram.bucketIndex(4))).isEqualTo(1);
+        assertThat(snapshot.valueAtPercentile(1)).isCloseTo(-4, within(4 * RELATIVE_ERROR));
+        assertThat(snapshot.valueAtPercentile(50)).isZero();
+        assertThat(histogram.max()).isEqualTo(2);
+    }
+
+    @Test
+    void testMaxIsRecordedValue() {
+        Histogram histogram = new Histogram();
+        histogram.record(-4);
+        assertThat(histogram.max()).isEqualTo(-4);
+        histogram.record(7.3);
+        histogram.record(5);
+
+        // Not the upper bound of the bucket of 7.3
+        assertThat(histogram.max()).isEqualTo(7.3);
+    }
+
+    @Test
+    void testMerge() {
+        Histogram first = new Histogram();
+        Histogram second = new Histogram();
+        first.record(10);
+        second.record(10);
+        second.record(-1);
+
+        HistogramSnapshot merged = first.snapshot().merge(second.snapshot());
+        assertThat(merged.getCount()).isEqualTo(3);
+        assertThat(merged.getSum()).isEqualTo(19);
+        assertThat(merged.getPositiveCount(Histogram.bucketIndex(10))).isEqualTo(2);
+
+        long[] positive = new long[Histogram.BUCKET_COUNT];
+        positive[Histogram.bucketIndex(10)] = 1;
+        HistogramSnapshot remote = HistogramSnapshot.of(0, 10, positive, null);
+        assertThat(merged.merge(remote).getPositiveCount(Histogram.bucketIndex(10))).isEqualTo(3);
+    }
+}
@@ -36,4 +36,27 @@ class LabelConverterTest {
         assertThat(tag.getKey()).isEqualTo(key);
         assertThat(tag.getValue()).isEqualTo(value);
     }
+
+    @Test
+    void testToTagsWithMultipleLabels() {
+        Tags tags = LabelConverter.toTags(Labels.of("b-key", "b-value", "a-key", "a-value"));
+        assertThat(tags).containsExactly(Tag.of("a-key", "a-value"), Tag.of("b-key", "b-value"));
+    }
+
+    @Test
+    void testToTagsIsCached() {
+        Tags tags = LabelConverter.toTags(Labels.of("cached-key", "cached-value"));
+        assertThat(LabelConverter.toTags(Labels.of("cached-key", "cached-value"))).isSameAs(tags);
+    }
+
+    @Test
+    void testToTagsWithInstrumentTags() {
+        Tags instrumentTags = Tags.of("instrument-key", "instrument-value");
+
+        assertThat(LabelConverter.toTags(Labels.empty(), instrumentTags)).isSameAs(instrumentTags);
+        assertThat(LabelConverter.toTags(Labels.of("my-key", "my-value"), Tags.empty()))
+                .containsExactly(Tag.of("my-key", "my-value"));
+        assertThat(LabelConverter.toTags(Labels.of("my-key", "my-value"), instrumentTags))
+                .containsExactly(Tag.of("instrument-key", "instrument-value"), Tag.of("my-key", "my-value"));
+    }
 }
@@ -0,0 +1,210 @@
+package io.smallrye.opentelemetry.sdk.tck.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageEntryMetadata;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.smallrye.opentelemetry.sdk.propagation.BaggagePropagator;
+import io.smallrye.opentelemetry.sdk.propagation.CompositePropagator;
+import io.smallrye.opentelemetry.sdk.propagation.EncodedSpanContext;
+import io.smallrye.opentelemetry.sdk.propagation.TraceContextPropagator;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+
+class PropagatorTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID = "00f067aa0ba902b7";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-" + SPAN_ID + "-01";
+
+    private static final TextMapPropagator.Getter<Map<String, String>> GETTER = new TextMapPropagator.Getter<Map<String, String>>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, String> carrier, String key) {
+            return carrier.get(key);
+        }
+    };
+
+    @Test
+    void testTraceContextRoundTrip() {
+        TraceContextPropagator propagator = TraceContextPropagator.getInstance();
+        Map<String, String> headers = new HashMap<>();
+        headers.put("traceparent", TRACEPARENT);
+        headers.put("tracestate", "congo=t61rcWkgMzE, rojo=00f067aa0ba902b7");
+
+        SpanContext spanContext = spanContext(propagator.extract(Context.root(), headers, GETTER));
+        assertThat(spanContext.isValid()).isTrue();
+        assertThat(spanContext.isRemote()).isTrue();
+        assertThat(spanContext.isSampled()).isTrue();
+        assertThat(spanContext.getTraceIdAsHexString()).isEqualTo(TRACE_ID);
+        assertThat(spanContext.getSpanIdAsHexString()).isEqualTo(SPAN_ID);
+        assertThat(spanContext.getTraceState().get("congo")).isEqualTo("t61rcWkgMzE");
+        assertThat(keys(spanContext.getTraceState())).containsExactly("congo", "rojo");
+
+        Map<String, String> injected = inject(propagator, Context.root().with(Span.wrap(spanContext)));
+        // The headers of an extracted context are forwarded as they were received
+        assertThat(injected.get("traceparent")).isSameAs(TRACEPARENT);
+        assertThat(injected.get("tracestate")).isEqualTo("congo=t61rcWkgMzE,rojo=00f067aa0ba902b7");
+
+        // Same decisions as the upstream propagator
+        SpanContext upstream = spanContext(W3CTraceContextPropagator.getInstance().extract(Context.root(), headers,
+                GETTER));
+        assertThat(upstream.getTraceIdAsHexString()).isEqualTo(spanContext.getTraceIdAsHexString());
+        assertThat(upstream.getSpanIdAsHexString()).isEqualTo(spanContext.getSpanIdAsHexString());
+        assertThat(upstream.getTraceFlags()).isEqualTo(spanContext.getTraceFlags());
+        assertThat(keys(upstream.getTraceState())).isEqualTo(keys(spanContext.getTraceState()));
+    }
+
+    @Test
+    void testInjectCachesHeaders() {
+        OpenTelemetryTracerProvider provider = new OpenTelemetryTracerProvider();
+        Span span = provider.get("propagation-test").spanBuilder("span").startSpan();
+        try {
+            SpanContext spanContext = span.getSpanContext();
+            assertThat(spanContext).isInstanceOf(EncodedSpanContext.class);
+
+            Context context = Context.root().with(span);
+            Map<String, String> first = inject(TraceContextPropagator.getInstance(), context);
+            Map<String, String> second = inject(TraceContextPropagator.getInstance(), context);
+            assertThat(second.get("traceparent")).isSameAs(first.get("traceparent"));
+            assertThat(first.get("traceparent")).isEqualTo("00-" + spanContext.getTraceIdAsHexString() + "-"
+                    + spanContext.getSpanIdAsHexString() + "-01");
+            assertThat(first).doesNotContainKey("tracestate");
+
+            // Contexts created elsewhere are formatted like upstream formats them
+            SpanContext other = SpanContext.create(TRACE_ID, SPAN_ID, TraceFlags.getDefault(),
+                    TraceState.builder().set("foo", "bar").set("baz", "qux").build());
+            Map<String, String> ours = inject(TraceContextPropagator.getInstance(), Context.root().with(Span.wrap(other)));
+            Map<String, String> theirs = inject(W3CTraceContextPropagator.getInstance(),
+                    Context.root().with(Span.wrap(other)));
+            assertThat(ours).isEqualTo(theirs);
+        } finally {
+            span.end();
+        }
+    }
+
+    @Test
+    void testInvalidTraceparent() {
+        assertInvalid("");
+        assertInvalid("00-" + TRACE_ID + "-" + SPAN_ID);
+        assertInvalid("00-" + TRACE_ID + "-" + SPAN_ID + "-01-");
+        assertInvalid("00-" + TRACE_ID.toUpperCase() + "-" + SPAN_ID + "-01");
+        assertInvalid("00-00000000000000000000000000000000-" + SPAN_ID + "-01");
+        assertInvalid("00-" + TRACE_ID + "-0000000000000000-01");
+        assertInvalid("00-" + TRACE_ID + "_" + SPAN_ID + "-01");
+        assertInvalid("00-" + TRACE_ID + "-" + SPAN_ID + "-0g");
+        assertInvalid("ff-" + TRACE_ID + "-" + SPAN_ID + "-01");
+        assertInvalid("01-" + TRACE_ID + "-" + SPAN_ID + "-01x");
+
+        // Later versions may add fields
+        SpanContext spanContext = extract("cc-" + TRACE_ID + "-" + SPAN_ID + "-01-what-the-future-holds");
+        assertThat(spanContext.isValid()).isTrue();
+        assertThat(spanContext.getSpanIdAsHexString()).isEqualTo(SPAN_ID);
+    }
+
+    @Test
+    void testInvalidTracestateIsIgnored() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("traceparent", TRACEPARENT);
+        headers.put("tracestate", "foo=bar,baz");
+        SpanContext spanContext = spanContext(TraceContextPropagator.getInstance().extract(Context.root(), headers,
+                GETTER));
+        assertThat(spanContext.isValid()).isTrue();
+        assertThat(spanContext.getTraceState().isEmpty()).isTrue();
+    }
+
+    @Test
+    void testBaggage() {
+        BaggagePropagator propagator = BaggagePropagator.getInstance();
+        Map<String, String> headers = new HashMap<>();
+        headers.put("baggage", " user=alice , city=Buenos%20Aires%3F;ttl=30, invalid, =empty, bad\"key=1, pct=100%");
+        Baggage baggage = Baggage.fromContext(propagator.extract(Context.root(), headers, GETTER));
+        assertThat(baggage.size()).isEqualTo(2);
+        assertThat(baggage.getEntryValue("user")).isEqualTo("alice");
+        assertThat(baggage.getEntryValue("city")).isEqualTo("Buenos Aires?");
+
+        Baggage outgoing = Baggage.builder().setNoParent()
+                .put("user", "alice")
+                .put("city", "Buenos Aires?", BaggageEntryMetadata.create("ttl=30"))
+                .build();
+        Map<String, String> injected = inject(propagator, Context.root().with(outgoing));
+        assertThat(injected.get("baggage").split(",")).containsExactlyInAnyOrder("user=alice",
+                "city=Buenos%20Aires?;ttl=30");
+
+        Baggage roundTrip = Baggage.fromContext(propagator.extract(Context.root(), injected, GETTER));
+        assertThat(roundTrip.getEntryValue("city")).isEqualTo("Buenos Aires?");
+        assertThat(roundTrip.getEntryValue("user")).isEqualTo("alice");
+
+        // Upstream reads what was injected
+        Baggage upstream = Baggage.fromContext(W3CBaggagePropagator.getInstance().extract(Context.root(), injected,
+                GETTER));
+        assertThat(upstream.getEntryValue("user")).isEqualTo("alice");
+    }
+
+    @Test
+    void testComposite() {
+        CompositePropagator propagator = CompositePropagator.w3c();
+        assertThat(propagator.fields()).containsExactly("traceparent", "tracestate", "baggage");
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("traceparent", TRACEPARENT);
+        headers.put("baggage", "user=alice");
+        Context context = propagator.extract(Context.root(), headers, GETTER);
+        assertThat(spanContext(context).getSpanIdAsHexString()).isEqualTo(SPAN_ID);
+        assertThat(Baggage.fromContext(context).getEntryValue("user")).isEqualTo("alice");
+        assertThat(inject(propagator, context)).isEqualTo(headers);
+
+        ContextPropagators propagators = ContextPropagators.create(propagator);
+        OpenTelemetry.setGlobalPropagators(propagators);
+        try {
+            assertThat(OpenTelemetry.getGlobalPropagators().getTextMapPropagator()).isSameAs(propagator);
+        } finally {
+            OpenTelemetry.setGlobalPropagators(ContextPropagators.noop());
+        }
+    }
+
+    private static void assertInvalid(String traceparent) {
+        assertThat(extract(traceparent).isValid()).as(traceparent).isFalse();
+    }
+
+    private static SpanContext extract(String traceparent) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("traceparent", traceparent);
+        return spanContext(TraceContextPropagator.getInstance().extract(Context.root(), headers, GETTER));
+    }
+
+    private static List<String> keys(TraceState traceState) {
+        List<String> keys = new ArrayList<>();
+        traceState.forEach((key, value) -> keys.add(key));
+        return keys;
+    }
+
+    private static SpanContext spanContext(Context context) {
+        return Span.fromContext(context).getSpanContext();
+    }
+
+    private static Map<String, String> inject(TextMapPropagator propagator, Context context) {
+        Map<String, String> headers = new HashMap<>();
+        propagator.inject(context, headers, Map::put);
+        return headers;
+    }
+}
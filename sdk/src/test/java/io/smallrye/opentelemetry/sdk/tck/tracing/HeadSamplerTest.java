@@ -0,0 +1,123 @@
+package io.smallrye.opentelemetry.sdk.tck.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+import io.smallrye.opentelemetry.sdk.trace.samplers.HeadSampler;
+
+class HeadSamplerTest {
+
+    private final OpenTelemetryTracerProvider provider = new OpenTelemetryTracerProvider();
+    private final Tracer tracer = provider.get("sampler-test");
+
+    @Test
+    void testTraceIdRatioAgreesWithUpstream() {
+        IdGenerator idGenerator = IdGenerator.random();
+        HeadSampler sampler = HeadSampler.traceIdRatioBased(0.3);
+        Sampler upstream = Sampler.traceIdRatioBased(0.3);
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String traceId = idGenerator.generateTraceId();
+            SamplingResult.Decision decision = decide(sampler, traceId);
+            assertThat(decision).isEqualTo(decide(upstream, traceId));
+            if (decision == SamplingResult.Decision.RECORD_AND_SAMPLE) {
+                sampled++;
+            }
+        }
+        assertThat(sampled).isBetween(2_500, 3_500);
+
+        String traceId = idGenerator.generateTraceId();
+        assertThat(decide(HeadSampler.traceIdRatioBased(0), traceId)).isEqualTo(SamplingResult.Decision.DROP);
+        assertThat(decide(HeadSampler.traceIdRatioBased(1), traceId))
+                .isEqualTo(SamplingResult.Decision.RECORD_AND_SAMPLE);
+    }
+
+    @Test
+    void testRateLimiting() {
+        AtomicLong nanoTime = new AtomicLong();
+        HeadSampler sampler = HeadSampler.rateLimiting(10, nanoTime::get);
+        String traceId = IdGenerator.random().generateTraceId();
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(sampler, traceId)).isEqualTo(SamplingResult.Decision.RECORD_AND_SAMPLE);
+        }
+        assertThat(decide(sampler, traceId)).isEqualTo(SamplingResult.Decision.DROP);
+
+        // A token is added every 100 milliseconds
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertThat(decide(sampler, traceId)).isEqualTo(SamplingResult.Decision.DROP);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(decide(sampler, traceId)).isEqualTo(SamplingResult.Decision.RECORD_AND_SAMPLE);
+        assertThat(decide(sampler, traceId)).isEqualTo(SamplingResult.Decision.DROP);
+    }
+
+    @Test
+    void testParentBased() {
+        useSampler(HeadSampler.parentBased(HeadSampler.alwaysOff()));
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        assertThat(root.isRecording()).isFalse();
+        assertThat(root.getSpanContext().isValid()).isTrue();
+        assertThat(root.getSpanContext().isSampled()).isFalse();
+
+        Span sampledParent = Span.wrap(remoteParent(TraceFlags.getSampled()));
+        Span child = tracer.spanBuilder("child").setParent(Context.root().with(sampledParent)).startSpan();
+        assertThat(child.isRecording()).isTrue();
+        assertThat(child.getSpanContext().getTraceIdAsHexString())
+                .isEqualTo(sampledParent.getSpanContext().getTraceIdAsHexString());
+        child.end();
+    }
+
+    @Test
+    void testDroppedChildIsItsParent() {
+        Span unsampledParent = Span.wrap(remoteParent(TraceFlags.getDefault()));
+        Context context = Context.root().with(unsampledParent);
+
+        Span child = tracer.spanBuilder("child")
+                .setParent(context)
+                .setAttribute("ignored", "value")
+                .startSpan();
+        assertThat(child).isSameAs(unsampledParent);
+        assertThat(child.isRecording()).isFalse();
+
+        // A parent that does not record but is sampled, or a recording parent, is not reused
+        Span sampledParent = Span.wrap(remoteParent(TraceFlags.getSampled()));
+        useSampler(HeadSampler.alwaysOff());
+        Span dropped = tracer.spanBuilder("dropped").setParent(Context.root().with(sampledParent)).startSpan();
+        assertThat(dropped).isNotSameAs(sampledParent);
+        assertThat(dropped.getSpanContext().getTraceIdAsHexString())
+                .isEqualTo(sampledParent.getSpanContext().getTraceIdAsHexString());
+        assertThat(dropped.getSpanContext().getSpanIdAsHexString())
+                .isNotEqualTo(sampledParent.getSpanContext().getSpanIdAsHexString());
+    }
+
+    private void useSampler(Sampler sampler) {
+        provider.updateActiveTraceConfig(provider.getActiveTraceConfig().toBuilder().setSampler(sampler).build());
+    }
+
+    private static SpanContext remoteParent(byte traceFlags) {
+        IdGenerator idGenerator = IdGenerator.random();
+        return SpanContext.createFromRemoteParent(idGenerator.generateTraceId(), idGenerator.generateSpanId(),
+                traceFlags, TraceState.getDefault());
+    }
+
+    private static SamplingResult.Decision decide(Sampler sampler, String traceId) {
+        return sampler.shouldSample(Context.root(), traceId, "span", Span.Kind.INTERNAL, Attributes.empty(),
+                Collections.emptyList()).getDecision();
+    }
+}
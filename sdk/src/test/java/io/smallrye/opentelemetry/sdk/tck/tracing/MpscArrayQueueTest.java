@@ -0,0 +1,78 @@
+package io.smallrye.opentelemetry.sdk.tck.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.opentelemetry.sdk.trace.impl.MpscArrayQueue;
+
+class MpscArrayQueueTest {
+
+    @Test
+    void testBoundedFifo() {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+        assertThat(queue.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.offer(4)).isTrue();
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drain(drained::add, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!queue.offer(producer * perProducer + i)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+
+            // Each producer's elements come out in the order they went in
+            int[] next = new int[producers];
+            int received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < producers * perProducer && System.nanoTime() < deadline) {
+                Integer element = queue.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                int producer = element / perProducer;
+                assertThat(element % perProducer).isEqualTo(next[producer]++);
+                received++;
+            }
+            assertThat(received).isEqualTo(producers * perProducer);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,15 +2,30 @@ package io.smallrye.opentelemetry.sdk.tck.tracing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.junit.jupiter.api.Test;
+
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.api.trace.TracerProvider;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracer;
 
 class OpenTelemetryTracingTest {
 
-    //TODO Uncomment when tracer present
-    //    @Test
+    @Test
     void testTracerProviderLookup() {
         TracerProvider tracerProvider = OpenTelemetry.getGlobalTracerProvider();
         assertThat(tracerProvider).isNotNull();
     }
+
+    @Test
+    void testTracerRetrievalByNameAndVersionFromProvider() {
+        Tracer tracer = OpenTelemetry.getGlobalTracer("io.smallrye.opentelemetry", "1.0");
+        assertThat(tracer)
+                .isNotNull()
+                .isInstanceOf(OpenTelemetryTracer.class);
+        assertThat(((OpenTelemetryTracer) tracer).getInstrumentationLibraryInfo().getVersion())
+                .isEqualTo("1.0");
+        assertThat(OpenTelemetry.getGlobalTracer("io.smallrye.opentelemetry", "1.0"))
+                .isSameAs(tracer);
+    }
 }
@@ -0,0 +1,297 @@
+package io.smallrye.opentelemetry.sdk.tck.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+import io.smallrye.opentelemetry.sdk.trace.impl.RecordingSpan;
+
+class SpanTest {
+
+    private final TestClock clock = new TestClock();
+    private final CollectingProcessor processor = new CollectingProcessor();
+    private OpenTelemetryTracerProvider provider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        provider = new OpenTelemetryTracerProvider(clock, IdGenerator.random(), Resource.getDefault());
+        provider.addSpanProcessor(processor);
+        tracer = provider.get("span-test");
+    }
+
+    @Test
+    void testSpanIsRecordedAndEnded() {
+        Span span = tracer.spanBuilder("operation")
+                .setSpanKind(Span.Kind.SERVER)
+                .setAttribute("builder", "value")
+                .startSpan();
+        assertThat(span).isInstanceOf(RecordingSpan.class);
+        assertThat(span.isRecording()).isTrue();
+        assertThat(processor.started).containsExactly((ReadWriteSpan) span);
+
+        span.updateName("renamed");
+        span.setStatus(StatusCode.ERROR, "failed");
+        clock.advance(100);
+        span.end();
+        clock.advance(100);
+        span.end();
+
+        assertThat(span.isRecording()).isFalse();
+        assertThat(processor.ended).hasSize(1);
+        SpanData data = processor.ended.get(0);
+        assertThat(data.getName()).isEqualTo("renamed");
+        assertThat(data.getKind()).isEqualTo(Span.Kind.SERVER);
+        assertThat(data.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(data.getStatus().getDescription()).isEqualTo("failed");
+        assertThat(data.getAttributes().get(AttributeKey.stringKey("builder"))).isEqualTo("value");
+        assertThat(data.getInstrumentationLibraryInfo().getName()).isEqualTo("span-test");
+        assertThat(data.getEndEpochNanos() - data.getStartEpochNanos()).isEqualTo(100);
+        assertThat(data.hasEnded()).isTrue();
+    }
+
+    @Test
+    void testAttributesAreReplacedAndLimited() {
+        provider.updateActiveTraceConfig(provider.getActiveTraceConfig().toBuilder()
+                .setMaxNumberOfAttributes(2)
+                .setMaxLengthOfAttributeValues(3)
+                .build());
+
+        Span span = tracer.spanBuilder("limited").startSpan();
+        span.setAttribute("a", "first");
+        span.setAttribute("b", 1L);
+        span.setAttribute("a", "second");
+        span.setAttribute("c", true);
+        span.end();
+
+        SpanData data = processor.ended.get(0);
+        assertThat(data.getAttributes().size()).isEqualTo(2);
+        assertThat(data.getAttributes().get(AttributeKey.stringKey("a"))).isEqualTo("sec");
+        assertThat(data.getAttributes().get(AttributeKey.longKey("b"))).isEqualTo(1L);
+        assertThat(data.getAttributes().get(AttributeKey.booleanKey("c"))).isNull();
+        assertThat(data.getTotalAttributeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testBuilderAttributesAreReplaced() {
+        Span span = tracer.spanBuilder("builder")
+                .setAttribute("kept", "value")
+                .setAttribute("replaced", "before")
+                .startSpan();
+        span.end();
+        Span replaced = tracer.spanBuilder("builder")
+                .setAttribute("kept", "value")
+                .setAttribute("replaced", "before")
+                .startSpan();
+        replaced.setAttribute("replaced", "after");
+        replaced.setAttribute("added", 1L);
+        replaced.end();
+
+        assertThat(processor.ended.get(0).getAttributes().size()).isEqualTo(2);
+        Attributes attributes = processor.ended.get(1).getAttributes();
+        assertThat(attributes.size()).isEqualTo(3);
+        assertThat(attributes.get(AttributeKey.stringKey("kept"))).isEqualTo("value");
+        assertThat(attributes.get(AttributeKey.stringKey("replaced"))).isEqualTo("after");
+        assertThat(attributes.get(AttributeKey.longKey("added"))).isEqualTo(1L);
+    }
+
+    @Test
+    void testBuilderAttributesAreReplacedAtLimit() {
+        provider.updateActiveTraceConfig(provider.getActiveTraceConfig().toBuilder()
+                .setMaxNumberOfAttributes(2)
+                .build());
+
+        Span span = tracer.spanBuilder("builder")
+                .setAttribute("kept", "value")
+                .setAttribute("replaced", "before")
+                .startSpan();
+        span.setAttribute("replaced", "after");
+        span.setAttribute("replaced", "again");
+        span.setAttribute("added", 1L);
+        span.end();
+
+        SpanData data = processor.ended.get(0);
+        assertThat(data.getAttributes().size()).isEqualTo(2);
+        assertThat(data.getAttributes().get(AttributeKey.stringKey("replaced"))).isEqualTo("again");
+        assertThat(data.getAttributes().get(AttributeKey.longKey("added"))).isNull();
+        assertThat(data.getTotalAttributeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testEventsAreLimited() {
+        provider.updateActiveTraceConfig(provider.getActiveTraceConfig().toBuilder()
+                .setMaxNumberOfEvents(2)
+                .build());
+
+        Span span = tracer.spanBuilder("events").startSpan();
+        clock.advance(10);
+        span.addEvent("one");
+        span.addEvent("two", Attributes.of(AttributeKey.stringKey("k"), "v"));
+        span.addEvent("three", 5, TimeUnit.NANOSECONDS);
+        span.end();
+
+        SpanData data = processor.ended.get(0);
+        assertThat(data.getEvents()).extracting(SpanData.Event::getName).containsExactly("one", "two");
+        assertThat(data.getEvents().get(0).getEpochNanos() - data.getStartEpochNanos()).isEqualTo(10);
+        assertThat(data.getEvents().get(1).getAttributes().get(AttributeKey.stringKey("k"))).isEqualTo("v");
+        assertThat(data.getTotalRecordedEvents()).isEqualTo(3);
+    }
+
+    @Test
+    void testChildSharesTraceAndClock() {
+        Span parent = tracer.spanBuilder("parent").startSpan();
+        Span child;
+        try (Scope ignored = parent.makeCurrent()) {
+            // The wall clock moves, but the child is timed from the anchor of its parent
+            clock.epochNanos += 1_000_000;
+            clock.advance(50);
+            child = tracer.spanBuilder("child").startSpan();
+        }
+        child.end();
+        parent.end();
+
+        SpanData childData = processor.ended.get(0);
+        SpanData parentData = processor.ended.get(1);
+        assertThat(childData.getTraceId()).isEqualTo(parentData.getTraceId());
+        assertThat(childData.getParentSpanId()).isEqualTo(parentData.getSpanId());
+        assertThat(childData.getStartEpochNanos() - parentData.getStartEpochNanos()).isEqualTo(50);
+
+        Span root = tracer.spanBuilder("root").setNoParent().startSpan();
+        assertThat(root.getSpanContext().getTraceIdAsHexString()).isNotEqualTo(parentData.getTraceId());
+    }
+
+    @Test
+    void testDroppedSpanIsNotRecorded() {
+        provider.updateActiveTraceConfig(provider.getActiveTraceConfig().toBuilder()
+                .setSampler(Sampler.alwaysOff())
+                .build());
+
+        Span span = tracer.spanBuilder("dropped").setParent(Context.root()).startSpan();
+        span.setAttribute("ignored", "value");
+        span.end();
+
+        assertThat(span.isRecording()).isFalse();
+        assertThat(span.getSpanContext().isValid()).isTrue();
+        assertThat(span.getSpanContext().isSampled()).isFalse();
+        assertThat(processor.started).isEmpty();
+        assertThat(processor.ended).isEmpty();
+    }
+
+    @Test
+    void testConcurrentAttributes() throws Exception {
+        int threads = 4;
+        int perThread = 32;
+        Span span = tracer.spanBuilder("concurrent").startSpan();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new CopyOnWriteArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        span.setAttribute("t" + thread + "-" + i, i);
+                        span.addEvent("e" + thread + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        span.end();
+
+        SpanData data = processor.ended.get(0);
+        assertThat(data.getAttributes().size()).isEqualTo(threads * perThread);
+        assertThat(data.getEvents()).hasSize(threads * perThread);
+    }
+
+    @Test
+    void testShutdownStopsRecording() {
+        provider.shutdown();
+
+        Span span = tracer.spanBuilder("after-shutdown").startSpan();
+        assertThat(span.isRecording()).isFalse();
+        assertThat(processor.shutdown).isTrue();
+    }
+
+    static class TestClock implements Clock {
+        volatile long epochNanos = 1_000_000_000L;
+        final AtomicLong nanoTime = new AtomicLong();
+
+        void advance(long nanos) {
+            epochNanos += nanos;
+            nanoTime.addAndGet(nanos);
+        }
+
+        @Override
+        public long now() {
+            return epochNanos;
+        }
+
+        @Override
+        public long nanoTime() {
+            return nanoTime.get();
+        }
+    }
+
+    static class CollectingProcessor implements SpanProcessor {
+        final List<ReadWriteSpan> started = new CopyOnWriteArrayList<>();
+        final List<SpanData> ended = new CopyOnWriteArrayList<>();
+        volatile boolean shutdown;
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+            started.add(span);
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return true;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            ended.add(span.toSpanData());
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.smallrye.opentelemetry.sdk.tck.tracing.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.smallrye.opentelemetry.sdk.metrics.OpenTelemetryMeterRegistry;
+import io.smallrye.opentelemetry.sdk.trace.OpenTelemetryTracerProvider;
+import io.smallrye.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+
+class BatchSpanProcessorTest {
+
+    private final OpenTelemetryTracerProvider provider = new OpenTelemetryTracerProvider();
+    private final Tracer tracer = provider.get("batch-test");
+
+    @AfterEach
+    void shutdown() {
+        provider.shutdown();
+    }
+
+    @Test
+    void testExportsAfterScheduleDelay() throws InterruptedException {
+        RecordingExporter exporter = new RecordingExporter();
+        provider.addSpanProcessor(BatchSpanProcessor.builder(exporter)
+                .setScheduleDelay(Duration.ofMillis(20))
+                .build());
+
+        tracer.spanBuilder("delayed").startSpan().end();
+
+        SpanData span = exporter.spans.poll(5, TimeUnit.SECONDS);
+        assertThat(span).isNotNull();
+        assertThat(span.getName()).isEqualTo("delayed");
+    }
+
+    @Test
+    void testFullBatchIsExportedEarly() throws InterruptedException {
+        RecordingExporter exporter = new RecordingExporter();
+        BatchSpanProcessor processor = BatchSpanProcessor.builder(exporter)
+                .setScheduleDelay(Duration.ofHours(1))
+                .setMaxExportBatchSize(4)
+                .build();
+        provider.addSpanProcessor(processor);
+
+        for (int i = 0; i < 4; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        Collection<SpanData> batch = exporter.batches.poll(5, TimeUnit.SECONDS);
+        assertThat(batch).extracting(SpanData::getName).containsExactly("span-0", "span-1", "span-2", "span-3");
+        // The export is counted after the exporter returns, the flush waits for it
+        assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(processor.getExportedSpans()).isEqualTo(4);
+    }
+
+    @Test
+    void testSpansAreDroppedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingExporter exporter = new BlockingExporter(release);
+        BatchSpanProcessor processor = BatchSpanProcessor.builder(exporter)
+                .setScheduleDelay(Duration.ofHours(1))
+                .setMaxExportBatchSize(1)
+                .setMaxQueueSize(2)
+                .build();
+        provider.addSpanProcessor(processor);
+
+        try {
+            tracer.spanBuilder("exporting").startSpan().end();
+            assertThat(exporter.exporting.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // The exporter is blocked on the first span: two spans fit in the queue, the next one is dropped
+            tracer.spanBuilder("queued-1").startSpan().end();
+            tracer.spanBuilder("queued-2").startSpan().end();
+            tracer.spanBuilder("dropped").startSpan().end();
+            assertThat(processor.getQueueSize()).isEqualTo(2);
+            assertThat(processor.getDroppedSpans()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+        assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(processor.getExportedSpans()).isEqualTo(3);
+        assertThat(processor.getDroppedSpans()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnsampledSpansAreNotExported() {
+        RecordingExporter exporter = new RecordingExporter();
+        BatchSpanProcessor processor = BatchSpanProcessor.builder(exporter).build();
+        provider.addSpanProcessor(processor);
+        provider.updateActiveTraceConfig(provider.getActiveTraceConfig().toBuilder()
+                .setSampler(Sampler.alwaysOff())
+                .build());
+
+        tracer.spanBuilder("unsampled").startSpan().end();
+
+        assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(exporter.spans).isEmpty();
+    }
+
+    @Test
+    void testForceFlushEndsWhileSpansKeepEnding() throws InterruptedException {
+        RecordingExporter exporter = new RecordingExporter();
+        BatchSpanProcessor processor = BatchSpanProcessor.builder(exporter)
+                .setScheduleDelay(Duration.ofHours(1))
+                .setMaxExportBatchSize(16)
+                .build();
+        provider.addSpanProcessor(processor);
+        tracer.spanBuilder("before-flush").startSpan().end();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread producer = new Thread(() -> {
+            while (running.get()) {
+                tracer.spanBuilder("during-flush").startSpan().end();
+            }
+        });
+        producer.start();
+        try {
+            assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        } finally {
+            running.set(false);
+            producer.join();
+        }
+        assertThat(exporter.spans).extracting(SpanData::getName).contains("before-flush");
+    }
+
+    @Test
+    void testShutdownExportsQueuedSpans() {
+        RecordingExporter exporter = new RecordingExporter();
+        BatchSpanProcessor processor = BatchSpanProcessor.builder(exporter)
+                .setScheduleDelay(Duration.ofHours(1))
+                .build();
+        provider.addSpanProcessor(processor);
+
+        tracer.spanBuilder("queued").startSpan().end();
+        assertThat(processor.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        List<String> names = new ArrayList<>();
+        exporter.spans.forEach(span -> names.add(span.getName()));
+        assertThat(names).containsExactly("queued");
+        assertThat(exporter.shutdown).isTrue();
+
+        processor.onEnd((ReadableSpan) tracer.spanBuilder("late").startSpan());
+        assertThat(processor.getQueueSize()).isZero();
+    }
+
+    @Test
+    void testInstanceMetrics() {
+        BatchSpanProcessor first = BatchSpanProcessor.builder(new RecordingExporter()).build();
+        BatchSpanProcessor second = BatchSpanProcessor.builder(new RecordingExporter()).build();
+
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName().get("otel.sdk.export.spans.dropped"))
+                .hasSize(2);
+
+        assertThat(first.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(second.shutdown().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        OpenTelemetryMeterRegistry.INSTANCE.collectionScheduler().collect();
+        assertThat(OpenTelemetryMeterRegistry.INSTANCE.getSeriesByName())
+                .doesNotContainKey("otel.sdk.export.spans.dropped");
+    }
+
+    static final class RecordingExporter implements SpanExporter {
+        final BlockingQueue<Collection<SpanData>> batches = new LinkedBlockingQueue<>();
+        final BlockingQueue<SpanData> spans = new LinkedBlockingQueue<>();
+        volatile boolean shutdown;
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            batches.add(batch);
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    static final class BlockingExporter implements SpanExporter {
+        final CountDownLatch exporting = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        BlockingExporter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            exporting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -32,10 +32,10 @@ class TestDoubleCounter extends AbstractTestBase {
         assertThat(output)
                 .contains("# HELP doubleCounter_1_total This is my first counter")
                 .contains("# TYPE doubleCounter_1_total counter")
-                .contains("doubleCounter_1_total 2.0")
+                .contains("doubleCounter_1_total{otel_library_name=\"nonsense-value\",} 2.0")
                 .contains("# HELP anotherDoubleCounter_1_total This is another counter")
                 .contains("# TYPE anotherDoubleCounter_1_total counter")
-                .contains("anotherDoubleCounter_1_total 6.3");
+                .contains("anotherDoubleCounter_1_total{otel_library_name=\"nonsense-value\",} 6.3");
     }
 
     @Test
@@ -63,9 +63,10 @@ class TestDoubleCounter extends AbstractTestBase {
         assertThat(output)
                 .contains("# HELP doubleCounterLabels_1_total This is my first counter with Labels")
                 .contains("# TYPE doubleCounterLabels_1_total counter")
-                .contains("doubleCounterLabels_1_total{myKey=\"aValue\",} 7.2")
+                .contains("doubleCounterLabels_1_total{myKey=\"aValue\",otel_library_name=\"nonsense-value\",} 7.2")
                 .contains("# HELP anotherDoubleCounterLabels_1_total This is another counter with Labels")
                 .contains("# TYPE anotherDoubleCounterLabels_1_total counter")
-                .contains("anotherDoubleCounterLabels_1_total{someKey=\"someValue\",} 6.7");
+                .contains(
+                        "anotherDoubleCounterLabels_1_total{otel_library_name=\"nonsense-value\",someKey=\"someValue\",} 6.7");
     }
 }
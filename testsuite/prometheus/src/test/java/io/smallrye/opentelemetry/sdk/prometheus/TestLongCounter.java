@@ -32,10 +32,10 @@ class TestLongCounter extends AbstractTestBase {
         assertThat(output)
                 .contains("# HELP longCounter_1_total This is my long counter")
                 .contains("# TYPE longCounter_1_total counter")
-                .contains("longCounter_1_total 2.0")
+                .contains("longCounter_1_total{otel_library_name=\"nonsense-value\",} 2.0")
                 .contains("# HELP anotherLongCounter_1_total This is another counter for longs")
                 .contains("# TYPE anotherLongCounter_1_total counter")
-                .contains("anotherLongCounter_1_total 6.0");
+                .contains("anotherLongCounter_1_total{otel_library_name=\"nonsense-value\",} 6.0");
     }
 
     @Test
@@ -63,9 +63,9 @@ class TestLongCounter extends AbstractTestBase {
         assertThat(output)
                 .contains("# HELP longCounterLabels_1_total This is my long counter with labels")
                 .contains("# TYPE longCounterLabels_1_total counter")
-                .contains("longCounterLabels_1_total{myKey=\"aValue\",} 7.0")
+                .contains("longCounterLabels_1_total{myKey=\"aValue\",otel_library_name=\"nonsense-value\",} 7.0")
                 .contains("# HELP anotherLongCounterLabels_1_total This is another counter for longs with labels")
                 .contains("# TYPE anotherLongCounterLabels_1_total counter")
-                .contains("anotherLongCounterLabels_1_total{someKey=\"someValue\",} 14.0");
+                .contains("anotherLongCounterLabels_1_total{otel_library_name=\"nonsense-value\",someKey=\"someValue\",} 14.0");
     }
 }